@@ -0,0 +1,113 @@
+package com.jtechx.mempool4j.benchmarks;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.jtechx.mempool4j.client.ObjectMappers;
+import com.jtechx.mempool4j.model.block.Block;
+import com.jtechx.mempool4j.model.lightning.ChannelGeodata;
+import com.jtechx.mempool4j.model.lightning.LightningNode;
+import com.jtechx.mempool4j.model.mempool.Mempool;
+import com.jtechx.mempool4j.model.transaction.Transaction;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how fast the model classes are bound from recorded response bodies, using {@link ObjectReader}s resolved
+ * once per type as {@code DefaultMempoolClient} does. {@code blackbird=true} repeats each benchmark with the mapper
+ * from {@link ObjectMappers#createWithBlackbird()}, and {@link #blocksViaMapper()} shows the cost of the former
+ * per-call {@code readValue} with a fresh {@link TypeReference}. Run with {@code -prof gc} to also report the
+ * allocation rate per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DeserializationBenchmark {
+    @Param({"false", "true"})
+    private boolean blackbird;
+
+    private ObjectMapper mapper;
+    private ObjectReader transactionReader;
+    private ObjectReader blockReader;
+    private ObjectReader blockListReader;
+    private ObjectReader mempoolReader;
+    private ObjectReader lightningNodeListReader;
+    private ObjectReader channelGeodataListReader;
+    private byte[] transaction;
+    private byte[] block;
+    private byte[] blocks;
+    private byte[] mempool;
+    private byte[] lightningNodes;
+    private byte[] channelGeodata;
+
+    @Setup
+    public void setup() {
+        mapper = blackbird ? ObjectMappers.createWithBlackbird() : ObjectMappers.create();
+        transactionReader = mapper.readerFor(Transaction.class);
+        blockReader = mapper.readerFor(Block.class);
+        blockListReader = mapper.readerFor(new TypeReference<List<Block>>() {
+        });
+        mempoolReader = mapper.readerFor(Mempool.class);
+        lightningNodeListReader = mapper.readerFor(new TypeReference<List<LightningNode>>() {
+        });
+        channelGeodataListReader = mapper.readerFor(new TypeReference<List<ChannelGeodata>>() {
+        });
+        transaction = Fixtures.load("transaction.json");
+        block = Fixtures.load("block.json");
+        blocks = Fixtures.load("blocks.json");
+        mempool = Fixtures.load("mempool.json");
+        lightningNodes = Fixtures.load("lightning-nodes.json");
+        channelGeodata = Fixtures.load("channel-geodata.json");
+    }
+
+    @Benchmark
+    public Transaction transaction() throws IOException {
+        return transactionReader.readValue(transaction);
+    }
+
+    @Benchmark
+    public Block block() throws IOException {
+        return blockReader.readValue(block);
+    }
+
+    @Benchmark
+    public List<Block> blocks() throws IOException {
+        return blockListReader.readValue(blocks);
+    }
+
+    @Benchmark
+    public List<Block> blocksViaMapper() throws IOException {
+        return mapper.readValue(blocks, new TypeReference<List<Block>>() {
+        });
+    }
+
+    @Benchmark
+    public Mempool mempool() throws IOException {
+        return mempoolReader.readValue(mempool);
+    }
+
+    @Benchmark
+    public List<LightningNode> lightningNodes() throws IOException {
+        return lightningNodeListReader.readValue(lightningNodes);
+    }
+
+    @Benchmark
+    public List<ChannelGeodata> channelGeodata() throws IOException {
+        return channelGeodataListReader.readValue(channelGeodata);
+    }
+}
@@ -0,0 +1,31 @@
+package com.jtechx.mempool4j.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Loads the recorded response bodies bundled under {@code /fixtures}.
+ */
+public final class Fixtures {
+
+    private Fixtures() {
+    }
+
+    /**
+     * Reads a fixture into memory.
+     *
+     * @param name The fixture file name, e.g. {@code transaction.json}.
+     * @return The fixture bytes.
+     */
+    public static byte[] load(String name) {
+        try (InputStream inputStream = Fixtures.class.getResourceAsStream("/fixtures/" + name)) {
+            if (inputStream == null) {
+                throw new IllegalArgumentException("No such fixture: " + name);
+            }
+            return inputStream.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
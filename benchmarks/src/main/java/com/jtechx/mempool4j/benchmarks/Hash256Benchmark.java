@@ -0,0 +1,84 @@
+package com.jtechx.mempool4j.benchmarks;
+
+import com.jtechx.mempool4j.mirror.Hash256Set;
+import com.jtechx.mempool4j.model.Hash256;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares txid set lookups keyed by {@link Hash256} with lookups keyed by hex {@link String}s, and with the
+ * open-addressing {@link Hash256Set} a {@code MempoolMirror} holds them in. Lookups use fresh, equal instances so
+ * that {@code equals} and {@code hashCode} do real work.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class Hash256Benchmark {
+    private static final int PROBES = 1024;
+
+    @Param({"300000"})
+    private int size;
+
+    private Set<String> strings;
+    private Set<Hash256> hashes;
+    private Hash256Set hashSet;
+    private String[] stringProbes;
+    private Hash256[] hashProbes;
+    private int next;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(15);
+        strings = new HashSet<>(size * 2);
+        hashes = new HashSet<>(size * 2);
+        hashSet = Hash256Set.create(size);
+        stringProbes = new String[PROBES];
+        hashProbes = new Hash256[PROBES];
+        for (int i = 0; i < size; i++) {
+            Hash256 hash = Hash256.of(random.nextLong(), random.nextLong(), random.nextLong(), random.nextLong());
+            strings.add(hash.toString());
+            hashes.add(hash);
+            hashSet.add(hash);
+            if (i < PROBES) {
+                stringProbes[i] = new String(hash.toString().toCharArray());
+                hashProbes[i] = Hash256.fromHex(stringProbes[i]);
+            }
+        }
+    }
+
+    @Benchmark
+    public boolean containsString() {
+        return strings.contains(stringProbes[next++ & (PROBES - 1)]);
+    }
+
+    @Benchmark
+    public boolean containsHash256() {
+        return hashes.contains(hashProbes[next++ & (PROBES - 1)]);
+    }
+
+    @Benchmark
+    public boolean containsHash256Set() {
+        return hashSet.contains(hashProbes[next++ & (PROBES - 1)]);
+    }
+
+    @Benchmark
+    public Hash256 parseHex() {
+        return Hash256.fromHex(stringProbes[next++ & (PROBES - 1)]);
+    }
+}
@@ -0,0 +1,71 @@
+package com.jtechx.mempool4j.benchmarks;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A fixed-size, thread-safe latency histogram with log-linear buckets: values are kept exactly up to 32 and
+ * within about 3% above that, so high percentiles stay accurate over millions of samples in a few kilobytes.
+ */
+public final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = 64 * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder total = new LongAdder();
+
+    /**
+     * Records a sample.
+     *
+     * @param value The sample, e.g. a latency in microseconds. Negative values are recorded as zero.
+     */
+    public void record(long value) {
+        counts.incrementAndGet(indexOf(Math.max(value, 0)));
+        total.increment();
+    }
+
+    /**
+     * Returns the number of recorded samples.
+     *
+     * @return The sample count.
+     */
+    public long getCount() {
+        return total.sum();
+    }
+
+    /**
+     * Returns the value below which the given fraction of samples fall.
+     *
+     * @param quantile The quantile, e.g. {@code 0.99}.
+     * @return The lower bound of the bucket holding the quantile, or {@code 0} if nothing was recorded.
+     */
+    public long getValueAt(double quantile) {
+        long count = getCount();
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(quantile * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return valueOf(i);
+            }
+        }
+        return valueOf(BUCKETS - 1);
+    }
+
+    private static int indexOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return (shift << SUB_BUCKET_BITS) + (int) (value >>> shift);
+    }
+
+    private static long valueOf(int index) {
+        int shift = Math.max(0, (index >> SUB_BUCKET_BITS) - 1);
+        return (long) (index - (shift << SUB_BUCKET_BITS)) << shift;
+    }
+}
@@ -0,0 +1,302 @@
+package com.jtechx.mempool4j.benchmarks;
+
+import static com.jtechx.mempool4j.client.Endpoints.*;
+
+import com.jtechx.mempool4j.client.CompressionTransport;
+import com.jtechx.mempool4j.client.DefaultMempoolClient;
+import com.jtechx.mempool4j.client.HttpClientTransport;
+import com.jtechx.mempool4j.client.MempoolClient;
+import com.jtechx.mempool4j.client.RateLimit;
+import com.jtechx.mempool4j.client.RateLimitingTransport;
+import com.jtechx.mempool4j.client.RetryPolicy;
+import com.jtechx.mempool4j.client.RetryingTransport;
+import com.jtechx.mempool4j.client.Transport;
+import com.jtechx.mempool4j.client.UrlTemplate;
+import com.jtechx.mempool4j.model.mining.TimePeriod;
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Drives {@link DefaultMempoolClient} from N concurrent callers against a {@link StubMempoolServer}, or against
+ * any other server given with {@code --url}, and reports throughput, p50/p99/p999 latency and allocation per
+ * endpoint together with the collector activity of the run. Requests are not rate limited unless {@code --rate} gives
+ * a limit in requests per second, and not retried unless {@code --hedge true} adds retries and hedging of the
+ * transaction endpoints.
+ * <p>
+ * Allocation is measured on the calling threads, so it covers request building, decompression and
+ * deserialization but not the I/O done on the HTTP client's own threads; the GC totals cover the whole JVM.
+ * Path parameters are drawn from a pool of random identifiers so that concurrent callers rarely share a URL and
+ * request coalescing does not hide load from the server.
+ * <pre>
+ * java -cp benchmarks/target/benchmarks.jar com.jtechx.mempool4j.benchmarks.LoadTest \
+ *     --callers 64 --seconds 30 --latency 20 --jitter 10 --error-rate 0.01 --throttle-rate 0.01
+ * </pre>
+ */
+public final class LoadTest {
+    private static final int IDENTIFIERS = 4096;
+
+    private final List<Operation> operations = new ArrayList<>();
+    private final String[] hashes = new String[IDENTIFIERS];
+    private final String[] addresses = new String[IDENTIFIERS];
+    private final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private int totalWeight;
+
+    private LoadTest(MempoolClient client) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < IDENTIFIERS; i++) {
+            hashes[i] = String.format("%016x%016x%016x%016x",
+                    random.nextLong(), random.nextLong(), random.nextLong(), random.nextLong());
+            addresses[i] = "bc1q" + hashes[i].substring(0, 38);
+        }
+        if (threads.isThreadAllocatedMemorySupported()) {
+            threads.setThreadAllocatedMemoryEnabled(true);
+        }
+
+        add(RECOMMENDED_FEES, 10, () -> client.getRecommendedFees());
+        add(BLOCK_TIP_HEIGHT, 10, () -> client.getBlockTipHeight());
+        add(TRANSACTION, 10, () -> client.getTransaction(hash()));
+        add(TRANSACTION_STATUS, 5, () -> client.getTransactionStatus(hash()));
+        add(TRANSACTION_OUTSPENDS, 3, () -> client.getTransactionOutspends(hash()));
+        add(ADDRESS, 5, () -> client.getAddress(address()));
+        add(ADDRESS_UTXO, 5, () -> client.getAddressUTXO(address()));
+        add(ADDRESS_TXS, 3, () -> client.getAddressTransactions(address()));
+        add(MEMPOOL, 5, () -> client.getMempool());
+        add(MEMPOOL_RECENT, 5, () -> client.getMempoolRecent());
+        add(MEMPOOL_BLOCK_FEES, 3, () -> client.getMempoolBlockFees());
+        add(MEMPOOL_TXIDS, 1, () -> client.getMempoolTransactionIds());
+        add(BLOCK, 5, () -> client.getBlock(hash()));
+        add(BLOCK_HEADER, 3, () -> client.getBlockHeader(hash()));
+        add(BLOCK_TRANSACTIONS, 3, () -> client.getBlockTransactions(hash(), Optional.empty()));
+        add(BLOCK_TRANSACTION_IDS, 2, () -> client.getBlockTransactionIds(hash()));
+        add(BLOCK_RAW, 2, () -> client.getBlockRaw(hash()));
+        add(BLOCKS, 3, () -> client.getBlocks(Optional.of(ThreadLocalRandom.current().nextInt(840_000))));
+        add(DIFFICULTY_ADJUSTMENT, 2, () -> client.getDifficultyAdjustment());
+        add(HASHRATE, 1, () -> client.getHashrate(TimePeriod.YEAR));
+        add(TOP_100_NODES_LIQUIDITY, 1, () -> client.getTop100_NodesByLiquidity());
+        add(CHANNEL_GEODATA, 1, () -> client.getChannelGeodata());
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        int callers = Integer.parseInt(options.getOrDefault("callers", "32"));
+        Duration warmup = Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup", "5")));
+        Duration measurement = Duration.ofSeconds(Long.parseLong(options.getOrDefault("seconds", "20")));
+
+        StubMempoolServer server = null;
+        String url = options.get("url");
+        if (url == null) {
+            server = StubMempoolServer.create()
+                    .setLatency(Duration.ofMillis(Long.parseLong(options.getOrDefault("latency", "0"))),
+                            Duration.ofMillis(Long.parseLong(options.getOrDefault("jitter", "0"))))
+                    .setErrorRate(Double.parseDouble(options.getOrDefault("error-rate", "0")))
+                    .setThrottleRate(Double.parseDouble(options.getOrDefault("throttle-rate", "0")),
+                            Duration.ofSeconds(1))
+                    .setEtags(Boolean.parseBoolean(options.getOrDefault("etags", "false")));
+            url = server.getUrl();
+        }
+
+        // built by hand rather than by DefaultMempoolClient.create(url), so that only the options decide what is in it
+        Transport transport = CompressionTransport.create(HttpClientTransport.create());
+        if (options.containsKey("rate")) {
+            double rate = Double.parseDouble(options.get("rate"));
+            transport = RateLimitingTransport.create(transport, RateLimit.of(rate, (int) Math.max(1, rate)));
+        }
+        if (Boolean.parseBoolean(options.getOrDefault("hedge", "false"))) {
+            transport = RetryingTransport.create(transport,
+                    RetryPolicy.of(3, Duration.ofSeconds(10), Duration.ofSeconds(30))
+                            .withHedging(TRANSACTION, TRANSACTION_STATUS));
+        }
+        try (DefaultMempoolClient client = DefaultMempoolClient.create(url, transport)) {
+            LoadTest loadTest = new LoadTest(client);
+            System.out.printf("Warming up %d callers against %s for %ds%n", callers, url, warmup.getSeconds());
+            loadTest.run(callers, warmup);
+            System.out.printf("Measuring for %ds%n", measurement.getSeconds());
+            long requests = server == null ? 0 : server.getRequestCount();
+            long errors = server == null ? 0 : server.getErrorCount();
+            long throttled = server == null ? 0 : server.getThrottleCount();
+            Result result = loadTest.run(callers, measurement);
+            result.print();
+            if (server != null) {
+                System.out.printf("Server: %d requests, %d injected errors, %d throttled%n",
+                        server.getRequestCount() - requests, server.getErrorCount() - errors,
+                        server.getThrottleCount() - throttled);
+            }
+        } finally {
+            if (server != null) {
+                server.close();
+            }
+        }
+    }
+
+    private Result run(int callers, Duration duration) throws InterruptedException {
+        Map<String, Stats> stats = new HashMap<>();
+        for (Operation operation : operations) {
+            stats.put(operation.endpoint, new Stats());
+        }
+        long[] gcBefore = gcTotals();
+        long start = System.nanoTime();
+        long deadline = start + duration.toNanos();
+        CountDownLatch done = new CountDownLatch(callers);
+        for (int i = 0; i < callers; i++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    while (System.nanoTime() < deadline) {
+                        Operation operation = pick();
+                        call(operation, stats.get(operation.endpoint));
+                    }
+                } finally {
+                    done.countDown();
+                }
+            }, "load-test-caller-" + i);
+            thread.setDaemon(true);
+            thread.start();
+        }
+        done.await();
+        long elapsed = System.nanoTime() - start;
+        long[] gcAfter = gcTotals();
+        return new Result(stats, elapsed, gcAfter[0] - gcBefore[0], gcAfter[1] - gcBefore[1]);
+    }
+
+    private void call(Operation operation, Stats stats) {
+        long threadId = Thread.currentThread().getId();
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long startNanos = System.nanoTime();
+        try {
+            operation.call.call();
+        } catch (IOException | RuntimeException e) {
+            stats.errors.increment();
+        }
+        stats.latency.record(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos));
+        stats.allocated.add(threads.getThreadAllocatedBytes(threadId) - allocatedBefore);
+    }
+
+    private Operation pick() {
+        int ticket = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (Operation operation : operations) {
+            ticket -= operation.weight;
+            if (ticket < 0) {
+                return operation;
+            }
+        }
+        throw new IllegalStateException();
+    }
+
+    private void add(UrlTemplate endpoint, int weight, Call call) {
+        operations.add(new Operation(endpoint.getPattern(), weight, call));
+        totalWeight += weight;
+    }
+
+    private String hash() {
+        return hashes[ThreadLocalRandom.current().nextInt(IDENTIFIERS)];
+    }
+
+    private String address() {
+        return addresses[ThreadLocalRandom.current().nextInt(IDENTIFIERS)];
+    }
+
+    private static long[] gcTotals() {
+        long count = 0;
+        long millis = 0;
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(0, collector.getCollectionCount());
+            millis += Math.max(0, collector.getCollectionTime());
+        }
+        return new long[]{count, millis};
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            if (!args[i].startsWith("--") || i + 1 == args.length) {
+                throw new IllegalArgumentException("Expected --option value pairs, got " + args[i]);
+            }
+            options.put(args[i].substring(2), args[++i]);
+        }
+        return options;
+    }
+
+    private interface Call {
+        Object call() throws IOException;
+    }
+
+    private static final class Operation {
+        private final String endpoint;
+        private final int weight;
+        private final Call call;
+
+        private Operation(String endpoint, int weight, Call call) {
+            this.endpoint = endpoint;
+            this.weight = weight;
+            this.call = call;
+        }
+    }
+
+    private static final class Stats {
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder allocated = new LongAdder();
+    }
+
+    private final class Result {
+        private final Map<String, Stats> stats;
+        private final long elapsedNanos;
+        private final long gcCount;
+        private final long gcMillis;
+
+        private Result(Map<String, Stats> stats, long elapsedNanos, long gcCount, long gcMillis) {
+            this.stats = stats;
+            this.elapsedNanos = elapsedNanos;
+            this.gcCount = gcCount;
+            this.gcMillis = gcMillis;
+        }
+
+        private void print() {
+            double seconds = elapsedNanos / 1e9;
+            long calls = 0;
+            long errors = 0;
+            long allocated = 0;
+            System.out.printf(Locale.ROOT, "%-48s %9s %7s %9s %9s %9s %9s %11s%n",
+                    "endpoint", "calls", "errors", "ops/s", "p50 ms", "p99 ms", "p999 ms", "alloc/op");
+            for (Operation operation : operations) {
+                Stats endpoint = stats.get(operation.endpoint);
+                long count = endpoint.latency.getCount();
+                calls += count;
+                errors += endpoint.errors.sum();
+                allocated += endpoint.allocated.sum();
+                System.out.printf(Locale.ROOT, "%-48s %9d %7d %9.1f %9.2f %9.2f %9.2f %11s%n",
+                        operation.endpoint, count, endpoint.errors.sum(), count / seconds,
+                        endpoint.latency.getValueAt(0.5) / 1e3, endpoint.latency.getValueAt(0.99) / 1e3,
+                        endpoint.latency.getValueAt(0.999) / 1e3,
+                        bytes(count == 0 ? 0 : endpoint.allocated.sum() / count));
+            }
+            System.out.printf(Locale.ROOT, "%-48s %9d %7d %9.1f%n", "total", calls, errors, calls / seconds);
+            System.out.printf(Locale.ROOT, "Allocated on callers: %s (%s/s)%n",
+                    bytes(allocated), bytes((long) (allocated / seconds)));
+            System.out.printf(Locale.ROOT, "GC: %d collections, %d ms (%.2f%% of wall time)%n",
+                    gcCount, gcMillis, gcMillis / (seconds * 10));
+        }
+
+        private String bytes(long bytes) {
+            if (bytes < 1024) {
+                return bytes + " B";
+            }
+            if (bytes < 1024 * 1024) {
+                return String.format(Locale.ROOT, "%.1f KB", bytes / 1024.0);
+            }
+            return String.format(Locale.ROOT, "%.1f MB", bytes / (1024.0 * 1024));
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.jtechx.mempool4j.benchmarks;
+
+import com.jtechx.mempool4j.client.ObjectMappers;
+import com.jtechx.mempool4j.model.Hash256;
+import com.jtechx.mempool4j.model.transaction.TransactionMerkleProof;
+import com.jtechx.mempool4j.wire.BlockHeader;
+import com.jtechx.mempool4j.wire.MerkleBlock;
+import com.jtechx.mempool4j.wire.MerkleProofVerifier;
+import com.jtechx.mempool4j.wire.WireDecoder;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures local verification of the recorded {@code getTransactionMerkleProof} and
+ * {@code getTransactionMerkleblockProof} fixtures against the recorded header, singly and as a batch of 4096. Scores
+ * are per proof.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MerkleProofBenchmark {
+    private static final int BATCH = 4096;
+
+    private BlockHeader header;
+    private Hash256 txId;
+    private TransactionMerkleProof proof;
+    private String merkleBlock;
+    private List<Hash256> txIds;
+    private List<TransactionMerkleProof> proofs;
+
+    @Setup
+    public void setup() throws IOException {
+        header = BlockHeader.fromHex(text("block-header.txt"));
+        txId = WireDecoder.decodeTransaction(Fixtures.load("transaction.bin")).getTxId();
+        proof = ObjectMappers.create().readValue(Fixtures.load("merkle-proof.json"), TransactionMerkleProof.class);
+        merkleBlock = text("merkleblock-proof.txt");
+        txIds = Collections.nCopies(BATCH, txId);
+        proofs = Collections.nCopies(BATCH, proof);
+    }
+
+    @Benchmark
+    public boolean verify() {
+        return MerkleProofVerifier.verify(txId, proof, header);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public boolean[] verifyAll() {
+        return MerkleProofVerifier.verifyAll(txIds, proofs, height -> header.getMerkleRoot());
+    }
+
+    @Benchmark
+    public boolean merkleBlock() throws IOException {
+        return MerkleBlock.fromHex(merkleBlock).proves(txId);
+    }
+
+    private static String text(String fixture) {
+        return new String(Fixtures.load(fixture), StandardCharsets.US_ASCII).trim();
+    }
+}
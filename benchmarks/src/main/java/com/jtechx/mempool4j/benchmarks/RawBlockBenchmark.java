@@ -0,0 +1,81 @@
+package com.jtechx.mempool4j.benchmarks;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.jtechx.mempool4j.client.ObjectMappers;
+import com.jtechx.mempool4j.model.transaction.Transaction;
+import com.jtechx.mempool4j.wire.BlockView;
+import com.jtechx.mempool4j.wire.OutputView;
+import com.jtechx.mempool4j.wire.RawBlock;
+import com.jtechx.mempool4j.wire.TxView;
+import com.jtechx.mempool4j.wire.WireDecoder;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares ingesting transactions from the raw block ({@code block.bin}, 200 transactions) with binding a page of
+ * {@code getBlockTransactions} JSON ({@code transactions.json}, 25 transactions), and with scanning every output of
+ * the raw block for a watched script through {@link BlockView}. Scores are per transaction; run with {@code -prof gc}
+ * to see that the view scan allocates only per block.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RawBlockBenchmark {
+    private byte[] rawBlock;
+    private byte[] transactionsJson;
+    private ObjectReader transactionListReader;
+    private byte[] watchedScript;
+
+    @Setup
+    public void setup() {
+        rawBlock = Fixtures.load("block.bin");
+        transactionsJson = Fixtures.load("transactions.json");
+        transactionListReader = ObjectMappers.create().readerFor(new TypeReference<List<Transaction>>() {
+        });
+        watchedScript = new byte[22];
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(200)
+    public RawBlock decodeBlock() throws IOException {
+        return WireDecoder.decodeBlock(rawBlock);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(25)
+    public List<Transaction> bindTransactionsPage() throws IOException {
+        return transactionListReader.readValue(transactionsJson);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(200)
+    public int scanOutputs() throws IOException {
+        int matches = 0;
+        TxView transaction = BlockView.wrap(rawBlock).transactions();
+        while (transaction.next()) {
+            OutputView output = transaction.outputs();
+            while (output.next()) {
+                if (output.scriptEquals(watchedScript)) {
+                    matches++;
+                }
+            }
+        }
+        return matches;
+    }
+}
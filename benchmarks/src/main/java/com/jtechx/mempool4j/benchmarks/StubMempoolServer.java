@@ -0,0 +1,424 @@
+package com.jtechx.mempool4j.benchmarks;
+
+import static com.jtechx.mempool4j.client.Endpoints.*;
+
+import com.jtechx.mempool4j.client.UrlTemplate;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * An in-process HTTP server that answers every path in {@link com.jtechx.mempool4j.client.Endpoints} with a
+ * recorded fixture, so the client can be exercised end to end without reaching mempool.space.
+ * <p>
+ * Path parameters are matched and query parameters ignored: every block hash returns the same block. Latency, jitter,
+ * server errors and {@code 429 Too Many Requests} responses can be injected and changed while the server is
+ * running. Bodies larger than a kilobyte are gzip-compressed when the request accepts it, and strong ETags are
+ * sent when enabled with {@link #setEtags(boolean)}.
+ */
+public final class StubMempoolServer implements Closeable {
+    private static final int BACKLOG = 1024;
+    private static final int MIN_COMPRESSED_SIZE = 1024;
+    private static final Map<UrlTemplate, String> FIXTURES = new LinkedHashMap<>();
+
+    static {
+        // The JDK server writes headers and body separately; with Nagle's algorithm on, every response then waits
+        // for a delayed ACK and loopback latency jumps to tens of milliseconds. Read once when the server loads.
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+
+        FIXTURES.put(DIFFICULTY_ADJUSTMENT, "difficulty-adjustment.json");
+
+        FIXTURES.put(ADDRESS, "address.json");
+        FIXTURES.put(ADDRESS_TXS, "transactions.json");
+        FIXTURES.put(ADDRESS_TXS_CHAIN, "transactions.json");
+        FIXTURES.put(ADDRESS_TXS_MEMPOOL, "transactions.json");
+        FIXTURES.put(ADDRESS_UTXO, "utxos.json");
+
+        FIXTURES.put(BLOCK, "block.json");
+        FIXTURES.put(BLOCK_HEADER, "block-header.txt");
+        FIXTURES.put(BLOCK_HEIGHT, "block-hash.txt");
+        FIXTURES.put(BLOCK_RAW, "block.bin");
+        FIXTURES.put(BLOCK_STATUS, "block-status.json");
+        FIXTURES.put(BLOCK_TIP_HEIGHT, "tip-height.txt");
+        FIXTURES.put(BLOCK_TIP_HASH, "block-hash.txt");
+        FIXTURES.put(BLOCK_TRANSACTION_ID, "block-hash.txt");
+        FIXTURES.put(BLOCK_TRANSACTION_IDS, "block-txids.json");
+        FIXTURES.put(BLOCK_TRANSACTIONS, "transactions.json");
+        FIXTURES.put(BLOCKS, "blocks.json");
+        FIXTURES.put(BLOCKS_BULK, "blocks.json");
+
+        FIXTURES.put(MINING_POOLS, "mining-pools.json");
+        FIXTURES.put(MINING_POOL, "mining-pool.json");
+        FIXTURES.put(MINING_POOL_HASHRATES, "hashrate.json");
+        FIXTURES.put(MINING_POOL_HASHRATE, "mining-pool-hashrate.json");
+        FIXTURES.put(MINING_POOL_BLOCKS, "blocks.json");
+        FIXTURES.put(HASHRATE, "hashrate.json");
+        FIXTURES.put(REWARD_STATS, "reward-stats.json");
+        FIXTURES.put(BLOCK_FEES, "block-fees.json");
+        FIXTURES.put(BLOCK_REWARDS, "block-rewards.json");
+        FIXTURES.put(BLOCK_FEE_RATES, "block-fee-rates.json");
+        FIXTURES.put(BLOCK_SIZES_AND_WEIGHTS, "block-sizes-weights.json");
+
+        FIXTURES.put(MEMPOOL_BLOCK_FEES, "mempool-blocks-fees.json");
+        FIXTURES.put(RECOMMENDED_FEES, "recommended-fees.json");
+
+        FIXTURES.put(MEMPOOL, "mempool.json");
+        FIXTURES.put(MEMPOOL_TXIDS, "mempool-txids.json");
+        FIXTURES.put(MEMPOOL_RECENT, "mempool-recent.json");
+
+        FIXTURES.put(CHILDREN_PAY_FOR_PARENT, "cpfp.json");
+        FIXTURES.put(TRANSACTION, "transaction.json");
+        FIXTURES.put(TRANSACTION_HEX, "transaction-hex.txt");
+        FIXTURES.put(TRANSACTION_MERKLEBLOCK_PROOF, "merkleblock-proof.txt");
+        FIXTURES.put(TRANSACTION_MERKLE_PROOF, "merkle-proof.json");
+        FIXTURES.put(TRANSACTION_OUTSPEND, "outspend.json");
+        FIXTURES.put(TRANSACTION_OUTSPENDS, "outspends.json");
+        FIXTURES.put(TRANSACTION_RAW, "transaction.bin");
+        FIXTURES.put(TRANSACTION_STATUS, "transaction-status.json");
+
+        FIXTURES.put(NETWORK_STATS, "network-stats.json");
+        FIXTURES.put(NODES_CHANNELS, "search.json");
+        FIXTURES.put(NODES_IN_COUNTRY, "nodes-in-country.json");
+        FIXTURES.put(NODES_STATS_PER_COUNTRY, "node-stats-per-country.json");
+        FIXTURES.put(ISP_NODES, "isp-nodes.json");
+        FIXTURES.put(NODE_STATS_PER_ISP, "node-stats-per-isp.json");
+        FIXTURES.put(TOP_100_NODES, "top-nodes.json");
+        FIXTURES.put(TOP_100_NODES_LIQUIDITY, "lightning-nodes.json");
+        FIXTURES.put(TOP_100_NODES_CONNECTIVITY, "lightning-nodes.json");
+        FIXTURES.put(TOP_100_NODES_AGE, "lightning-nodes.json");
+        FIXTURES.put(NODE_STATS, "lightning-node.json");
+        FIXTURES.put(HISTORICAL_NODE_STATS, "node-history.json");
+        FIXTURES.put(CHANNEL, "lightning-channel.json");
+        FIXTURES.put(CHANNELS_FROM_TXID, "channels-from-txid.json");
+        FIXTURES.put(CHANNELS_FROM_NODE_PUBKEY, "lightning-channels.json");
+        FIXTURES.put(CHANNEL_GEODATA, "channel-geodata.json");
+        FIXTURES.put(CHANNEL_GEODATA_FOR_NODE, "channel-geodata.json");
+    }
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final List<Route> routes;
+    private final LongAdder requestCount = new LongAdder();
+    private final LongAdder errorCount = new LongAdder();
+    private final LongAdder throttleCount = new LongAdder();
+    private volatile long latencyNanos;
+    private volatile long jitterNanos;
+    private volatile double errorRate;
+    private volatile double throttleRate;
+    private volatile long retryAfterSeconds = 1;
+    private volatile boolean etags;
+
+    private StubMempoolServer(HttpServer server) {
+        this.server = server;
+        this.executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "stub-mempool-server");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.routes = createRoutes();
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+    }
+
+    /**
+     * Starts a server on an ephemeral loopback port.
+     *
+     * @return The running server.
+     * @throws IOException If the server socket cannot be bound.
+     */
+    public static StubMempoolServer create() throws IOException {
+        return create(0);
+    }
+
+    /**
+     * Starts a server on the given loopback port.
+     *
+     * @param port The port to bind, or {@code 0} for an ephemeral port.
+     * @return The running server.
+     * @throws IOException If the server socket cannot be bound.
+     */
+    public static StubMempoolServer create(int port) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), BACKLOG);
+        StubMempoolServer stub = new StubMempoolServer(server);
+        server.start();
+        return stub;
+    }
+
+    /**
+     * Returns the base URL to pass to {@code DefaultMempoolClient.create}.
+     *
+     * @return The base URL, without a trailing slash.
+     */
+    public String getUrl() {
+        InetSocketAddress address = server.getAddress();
+        return "http://" + address.getHostString() + ":" + address.getPort();
+    }
+
+    /**
+     * Delays every response by {@code latency} plus a uniformly distributed amount up to {@code jitter}.
+     *
+     * @param latency The fixed delay.
+     * @param jitter The maximum additional random delay.
+     * @return This server.
+     */
+    public StubMempoolServer setLatency(Duration latency, Duration jitter) {
+        this.latencyNanos = latency.toNanos();
+        this.jitterNanos = jitter.toNanos();
+        return this;
+    }
+
+    /**
+     * Answers the given fraction of requests with {@code 500 Internal Server Error}.
+     *
+     * @param errorRate The fraction of requests to fail, between 0 and 1.
+     * @return This server.
+     */
+    public StubMempoolServer setErrorRate(double errorRate) {
+        this.errorRate = checkRate(errorRate);
+        return this;
+    }
+
+    /**
+     * Answers the given fraction of requests with {@code 429 Too Many Requests} and a {@code Retry-After} header.
+     *
+     * @param throttleRate The fraction of requests to throttle, between 0 and 1.
+     * @param retryAfter The delay advertised in {@code Retry-After}, rounded down to whole seconds.
+     * @return This server.
+     */
+    public StubMempoolServer setThrottleRate(double throttleRate, Duration retryAfter) {
+        this.throttleRate = checkRate(throttleRate);
+        this.retryAfterSeconds = retryAfter.getSeconds();
+        return this;
+    }
+
+    /**
+     * Enables strong ETags and {@code 304 Not Modified} answers to matching {@code If-None-Match} requests.
+     *
+     * @param etags Whether to send ETags.
+     * @return This server.
+     */
+    public StubMempoolServer setEtags(boolean etags) {
+        this.etags = etags;
+        return this;
+    }
+
+    /**
+     * Returns the number of requests received, including failed and throttled ones.
+     *
+     * @return The request count.
+     */
+    public long getRequestCount() {
+        return requestCount.sum();
+    }
+
+    /**
+     * Returns the number of injected {@code 500} responses.
+     *
+     * @return The error count.
+     */
+    public long getErrorCount() {
+        return errorCount.sum();
+    }
+
+    /**
+     * Returns the number of injected {@code 429} responses.
+     *
+     * @return The throttle count.
+     */
+    public long getThrottleCount() {
+        return throttleCount.sum();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            requestCount.increment();
+            exchange.getRequestBody().readAllBytes();
+            delay();
+
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            double roll = random.nextDouble();
+            if (roll < throttleRate) {
+                throttleCount.increment();
+                exchange.getResponseHeaders().set("Retry-After", Long.toString(retryAfterSeconds));
+                sendText(exchange, 429, "Too Many Requests");
+                return;
+            }
+            if (roll < throttleRate + errorRate) {
+                errorCount.increment();
+                sendText(exchange, 500, "Internal Server Error");
+                return;
+            }
+
+            Fixture fixture = route(exchange.getRequestURI().getPath());
+            if (fixture == null) {
+                sendText(exchange, 404, "Not Found");
+                return;
+            }
+            send(exchange, fixture);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void delay() {
+        long nanos = latencyNanos;
+        long jitter = jitterNanos;
+        if (jitter > 0) {
+            nanos += ThreadLocalRandom.current().nextLong(jitter + 1);
+        }
+        if (nanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(nanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private Fixture route(String path) {
+        for (Route route : routes) {
+            if (route.pattern.matcher(path).matches()) {
+                return route.fixture;
+            }
+        }
+        return null;
+    }
+
+    private void send(HttpExchange exchange, Fixture fixture) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", fixture.contentType);
+        if (etags) {
+            exchange.getResponseHeaders().set("ETag", fixture.etag);
+            if (fixture.etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                exchange.sendResponseHeaders(304, -1);
+                return;
+            }
+        }
+        byte[] body = fixture.body;
+        String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+        if (fixture.gzipped != null && acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+            body = fixture.gzipped;
+        }
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(body);
+        }
+    }
+
+    private static void sendText(HttpExchange exchange, int statusCode, String text) throws IOException {
+        byte[] body = text.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain");
+        exchange.sendResponseHeaders(statusCode, body.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(body);
+        }
+    }
+
+    private static double checkRate(double rate) {
+        if (rate < 0 || rate > 1) {
+            throw new IllegalArgumentException("Rate must be between 0 and 1: " + rate);
+        }
+        return rate;
+    }
+
+    /**
+     * Compiles the endpoint patterns, literal paths first so that e.g. {@code /api/v1/lightning/nodes/rankings}
+     * is not taken for a node public key.
+     */
+    private static List<Route> createRoutes() {
+        Map<String, Fixture> fixtures = new LinkedHashMap<>();
+        List<Route> routes = new ArrayList<>();
+        FIXTURES.forEach((endpoint, name) -> {
+            Fixture fixture = fixtures.computeIfAbsent(name, Fixture::load);
+            routes.add(new Route(endpoint, fixture));
+        });
+        routes.sort(Comparator.comparingInt(route -> route.parameters));
+        return routes;
+    }
+
+    private static final class Route {
+        private final Pattern pattern;
+        private final int parameters;
+        private final Fixture fixture;
+
+        private Route(UrlTemplate endpoint, Fixture fixture) {
+            String path = endpoint.getPattern().split("\\?", 2)[0];
+            String[] literals = path.split("%s", -1);
+            StringBuilder regex = new StringBuilder();
+            for (int i = 0; i < literals.length; i++) {
+                if (i > 0) {
+                    regex.append("[^/]*");
+                }
+                regex.append(Pattern.quote(literals[i]));
+            }
+            this.pattern = Pattern.compile(regex.toString());
+            this.parameters = literals.length - 1;
+            this.fixture = fixture;
+        }
+    }
+
+    private static final class Fixture {
+        private final byte[] body;
+        private final byte[] gzipped;
+        private final String contentType;
+        private final String etag;
+
+        private Fixture(byte[] body, String contentType) {
+            this.body = body;
+            this.gzipped = body.length >= MIN_COMPRESSED_SIZE ? gzip(body) : null;
+            this.contentType = contentType;
+            this.etag = "\"" + Integer.toHexString(Arrays.hashCode(body)) + "\"";
+        }
+
+        private static Fixture load(String name) {
+            String contentType;
+            if (name.endsWith(".json")) {
+                contentType = "application/json";
+            } else if (name.endsWith(".bin")) {
+                contentType = "application/octet-stream";
+            } else {
+                contentType = "text/plain";
+            }
+            return new Fixture(Fixtures.load(name), contentType);
+        }
+
+        private static byte[] gzip(byte[] body) {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(body.length / 4);
+            try (OutputStream outputStream = new GZIPOutputStream(buffer)) {
+                outputStream.write(body);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return buffer.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,438 @@
+package com.jtechx.mempool4j.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * An in-process server for the mempool WebSocket API ({@code /api/v1/ws}), so {@code MempoolStreamClient} can be
+ * exercised without reaching mempool.space.
+ * <p>
+ * It speaks just enough of RFC 6455 for one client per connection: the upgrade handshake, unfragmented text frames,
+ * ping and close. Like the real server it answers {@code want} with the current state of each topic, replies to
+ * {@code {"action":"ping"}} with a pong and remembers the tracked address. Pushes use the recorded fixtures and go
+ * only to the connections subscribed to them. Connections can be dropped on demand to exercise reconnects.
+ */
+public final class StubWebSocketServer implements Closeable {
+    private static final String PATH = "/api/v1/ws";
+    private static final String ACCEPT_GUID = "258EAFA5-E914-47DA-95CA-C5AB0DC85B11";
+    private static final int BACKLOG = 64;
+    private static final int MAX_FRAME_SIZE = 1 << 20;
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final ServerSocket serverSocket;
+    private final ExecutorService executor;
+    private final List<Connection> connections = new CopyOnWriteArrayList<>();
+    private final List<String> received = new CopyOnWriteArrayList<>();
+    private final AtomicInteger accepted = new AtomicInteger();
+    private final String block = fixture("block.json");
+    private final String blocks = fixture("blocks.json");
+    private final String mempoolBlocks = fixture("mempool-blocks-fees.json");
+    private final String fees = fixture("recommended-fees.json");
+    private final String transactions = fixture("transactions.json");
+
+    private StubWebSocketServer(ServerSocket serverSocket) {
+        this.serverSocket = serverSocket;
+        this.executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "stub-websocket-server");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.execute(this::acceptLoop);
+    }
+
+    /**
+     * Starts a server on an ephemeral loopback port.
+     *
+     * @return The running server.
+     * @throws IOException If the server socket cannot be bound.
+     */
+    public static StubWebSocketServer create() throws IOException {
+        return create(0);
+    }
+
+    /**
+     * Starts a server on the given loopback port.
+     *
+     * @param port The port to bind, or {@code 0} for an ephemeral port.
+     * @return The running server.
+     * @throws IOException If the server socket cannot be bound.
+     */
+    public static StubWebSocketServer create(int port) throws IOException {
+        return new StubWebSocketServer(new ServerSocket(port, BACKLOG, InetAddress.getLoopbackAddress()));
+    }
+
+    /**
+     * Returns the base URL to pass to {@code MempoolStreamClient.create}.
+     *
+     * @return The base URL, without a trailing slash.
+     */
+    public String getUrl() {
+        return "http://" + serverSocket.getInetAddress().getHostAddress() + ":" + serverSocket.getLocalPort();
+    }
+
+    /**
+     * Pushes the block fixture to every connection that wants blocks.
+     *
+     * @return The number of connections pushed to.
+     */
+    public int pushBlock() {
+        return push("blocks", "{\"block\":" + block + "}");
+    }
+
+    /**
+     * Pushes the projected mempool blocks fixture to every connection that wants them.
+     *
+     * @return The number of connections pushed to.
+     */
+    public int pushMempoolBlocks() {
+        return push("mempool-blocks", "{\"mempool-blocks\":" + mempoolBlocks + "}");
+    }
+
+    /**
+     * Pushes the recommended fees fixture to every connection that wants stats.
+     *
+     * @return The number of connections pushed to.
+     */
+    public int pushFees() {
+        return push("stats", "{\"fees\":" + fees + "}");
+    }
+
+    /**
+     * Pushes the transactions fixture to every connection tracking an address, as new mempool transactions.
+     *
+     * @return The number of connections pushed to.
+     */
+    public int pushAddressTransactions() {
+        int count = 0;
+        for (Connection connection : connections) {
+            if (connection.trackedAddress != null
+                    && connection.send("{\"address-transactions\":" + transactions + "}")) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Sends a raw text message to every connection.
+     *
+     * @param message The message.
+     * @return The number of connections sent to.
+     */
+    public int broadcast(String message) {
+        int count = 0;
+        for (Connection connection : connections) {
+            if (connection.send(message)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Drops every open connection without a close handshake, as a network failure would.
+     */
+    public void dropConnections() {
+        for (Connection connection : connections) {
+            connection.close();
+        }
+    }
+
+    /**
+     * Gets the number of connections currently open.
+     *
+     * @return The open connection count.
+     */
+    public int getOpenConnections() {
+        return connections.size();
+    }
+
+    /**
+     * Gets the number of connections accepted since the server started.
+     *
+     * @return The accepted connection count.
+     */
+    public int getAcceptedConnections() {
+        return accepted.get();
+    }
+
+    /**
+     * Gets every text message received from clients, in arrival order.
+     *
+     * @return A live view of the messages.
+     */
+    public List<String> getReceivedMessages() {
+        return received;
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        dropConnections();
+        executor.shutdownNow();
+    }
+
+    private int push(String topic, String message) {
+        int count = 0;
+        for (Connection connection : connections) {
+            if (connection.wants.contains(topic) && connection.send(message)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                socket.setTcpNoDelay(true);
+                executor.execute(() -> serve(socket));
+            } catch (IOException e) {
+                // closed
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        Connection connection = null;
+        try {
+            InputStream in = new BufferedInputStream(socket.getInputStream());
+            OutputStream out = socket.getOutputStream();
+            if (!handshake(in, out)) {
+                socket.close();
+                return;
+            }
+            accepted.incrementAndGet();
+            connection = new Connection(socket, out);
+            connections.add(connection);
+            while (true) {
+                int first = in.read();
+                if (first < 0) {
+                    break;
+                }
+                int opcode = first & 0x0F;
+                byte[] payload = readPayload(in);
+                if (opcode == 0x1) {
+                    String text = new String(payload, StandardCharsets.UTF_8);
+                    received.add(text);
+                    onMessage(connection, text);
+                } else if (opcode == 0x8) {
+                    connection.sendFrame(0x8, payload);
+                    break;
+                } else if (opcode == 0x9) {
+                    connection.sendFrame(0xA, payload);
+                }
+            }
+        } catch (IOException e) {
+            // dropped
+        } finally {
+            if (connection != null) {
+                connection.close();
+            } else {
+                closeQuietly(socket);
+            }
+        }
+    }
+
+    private void onMessage(Connection connection, String text) throws IOException {
+        JsonNode message = MAPPER.readTree(text);
+        if ("ping".equals(message.path("action").asText())) {
+            connection.send("{\"pong\":true}");
+        }
+        if ("want".equals(message.path("action").asText())) {
+            Set<String> wants = connection.wants;
+            wants.clear();
+            message.path("data").forEach(topic -> wants.add(topic.asText()));
+            // like the real server, answer with the current state of each topic
+            if (wants.contains("blocks")) {
+                connection.send("{\"blocks\":" + blocks + "}");
+            }
+            if (wants.contains("mempool-blocks")) {
+                connection.send("{\"mempool-blocks\":" + mempoolBlocks + "}");
+            }
+            if (wants.contains("stats")) {
+                connection.send("{\"fees\":" + fees + "}");
+            }
+        }
+        if (message.has("track-address")) {
+            connection.trackedAddress = message.get("track-address").asText();
+        }
+    }
+
+    private static boolean handshake(InputStream in, OutputStream out) throws IOException {
+        String requestLine = readLine(in);
+        String key = null;
+        for (String line = readLine(in); !line.isEmpty(); line = readLine(in)) {
+            int colon = line.indexOf(':');
+            if (colon > 0 && line.substring(0, colon).trim().toLowerCase(Locale.ROOT).equals("sec-websocket-key")) {
+                key = line.substring(colon + 1).trim();
+            }
+        }
+        String[] parts = requestLine.split(" ");
+        if (parts.length < 2 || !parts[1].equals(PATH) || key == null) {
+            out.write("HTTP/1.1 404 Not Found\r\nContent-Length: 0\r\n\r\n".getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+            return false;
+        }
+        String response = "HTTP/1.1 101 Switching Protocols\r\n"
+                + "Upgrade: websocket\r\n"
+                + "Connection: Upgrade\r\n"
+                + "Sec-WebSocket-Accept: " + accept(key) + "\r\n\r\n";
+        out.write(response.getBytes(StandardCharsets.US_ASCII));
+        out.flush();
+        return true;
+    }
+
+    private static String accept(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-1")
+                    .digest((key + ACCEPT_GUID).getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        for (int b = in.read(); b != '\n'; b = in.read()) {
+            if (b < 0) {
+                throw new EOFException();
+            }
+            if (b != '\r') {
+                line.write(b);
+            }
+        }
+        return line.toString(StandardCharsets.US_ASCII);
+    }
+
+    private static byte[] readPayload(InputStream in) throws IOException {
+        int second = readByte(in);
+        boolean masked = (second & 0x80) != 0;
+        long length = second & 0x7F;
+        if (length == 126) {
+            length = readByte(in) << 8 | readByte(in);
+        } else if (length == 127) {
+            length = 0;
+            for (int i = 0; i < 8; i++) {
+                length = length << 8 | readByte(in);
+            }
+        }
+        if (length > MAX_FRAME_SIZE) {
+            throw new IOException("Frame too large: " + length);
+        }
+        byte[] mask = new byte[4];
+        if (masked) {
+            readFully(in, mask);
+        }
+        byte[] payload = new byte[(int) length];
+        readFully(in, payload);
+        if (masked) {
+            for (int i = 0; i < payload.length; i++) {
+                payload[i] ^= mask[i & 3];
+            }
+        }
+        return payload;
+    }
+
+    private static int readByte(InputStream in) throws IOException {
+        int b = in.read();
+        if (b < 0) {
+            throw new EOFException();
+        }
+        return b;
+    }
+
+    private static void readFully(InputStream in, byte[] bytes) throws IOException {
+        int read = 0;
+        while (read < bytes.length) {
+            int n = in.read(bytes, read, bytes.length - read);
+            if (n < 0) {
+                throw new EOFException();
+            }
+            read += n;
+        }
+    }
+
+    private static String fixture(String name) {
+        return new String(Fixtures.load(name), StandardCharsets.UTF_8);
+    }
+
+    private static void closeQuietly(Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException e) {
+            // already closed
+        }
+    }
+
+    private final class Connection {
+        private final Socket socket;
+        private final OutputStream out;
+        private final Set<String> wants = ConcurrentHashMap.newKeySet();
+        private volatile String trackedAddress;
+
+        Connection(Socket socket, OutputStream out) {
+            this.socket = socket;
+            this.out = out;
+        }
+
+        boolean send(String text) {
+            try {
+                sendFrame(0x1, text.getBytes(StandardCharsets.UTF_8));
+                return true;
+            } catch (IOException e) {
+                close();
+                return false;
+            }
+        }
+
+        synchronized void sendFrame(int opcode, byte[] payload) throws IOException {
+            ByteArrayOutputStream frame = new ByteArrayOutputStream(payload.length + 10);
+            frame.write(0x80 | opcode);
+            if (payload.length < 126) {
+                frame.write(payload.length);
+            } else if (payload.length <= 0xFFFF) {
+                frame.write(126);
+                frame.write(payload.length >>> 8);
+                frame.write(payload.length);
+            } else {
+                frame.write(127);
+                for (int shift = 56; shift >= 0; shift -= 8) {
+                    frame.write((int) ((long) payload.length >>> shift));
+                }
+            }
+            frame.write(payload);
+            out.write(frame.toByteArray());
+            out.flush();
+        }
+
+        void close() {
+            connections.remove(this);
+            closeQuietly(socket);
+        }
+    }
+}
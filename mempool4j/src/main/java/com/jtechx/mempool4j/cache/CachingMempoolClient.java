@@ -0,0 +1,262 @@
+package com.jtechx.mempool4j.cache;
+
+import com.jtechx.mempool4j.client.ForwardingMempoolClient;
+import com.jtechx.mempool4j.client.MempoolClient;
+import com.jtechx.mempool4j.model.Hash256;
+import com.jtechx.mempool4j.model.block.Block;
+import com.jtechx.mempool4j.model.block.BlockStatus;
+import com.jtechx.mempool4j.model.block.Extras;
+import com.jtechx.mempool4j.model.transaction.Transaction;
+import com.jtechx.mempool4j.model.transaction.TransactionMerkleProof;
+import com.jtechx.mempool4j.model.transaction.TransactionStatus;
+import com.jtechx.mempool4j.model.transaction.Vin;
+import com.jtechx.mempool4j.model.transaction.Vout;
+import java.io.IOException;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link MempoolClient} decorator that keeps immutable chain data in a size-bounded in-memory cache.
+ * <p>
+ * Only results that can no longer change are cached:
+ * <ul>
+ *     <li>block headers and raw blocks, whose content is committed to by the block hash itself;</li>
+ *     <li>blocks whose {@link BlockStatus} reports them in the best chain and buried under at least
+ *     {@code minConfirmations} blocks;</li>
+ *     <li>transactions whose {@link TransactionStatus} is confirmed and equally buried;</li>
+ *     <li>merkle proofs of such transactions.</li>
+ * </ul>
+ * Everything else is forwarded to the delegate on every call. Entries are weighted by their approximate heap
+ * footprint, so a {@link Block} with {@link Extras} counts for far more than a merkle proof.
+ */
+public class CachingMempoolClient extends ForwardingMempoolClient {
+    private static final long DEFAULT_MAX_WEIGHT = 256L * 1024 * 1024;
+    private static final int DEFAULT_MIN_CONFIRMATIONS = 6;
+    private static final long TIP_HEIGHT_TTL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private final WeightedLruCache<Key, Object> cache;
+    private final int minConfirmations;
+    private volatile int tipHeight = -1;
+    private volatile long tipHeightFetchedAt;
+
+    private CachingMempoolClient(MempoolClient delegate, long maxWeight, int minConfirmations) {
+        super(delegate);
+        this.cache = new WeightedLruCache<>(maxWeight, CachingMempoolClient::weigh);
+        this.minConfirmations = minConfirmations;
+    }
+
+    public static CachingMempoolClient create(MempoolClient delegate) {
+        return create(delegate, DEFAULT_MAX_WEIGHT, DEFAULT_MIN_CONFIRMATIONS);
+    }
+
+    public static CachingMempoolClient create(MempoolClient delegate, long maxWeightBytes, int minConfirmations) {
+        return new CachingMempoolClient(delegate, maxWeightBytes, minConfirmations);
+    }
+
+    /**
+     * Retrieves the underlying cache, e.g. to inspect hit rates or to invalidate entries.
+     *
+     * @return The underlying cache.
+     */
+    public WeightedLruCache<?, ?> getCache() {
+        return cache;
+    }
+
+    @Override
+    public Block getBlock(String hash) throws IOException {
+        Key key = new Key(Kind.BLOCK, hash);
+        Block block = (Block) cache.get(key);
+        if (block == null) {
+            block = delegate.getBlock(hash);
+            // only a block deep enough to be cached is worth a second request to see if it is in the best chain
+            if (isBuried(block.getHeight())) {
+                BlockStatus status = delegate.getBlockStatus(hash);
+                if (status.isInBestChain() && isBuried(status.getHeight())) {
+                    cache.put(key, block);
+                }
+            }
+        }
+        return block;
+    }
+
+    @Override
+    public String getBlockHeader(String hash) throws IOException {
+        Key key = new Key(Kind.BLOCK_HEADER, hash);
+        String header = (String) cache.get(key);
+        if (header == null) {
+            header = delegate.getBlockHeader(hash);
+            cache.put(key, header);
+        }
+        return header;
+    }
+
+    @Override
+    public byte[] getBlockRaw(String hash) throws IOException {
+        Key key = new Key(Kind.BLOCK_RAW, hash);
+        byte[] raw = (byte[]) cache.get(key);
+        if (raw == null) {
+            raw = delegate.getBlockRaw(hash);
+            cache.put(key, raw.clone());
+            return raw;
+        }
+        return raw.clone();
+    }
+
+    @Override
+    public Transaction getTransaction(String transactionId) throws IOException {
+        Key key = new Key(Kind.TRANSACTION, transactionId);
+        Transaction transaction = (Transaction) cache.get(key);
+        if (transaction == null) {
+            transaction = delegate.getTransaction(transactionId);
+            if (isBuried(transaction.getStatus())) {
+                cache.put(key, transaction);
+            }
+        }
+        return transaction;
+    }
+
+    @Override
+    public TransactionMerkleProof getTransactionMerkleProof(String transactionId) throws IOException {
+        Key key = new Key(Kind.MERKLE_PROOF, transactionId);
+        TransactionMerkleProof proof = (TransactionMerkleProof) cache.get(key);
+        if (proof == null) {
+            proof = delegate.getTransactionMerkleProof(transactionId);
+            // The proof alone does not say which block it is for; only keep it if the transaction is still
+            // confirmed at the same height and deep enough that a reorg is not a concern.
+            if (isBuried(proof.getBlockHeight())) {
+                TransactionStatus status = delegate.getTransactionStatus(transactionId);
+                if (isBuried(status) && status.getBlockHeight() == proof.getBlockHeight()) {
+                    cache.put(key, proof);
+                }
+            }
+        }
+        return proof;
+    }
+
+    private boolean isBuried(TransactionStatus status) throws IOException {
+        return status != null && status.isConfirmed() && isBuried(status.getBlockHeight());
+    }
+
+    private boolean isBuried(long height) throws IOException {
+        return getCachedTipHeight() - height + 1 >= minConfirmations;
+    }
+
+    private int getCachedTipHeight() throws IOException {
+        long now = System.nanoTime();
+        if (tipHeight < 0 || now - tipHeightFetchedAt > TIP_HEIGHT_TTL_NANOS) {
+            tipHeight = delegate.getBlockTipHeight();
+            tipHeightFetchedAt = now;
+        }
+        return tipHeight;
+    }
+
+    private static long weigh(Object value) {
+        if (value instanceof byte[]) {
+            return 16 + ((byte[]) value).length;
+        }
+        if (value instanceof String) {
+            return weigh((String) value);
+        }
+        if (value instanceof Block) {
+            return weigh((Block) value);
+        }
+        if (value instanceof Transaction) {
+            return weigh((Transaction) value);
+        }
+        if (value instanceof TransactionMerkleProof) {
+            return 32 + weigh(((TransactionMerkleProof) value).getMerkle());
+        }
+        return 64;
+    }
+
+    private static long weigh(Block block) {
+        long weight = 112 + weigh(block.getId()) + weigh(block.getMerkleRoot()) + weigh(block.getPreviousBlockHash());
+        Extras extras = block.getExtras();
+        if (extras != null) {
+            weight += 512 + weigh(extras.getCoinbaseRaw()) + weigh(extras.getCoinbaseAddress())
+                    + weigh(extras.getCoinbaseSignature()) + weigh(extras.getCoinbaseSignatureAscii())
+                    + weigh(extras.getHeader()) + 24L * size(extras.getFeeRange())
+                    + 24L * size(extras.getFeePercentiles());
+        }
+        return weight;
+    }
+
+    private static long weigh(Transaction transaction) {
+        long weight = 96 + weigh(transaction.getTxId());
+        if (transaction.getVin() != null) {
+            for (Vin vin : transaction.getVin()) {
+                weight += 96 + weigh(vin.getTxId()) + weigh(vin.getScriptSig()) + weigh(vin.getScriptSigAsm())
+                        + weigh(vin.getWitness()) + weigh(vin.getInnerRedeemScriptAsm())
+                        + weigh(vin.getInnerWitnessScriptAsm()) + weigh(vin.getPrevout());
+            }
+        }
+        if (transaction.getVout() != null) {
+            for (Vout vout : transaction.getVout()) {
+                weight += weigh(vout);
+            }
+        }
+        return weight;
+    }
+
+    private static long weigh(Vout vout) {
+        if (vout == null) {
+            return 0;
+        }
+        return 48 + weigh(vout.getScriptPubKey()) + weigh(vout.getScriptPubKeyAsm()) + weigh(vout.getScriptPubKeyType())
+                + weigh(vout.getScriptPubKeyAddress());
+    }
+
+    private static long weigh(List<String> strings) {
+        long weight = 24;
+        if (strings != null) {
+            for (String string : strings) {
+                weight += 8 + weigh(string);
+            }
+        }
+        return weight;
+    }
+
+    private static long weigh(Hash256 hash) {
+        return hash == null ? 0 : 48;
+    }
+
+    private static long weigh(String string) {
+        return string == null ? 0 : 40 + string.length();
+    }
+
+    private static int size(List<?> list) {
+        return list == null ? 0 : list.size();
+    }
+
+    private enum Kind {
+        BLOCK, BLOCK_HEADER, BLOCK_RAW, TRANSACTION, MERKLE_PROOF
+    }
+
+    private static final class Key {
+        private final Kind kind;
+        private final String id;
+
+        private Key(Kind kind, String id) {
+            this.kind = kind;
+            this.id = id;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Key key = (Key) o;
+            return kind == key.kind && Objects.equals(id, key.id);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * kind.hashCode() + Objects.hashCode(id);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.jtechx.mempool4j.cache;
+
+import com.jtechx.mempool4j.client.ForwardingMempoolClient;
+import com.jtechx.mempool4j.client.MempoolClient;
+import com.jtechx.mempool4j.model.Hash256;
+import com.jtechx.mempool4j.model.transaction.TransactionStatus;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+
+/**
+ * A {@link MempoolClient} decorator that persists raw blocks and raw transactions in {@link DiskSegmentStore}s, so
+ * they survive restarts and are served from memory-mapped files instead of HTTP.
+ * <p>
+ * Raw blocks are stored unconditionally since their content is committed to by the block hash. Raw transactions
+ * are only stored once confirmed, as the witness of an unconfirmed transaction can still be replaced. A client
+ * opened with {@link #createReadOnly} never writes, and can share a directory with a writing client in another
+ * process.
+ */
+public class DiskCachingMempoolClient extends ForwardingMempoolClient implements Closeable {
+    private static final String BLOCKS_DIRECTORY = "blocks";
+    private static final String TRANSACTIONS_DIRECTORY = "transactions";
+
+    private final DiskSegmentStore blocks;
+    private final DiskSegmentStore transactions;
+
+    private DiskCachingMempoolClient(MempoolClient delegate, DiskSegmentStore blocks, DiskSegmentStore transactions) {
+        super(delegate);
+        this.blocks = blocks;
+        this.transactions = transactions;
+    }
+
+    public static DiskCachingMempoolClient create(MempoolClient delegate, Path directory) throws IOException {
+        DiskSegmentStore blocks = DiskSegmentStore.open(directory.resolve(BLOCKS_DIRECTORY));
+        try {
+            return new DiskCachingMempoolClient(delegate, blocks,
+                    DiskSegmentStore.open(directory.resolve(TRANSACTIONS_DIRECTORY)));
+        } catch (IOException e) {
+            blocks.close();
+            throw e;
+        }
+    }
+
+    public static DiskCachingMempoolClient createReadOnly(MempoolClient delegate, Path directory) throws IOException {
+        DiskSegmentStore blocks = DiskSegmentStore.openReadOnly(directory.resolve(BLOCKS_DIRECTORY));
+        try {
+            return new DiskCachingMempoolClient(delegate, blocks,
+                    DiskSegmentStore.openReadOnly(directory.resolve(TRANSACTIONS_DIRECTORY)));
+        } catch (IOException e) {
+            blocks.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public byte[] getBlockRaw(String hash) throws IOException {
+        byte[] key = toKey(hash);
+        ByteBuffer cached = blocks.get(key);
+        // a fetched block is returned as is rather than copied out of a view of it
+        return cached != null ? toArray(cached) : fetchBlockRaw(hash, key);
+    }
+
+    @Override
+    public byte[] getTransactionRaw(String transactionId) throws IOException {
+        byte[] key = toKey(transactionId);
+        ByteBuffer cached = transactions.get(key);
+        return cached != null ? toArray(cached) : fetchTransactionRaw(transactionId, key);
+    }
+
+    /**
+     * Same as {@link #getBlockRaw(String)}, but a cached block is returned as a read-only view of the mapped
+     * segment without copying.
+     *
+     * @param hash The block hash.
+     * @return The raw block.
+     * @throws IOException If the block could not be read or fetched.
+     */
+    public ByteBuffer getBlockRawBuffer(String hash) throws IOException {
+        byte[] key = toKey(hash);
+        ByteBuffer cached = blocks.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        return ByteBuffer.wrap(fetchBlockRaw(hash, key)).asReadOnlyBuffer();
+    }
+
+    /**
+     * Same as {@link #getTransactionRaw(String)}, but a cached transaction is returned as a read-only view of the
+     * mapped segment without copying.
+     *
+     * @param transactionId The txid.
+     * @return The raw transaction.
+     * @throws IOException If the transaction could not be read or fetched.
+     */
+    public ByteBuffer getTransactionRawBuffer(String transactionId) throws IOException {
+        byte[] key = toKey(transactionId);
+        ByteBuffer cached = transactions.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        return ByteBuffer.wrap(fetchTransactionRaw(transactionId, key)).asReadOnlyBuffer();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            blocks.close();
+        } finally {
+            transactions.close();
+        }
+    }
+
+    private byte[] fetchBlockRaw(String hash, byte[] key) throws IOException {
+        byte[] raw = delegate.getBlockRaw(hash);
+        if (!blocks.isReadOnly()) {
+            blocks.put(key, raw);
+        }
+        return raw;
+    }
+
+    private byte[] fetchTransactionRaw(String transactionId, byte[] key) throws IOException {
+        byte[] raw = delegate.getTransactionRaw(transactionId);
+        if (!transactions.isReadOnly()) {
+            TransactionStatus status = delegate.getTransactionStatus(transactionId);
+            if (status != null && status.isConfirmed()) {
+                transactions.put(key, raw);
+            }
+        }
+        return raw;
+    }
+
+    private static byte[] toArray(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return bytes;
+    }
+
+    private static byte[] toKey(String hash) {
+        if (hash == null) {
+            throw new IllegalArgumentException("Expected a 64 character hex hash: " + hash);
+        }
+        return Hash256.fromHex(hash).toBytes();
+    }
+}
@@ -0,0 +1,417 @@
+package com.jtechx.mempool4j.cache;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * A persistent, append-only store of immutable values keyed by 32-byte hashes (block hashes and txids).
+ * <p>
+ * Values are appended to fixed-size, memory-mapped segment files and never rewritten. Every append is followed by
+ * a fixed-size record in an append-only index log; on open the log is replayed into a compact in-memory
+ * open-addressing table of keys and locations. Reads return read-only slices of the mapped segments, so a cache
+ * hit copies nothing.
+ * <p>
+ * Only one process may open a directory for writing (enforced with a file lock), but any number of processes may
+ * open it read-only at the same time. Read-only stores pick up values appended by the writer by tailing the index
+ * log whenever a lookup misses.
+ * <p>
+ * Appends are not forced to disk one by one; the writer forces its segments when it is closed. A crash can therefore
+ * leave index records pointing at values that never reached the disk, so every record carries a CRC32 of its value,
+ * checked the first time the value is read in a process. A value that fails the check is treated as absent, and the
+ * next put of its key appends it again.
+ */
+public class DiskSegmentStore implements Closeable {
+    private static final int DEFAULT_SEGMENT_SIZE = 256 * 1024 * 1024;
+    private static final String INDEX_FILE = "index.log";
+    private static final String LOCK_FILE = "write.lock";
+    private static final String SEGMENT_FILE = "segment-%05d.dat";
+    // key (32) | segment (4) | offset (4) | length (4) | crc32 (4)
+    private static final int RECORD_SIZE = 48;
+    private static final int KEY_LONGS = 4;
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final byte UNCHECKED = 0;
+    private static final byte VALID = 1;
+    private static final byte TORN = 2;
+
+    private final Path directory;
+    private final boolean readOnly;
+    private final int segmentSize;
+    private final FileChannel indexChannel;
+    private final FileChannel lockChannel;
+    private final FileLock lock;
+    private final List<MappedByteBuffer> segments = new ArrayList<>();
+    private final ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE).order(ByteOrder.BIG_ENDIAN);
+    private final CRC32 crc = new CRC32();
+
+    private long indexPosition;
+    private int writeSegment = -1;
+    private int writePosition;
+
+    // open-addressing table; a slot is empty while its length is zero
+    private long[] keys;
+    private int[] locationSegments;
+    private int[] locationOffsets;
+    private int[] locationLengths;
+    private int[] checksums;
+    private byte[] states;
+    private int size;
+
+    private DiskSegmentStore(Path directory, boolean readOnly, int segmentSize) throws IOException {
+        this.directory = directory;
+        this.readOnly = readOnly;
+        this.segmentSize = segmentSize;
+        allocateTable(INITIAL_CAPACITY);
+
+        if (readOnly) {
+            this.lockChannel = null;
+            this.lock = null;
+            this.indexChannel = FileChannel.open(directory.resolve(INDEX_FILE), StandardOpenOption.READ);
+        } else {
+            Files.createDirectories(directory);
+            this.lockChannel = FileChannel.open(directory.resolve(LOCK_FILE), StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE);
+            this.lock = tryLock(lockChannel);
+            if (lock == null) {
+                lockChannel.close();
+                throw new IOException(directory + " is already open for writing by another process");
+            }
+            this.indexChannel = FileChannel.open(directory.resolve(INDEX_FILE), StandardOpenOption.CREATE,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE);
+        }
+        refresh();
+    }
+
+    public static DiskSegmentStore open(Path directory) throws IOException {
+        return new DiskSegmentStore(directory, false, DEFAULT_SEGMENT_SIZE);
+    }
+
+    public static DiskSegmentStore open(Path directory, int segmentSize) throws IOException {
+        return new DiskSegmentStore(directory, false, segmentSize);
+    }
+
+    public static DiskSegmentStore openReadOnly(Path directory) throws IOException {
+        return new DiskSegmentStore(directory, true, DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Looks up a value without copying it.
+     *
+     * @param key The 32-byte key.
+     * @return A read-only view of the stored value, or null if absent.
+     * @throws IOException If a segment could not be mapped.
+     */
+    public synchronized ByteBuffer get(byte[] key) throws IOException {
+        int slot = find(key);
+        if ((slot < 0 || states[slot] == TORN) && readOnly) {
+            // the writer may have appended the value since, or appended it again
+            refresh();
+            slot = find(key);
+        }
+        if (slot < 0) {
+            return null;
+        }
+        ByteBuffer view = segment(locationSegments[slot]).duplicate();
+        view.position(locationOffsets[slot]).limit(locationOffsets[slot] + locationLengths[slot]);
+        ByteBuffer value = view.slice().asReadOnlyBuffer();
+        if (states[slot] == UNCHECKED) {
+            states[slot] = checksum(value.duplicate()) == checksums[slot] ? VALID : TORN;
+        }
+        return states[slot] == VALID ? value : null;
+    }
+
+    /**
+     * Checks whether a value is stored under a key.
+     *
+     * @param key The 32-byte key.
+     * @return True if a value is stored.
+     */
+    public synchronized boolean contains(byte[] key) {
+        int slot = find(key);
+        return slot >= 0 && states[slot] != TORN;
+    }
+
+    /**
+     * Appends a value unless one is already stored under the key, or replaces a stored value that failed its
+     * checksum. Values larger than a segment are ignored.
+     *
+     * @param key   The 32-byte key.
+     * @param value The value.
+     * @return True if the value was appended.
+     * @throws IOException If the value could not be written.
+     */
+    public synchronized boolean put(byte[] key, byte[] value) throws IOException {
+        if (readOnly) {
+            throw new IllegalStateException(directory + " is open read-only");
+        }
+        if (value.length == 0 || value.length > segmentSize) {
+            return false;
+        }
+        int slot = find(key);
+        if (slot >= 0) {
+            if (states[slot] == UNCHECKED) {
+                get(key);
+            }
+            if (states[slot] != TORN) {
+                return false;
+            }
+        }
+        if (writeSegment < 0 || writePosition + value.length > segmentSize) {
+            writeSegment++;
+            writePosition = 0;
+        }
+
+        MappedByteBuffer segment = segment(writeSegment);
+        ByteBuffer target = segment.duplicate();
+        target.position(writePosition);
+        target.put(value);
+
+        // the value is in the shared mapping before the index record that makes it visible to readers
+        int checksum = checksum(ByteBuffer.wrap(value));
+        record.clear();
+        record.put(key).putInt(writeSegment).putInt(writePosition).putInt(value.length).putInt(checksum).flip();
+        while (record.hasRemaining()) {
+            indexChannel.write(record, indexPosition + record.position());
+        }
+        indexPosition += RECORD_SIZE;
+
+        if (slot >= 0) {
+            relocate(slot, writeSegment, writePosition, value.length, checksum);
+        } else {
+            slot = insert(key, writeSegment, writePosition, value.length, checksum);
+        }
+        states[slot] = VALID;
+        writePosition += value.length;
+        return true;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+
+    /**
+     * Closes the store, first forcing what a writer appended to disk.
+     *
+     * @throws IOException If the store could not be forced or closed.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            // forced once here rather than per put; values lost to a crash before this fail their checksums
+            if (!readOnly) {
+                for (MappedByteBuffer segment : segments) {
+                    if (segment != null) {
+                        segment.force();
+                    }
+                }
+                indexChannel.force(false);
+            }
+        } finally {
+            try {
+                indexChannel.close();
+            } finally {
+                if (lockChannel != null) {
+                    lockChannel.close();
+                }
+            }
+        }
+    }
+
+    /**
+     * Replays index records appended since the last refresh.
+     */
+    private void refresh() throws IOException {
+        long indexSize = indexChannel.size();
+        // a torn trailing record left by a crashed writer is ignored, and overwritten by the next append
+        long end = indexSize - indexSize % RECORD_SIZE;
+        byte[] key = new byte[32];
+        while (indexPosition < end) {
+            record.clear();
+            while (record.hasRemaining() && indexChannel.read(record, indexPosition + record.position()) > 0) {
+                // keep reading until the record is complete
+            }
+            record.flip();
+            record.get(key);
+            int segment = record.getInt();
+            int offset = record.getInt();
+            int length = record.getInt();
+            int checksum = record.getInt();
+            indexPosition += RECORD_SIZE;
+            if (segment < 0 || offset < 0 || length <= 0 || length > segmentSize - offset) {
+                // never written by put, so the log itself was damaged
+                continue;
+            }
+
+            // a key is only appended again after its earlier value failed its checksum
+            int slot = find(key);
+            if (slot < 0) {
+                insert(key, segment, offset, length, checksum);
+            } else {
+                relocate(slot, segment, offset, length, checksum);
+            }
+            if (segment > writeSegment || (segment == writeSegment && offset + length > writePosition)) {
+                writeSegment = segment;
+                writePosition = offset + length;
+            }
+        }
+    }
+
+    private MappedByteBuffer segment(int index) throws IOException {
+        while (segments.size() <= index) {
+            segments.add(null);
+        }
+        MappedByteBuffer segment = segments.get(index);
+        if (segment == null) {
+            segment = map(directory.resolve(String.format(SEGMENT_FILE, index)));
+            segments.set(index, segment);
+        }
+        return segment;
+    }
+
+    private MappedByteBuffer map(Path file) throws IOException {
+        if (readOnly) {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+        }
+        try (RandomAccessFile segmentFile = new RandomAccessFile(file.toFile(), "rw")) {
+            // preallocate (sparsely) so readers can map the full segment before it is filled
+            if (segmentFile.length() < segmentSize) {
+                segmentFile.setLength(segmentSize);
+            }
+            return segmentFile.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        }
+    }
+
+    private static FileLock tryLock(FileChannel channel) throws IOException {
+        try {
+            return channel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            return null;
+        }
+    }
+
+    private int find(byte[] key) {
+        long k0 = readLong(key, 0);
+        long k1 = readLong(key, 8);
+        long k2 = readLong(key, 16);
+        long k3 = readLong(key, 24);
+        int mask = locationLengths.length - 1;
+        for (int slot = hash(k0, k1, k2, k3) & mask; ; slot = (slot + 1) & mask) {
+            if (locationLengths[slot] == 0) {
+                return -1;
+            }
+            int base = slot * KEY_LONGS;
+            if (keys[base] == k0 && keys[base + 1] == k1 && keys[base + 2] == k2 && keys[base + 3] == k3) {
+                return slot;
+            }
+        }
+    }
+
+    private int insert(byte[] key, int segment, int offset, int length, int checksum) {
+        if ((size + 1) * 10L > locationLengths.length * 7L) {
+            grow();
+        }
+        int slot = insert(readLong(key, 0), readLong(key, 8), readLong(key, 16), readLong(key, 24), segment, offset,
+                length, checksum, UNCHECKED);
+        size++;
+        return slot;
+    }
+
+    private int insert(long k0, long k1, long k2, long k3, int segment, int offset, int length, int checksum,
+                       byte state) {
+        int mask = locationLengths.length - 1;
+        int slot = hash(k0, k1, k2, k3) & mask;
+        while (locationLengths[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        int base = slot * KEY_LONGS;
+        keys[base] = k0;
+        keys[base + 1] = k1;
+        keys[base + 2] = k2;
+        keys[base + 3] = k3;
+        relocate(slot, segment, offset, length, checksum);
+        states[slot] = state;
+        return slot;
+    }
+
+    private void relocate(int slot, int segment, int offset, int length, int checksum) {
+        locationSegments[slot] = segment;
+        locationOffsets[slot] = offset;
+        locationLengths[slot] = length;
+        checksums[slot] = checksum;
+        states[slot] = UNCHECKED;
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        int[] oldSegments = locationSegments;
+        int[] oldOffsets = locationOffsets;
+        int[] oldLengths = locationLengths;
+        int[] oldChecksums = checksums;
+        byte[] oldStates = states;
+        allocateTable(oldLengths.length * 2);
+        for (int slot = 0; slot < oldLengths.length; slot++) {
+            if (oldLengths[slot] != 0) {
+                int base = slot * KEY_LONGS;
+                insert(oldKeys[base], oldKeys[base + 1], oldKeys[base + 2], oldKeys[base + 3],
+                        oldSegments[slot], oldOffsets[slot], oldLengths[slot], oldChecksums[slot], oldStates[slot]);
+            }
+        }
+    }
+
+    private void allocateTable(int capacity) {
+        keys = new long[capacity * KEY_LONGS];
+        locationSegments = new int[capacity];
+        locationOffsets = new int[capacity];
+        locationLengths = new int[capacity];
+        checksums = new int[capacity];
+        states = new byte[capacity];
+    }
+
+    private int checksum(ByteBuffer value) {
+        crc.reset();
+        crc.update(value);
+        return (int) crc.getValue();
+    }
+
+    private static int hash(long k0, long k1, long k2, long k3) {
+        // keys are cryptographic hashes, so any of their bits are already uniformly distributed
+        long h = k0 ^ k1 ^ k2 ^ k3;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private static long readLong(byte[] bytes, int offset) {
+        long value = 0;
+        for (int i = offset; i < offset + 8; i++) {
+            value = (value << 8) | (bytes[i] & 0xFF);
+        }
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return "DiskSegmentStore{" +
+                "directory=" + directory +
+                ", readOnly=" + readOnly +
+                ", size=" + size +
+                ", segments=" + (writeSegment + 1) +
+                '}';
+    }
+}
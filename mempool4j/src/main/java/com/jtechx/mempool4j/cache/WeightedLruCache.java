@@ -0,0 +1,133 @@
+package com.jtechx.mempool4j.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+/**
+ * A thread-safe, size-bounded in-memory cache that evicts least recently used entries once the total weight of
+ * its values exceeds a limit. Weights are computed once, on insertion, by the supplied weigher.
+ *
+ * @param <K> The key type.
+ * @param <V> The value type.
+ */
+public class WeightedLruCache<K, V> {
+    private final long maxWeight;
+    private final ToLongFunction<? super V> weigher;
+    private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long weight;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * Constructs a WeightedLruCache object.
+     *
+     * @param maxWeight The maximum total weight of all cached values.
+     * @param weigher   Computes the weight of a value.
+     */
+    public WeightedLruCache(long maxWeight, ToLongFunction<? super V> weigher) {
+        if (maxWeight <= 0) {
+            throw new IllegalArgumentException("maxWeight must be positive: " + maxWeight);
+        }
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+    }
+
+    /**
+     * Retrieves the cached value for a key and marks it as recently used.
+     *
+     * @param key The key.
+     * @return The cached value, or null if absent.
+     */
+    public synchronized V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            misses++;
+            return null;
+        }
+        hits++;
+        return entry.value;
+    }
+
+    /**
+     * Caches a value, evicting least recently used entries until the cache is back under its weight limit.
+     * Values heavier than the limit are not cached at all.
+     *
+     * @param key   The key.
+     * @param value The value.
+     */
+    public synchronized void put(K key, V value) {
+        long valueWeight = weigher.applyAsLong(value);
+        if (valueWeight > maxWeight) {
+            return;
+        }
+        Entry<V> previous = entries.put(key, new Entry<>(value, valueWeight));
+        if (previous != null) {
+            weight -= previous.weight;
+        }
+        weight += valueWeight;
+
+        Iterator<Map.Entry<K, Entry<V>>> eldest = entries.entrySet().iterator();
+        while (weight > maxWeight && eldest.hasNext()) {
+            weight -= eldest.next().getValue().weight;
+            eldest.remove();
+            evictions++;
+        }
+    }
+
+    /**
+     * Removes a cached value.
+     *
+     * @param key The key.
+     */
+    public synchronized void invalidate(K key) {
+        Entry<V> previous = entries.remove(key);
+        if (previous != null) {
+            weight -= previous.weight;
+        }
+    }
+
+    /**
+     * Removes all cached values.
+     */
+    public synchronized void invalidateAll() {
+        entries.clear();
+        weight = 0;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long getWeight() {
+        return weight;
+    }
+
+    public long getMaxWeight() {
+        return maxWeight;
+    }
+
+    public synchronized long getHitCount() {
+        return hits;
+    }
+
+    public synchronized long getMissCount() {
+        return misses;
+    }
+
+    public synchronized long getEvictionCount() {
+        return evictions;
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private final long weight;
+
+        private Entry(V value, long weight) {
+            this.value = value;
+            this.weight = weight;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.jtechx.mempool4j.chain;
+
+import java.io.IOException;
+
+/**
+ * Thrown when a header does not extend the chain: it links to the wrong parent, its proof of work is insufficient,
+ * its target breaks the retargeting rule, or a server returned a header that does not hash to the block it claims.
+ */
+public class ChainValidationException extends IOException {
+    private final int height;
+
+    /**
+     * Creates an exception for the header at a height.
+     *
+     * @param height The height of the rejected header.
+     * @param message The detail message.
+     */
+    public ChainValidationException(int height, String message) {
+        super("Header at height " + height + ": " + message);
+        this.height = height;
+    }
+
+    /**
+     * Gets the height of the rejected header.
+     *
+     * @return The height.
+     */
+    public int getHeight() {
+        return height;
+    }
+}
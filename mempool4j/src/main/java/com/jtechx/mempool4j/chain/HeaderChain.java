@@ -0,0 +1,588 @@
+package com.jtechx.mempool4j.chain;
+
+import com.jtechx.mempool4j.client.MempoolClient;
+import com.jtechx.mempool4j.model.Hash256;
+import com.jtechx.mempool4j.model.block.Block;
+import com.jtechx.mempool4j.wire.BlockHeader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * A local copy of the best header chain, kept in a memory-mapped file of fixed-size records indexed by height, so
+ * that height-to-hash lookups are array reads instead of {@code getBlockHeight} round trips.
+ * <p>
+ * {@link #sync(MempoolClient)} extends the chain from its tip to the server's, ten headers per {@code getBlocks}
+ * request. Every header must link to its parent and carry enough proof of work for a target within the network's
+ * limit; on networks with strict retargeting the target itself is also checked. Before extending, the stored tip is
+ * compared with the server's block at that height, and if the server has switched chains the stored headers are
+ * rewound to the fork point and listeners are told.
+ * <p>
+ * The chain starts at a height chosen when the file is created, whose header is trusted apart from its proof of
+ * work. Lookups never block: they read optimistically and retry only if a sync modified the chain at the same time.
+ * Only one process may open a file, enforced with a file lock.
+ */
+public final class HeaderChain implements Closeable {
+    private static final int MAGIC = 0x4D504843;
+    private static final int FORMAT_VERSION = 1;
+    // magic (4) | format version (4) | network (4) | start height (4) | count (4), padded to 64
+    private static final int FILE_HEADER_SIZE = 64;
+    private static final int COUNT_OFFSET = 16;
+    // header (80) | block hash in wire order (32)
+    private static final int RECORD_SIZE = BlockHeader.SIZE + Hash256.BYTES;
+    private static final int INITIAL_CAPACITY = 4096;
+    private static final int PAGE_SIZE = 10;
+    private static final int MAX_REWINDS_PER_SYNC = 3;
+    private static final int RETARGET_INTERVAL = 2016;
+    private static final long TARGET_TIMESPAN = 14 * 24 * 60 * 60;
+
+    private final Path file;
+    private final Network network;
+    private final int startHeight;
+    private final FileChannel channel;
+    private final FileLock lock;
+    private final StampedLock stampedLock = new StampedLock();
+    private final List<HeaderChainListener> listeners = new CopyOnWriteArrayList<>();
+
+    // replaced, never modified in place, when the file grows; guarded by stampedLock for writes
+    private MappedByteBuffer buffer;
+    private int capacity;
+    private int count;
+
+    private HeaderChain(Path file, Network network, int startHeight) throws IOException {
+        this.file = file;
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        this.lock = tryLock(channel);
+        if (lock == null) {
+            channel.close();
+            throw new IOException(file + " is already open in another process");
+        }
+        try {
+            if (channel.size() == 0) {
+                this.network = network;
+                this.startHeight = startHeight;
+                map(INITIAL_CAPACITY);
+                buffer.putInt(0, MAGIC);
+                buffer.putInt(4, FORMAT_VERSION);
+                buffer.putInt(8, network.ordinal());
+                buffer.putInt(12, startHeight);
+                buffer.putInt(COUNT_OFFSET, 0);
+            } else {
+                ByteBuffer header = ByteBuffer.allocate(FILE_HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+                while (header.hasRemaining() && channel.read(header, header.position()) > 0) {
+                    // keep reading until the header is complete
+                }
+                if (header.position() < FILE_HEADER_SIZE || header.getInt(0) != MAGIC
+                        || header.getInt(4) != FORMAT_VERSION || header.getInt(8) < 0
+                        || header.getInt(8) >= Network.values().length) {
+                    throw new IOException(file + " is not a header chain file");
+                }
+                if (header.getInt(8) != network.ordinal() || header.getInt(12) != startHeight) {
+                    throw new IOException(file + " holds the " + Network.values()[header.getInt(8)]
+                            + " chain from height " + header.getInt(12) + ", not " + network + " from "
+                            + startHeight);
+                }
+                this.network = network;
+                this.startHeight = startHeight;
+                int stored = header.getInt(COUNT_OFFSET);
+                long records = (channel.size() - FILE_HEADER_SIZE) / RECORD_SIZE;
+                if (stored < 0 || stored > records) {
+                    throw new IOException(file + " claims " + stored + " headers but holds " + records);
+                }
+                map((int) Math.max(INITIAL_CAPACITY, records));
+                this.count = stored;
+            }
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Opens a header chain file, creating it if it does not exist.
+     *
+     * @param file The file.
+     * @param network The network the chain belongs to.
+     * @param startHeight The height of the first header to store, e.g. a recent checkpoint, or {@code 0} for the
+     *                    whole chain. It must match the height the file was created with.
+     * @return The chain.
+     * @throws IOException If the file cannot be opened, belongs to another network or start height, or is already
+     *                     open in another process.
+     */
+    public static HeaderChain open(Path file, Network network, int startHeight) throws IOException {
+        if (startHeight < 0) {
+            throw new IllegalArgumentException("Start height must not be negative: " + startHeight);
+        }
+        return new HeaderChain(file, network, startHeight);
+    }
+
+    /**
+     * Extends the chain to the server's tip, rewinding first if the server's best chain no longer contains the
+     * stored tip.
+     *
+     * @param client The client to fetch headers with.
+     * @return The number of headers connected.
+     * @throws ChainValidationException If a header fails validation or the server switched to a chain that forks
+     *                                  below the start height.
+     * @throws IOException If a request fails.
+     */
+    public synchronized int sync(MempoolClient client) throws IOException {
+        int remoteTip = client.getBlockTipHeight();
+        if (remoteTip < startHeight) {
+            return 0;
+        }
+        int connected = 0;
+        if (count == 0) {
+            connect(startHeight, fetchHeader(client, startHeight));
+            connected++;
+        }
+        int rewinds = 0;
+        int checkHeight = Math.min(getTipHeight(), remoteTip);
+        if (!remoteHash(client, checkHeight).equals(hashAtHeight(checkHeight))) {
+            rewind(client, checkHeight);
+            rewinds++;
+        }
+        while (getTipHeight() < remoteTip) {
+            int next = getTipHeight() + 1;
+            List<BlockHeader> page = fetchPage(client, next, remoteTip);
+            for (BlockHeader header : page) {
+                int height = getTipHeight() + 1;
+                if (!header.getPreviousBlockHash().equals(hashAtHeight(height - 1))) {
+                    // the server switched chains between requests
+                    if (++rewinds > MAX_REWINDS_PER_SYNC || !rewind(client, height - 1)) {
+                        throw new ChainValidationException(height, "does not link to the stored header at height "
+                                + (height - 1));
+                    }
+                    break;
+                }
+                connect(height, header);
+                connected++;
+            }
+        }
+        buffer.force();
+        return connected;
+    }
+
+    /**
+     * Appends a header obtained elsewhere, e.g. from a block notification, after validating it like
+     * {@link #sync(MempoolClient)} does. The first header of an empty chain is taken as the start height's.
+     *
+     * @param header The header for the height above the tip.
+     * @throws ChainValidationException If the header does not extend the tip.
+     * @throws IOException If the file cannot be grown.
+     */
+    public synchronized void connect(BlockHeader header) throws IOException {
+        connect(getTipHeight() + 1, header);
+    }
+
+    /**
+     * Looks up the hash of the stored block at a height.
+     *
+     * @param height The height.
+     * @return The block hash, or {@code null} if the height is outside the stored range.
+     */
+    public Hash256 hashAtHeight(int height) {
+        long stamp = stampedLock.tryOptimisticRead();
+        Hash256 hash = readHash(height);
+        if (!stampedLock.validate(stamp)) {
+            stamp = stampedLock.readLock();
+            try {
+                hash = readHash(height);
+            } finally {
+                stampedLock.unlockRead(stamp);
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Looks up the stored header at a height.
+     *
+     * @param height The height.
+     * @return The header, or {@code null} if the height is outside the stored range.
+     */
+    public BlockHeader headerAtHeight(int height) {
+        long stamp = stampedLock.tryOptimisticRead();
+        BlockHeader header = readHeader(height);
+        if (!stampedLock.validate(stamp)) {
+            stamp = stampedLock.readLock();
+            try {
+                header = readHeader(height);
+            } finally {
+                stampedLock.unlockRead(stamp);
+            }
+        }
+        return header;
+    }
+
+    /**
+     * Checks whether a block is in the stored chain at a height, without allocating.
+     *
+     * @param height The height.
+     * @param hash The block hash.
+     * @return {@code true} if the stored block at {@code height} has that hash.
+     */
+    public boolean contains(int height, Hash256 hash) {
+        long stamp = stampedLock.tryOptimisticRead();
+        boolean contains = readContains(height, hash);
+        if (!stampedLock.validate(stamp)) {
+            stamp = stampedLock.readLock();
+            try {
+                contains = readContains(height, hash);
+            } finally {
+                stampedLock.unlockRead(stamp);
+            }
+        }
+        return contains;
+    }
+
+    /**
+     * Counts the confirmations of a block, e.g. from a {@code TransactionStatus}.
+     *
+     * @param height The block's height.
+     * @param hash The block's hash.
+     * @return The number of confirmations, {@code 1} for the tip, or {@code 0} if the block is not in the stored
+     *         chain.
+     */
+    public int confirmations(int height, Hash256 hash) {
+        long stamp = stampedLock.tryOptimisticRead();
+        int confirmations = readConfirmations(height, hash);
+        if (!stampedLock.validate(stamp)) {
+            stamp = stampedLock.readLock();
+            try {
+                confirmations = readConfirmations(height, hash);
+            } finally {
+                stampedLock.unlockRead(stamp);
+            }
+        }
+        return confirmations;
+    }
+
+    /**
+     * Gets the height of the first stored header.
+     *
+     * @return The start height.
+     */
+    public int getStartHeight() {
+        return startHeight;
+    }
+
+    /**
+     * Gets the height of the stored tip.
+     *
+     * @return The tip height, or {@code getStartHeight() - 1} while the chain is empty.
+     */
+    public int getTipHeight() {
+        long stamp = stampedLock.tryOptimisticRead();
+        int tip = startHeight + count - 1;
+        if (!stampedLock.validate(stamp)) {
+            stamp = stampedLock.readLock();
+            try {
+                tip = startHeight + count - 1;
+            } finally {
+                stampedLock.unlockRead(stamp);
+            }
+        }
+        return tip;
+    }
+
+    /**
+     * Gets the hash of the stored tip.
+     *
+     * @return The tip hash, or {@code null} while the chain is empty.
+     */
+    public Hash256 getTipHash() {
+        return hashAtHeight(getTipHeight());
+    }
+
+    public Network getNetwork() {
+        return network;
+    }
+
+    public void addListener(HeaderChainListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(HeaderChainListener listener) {
+        listeners.remove(listener);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            buffer.force();
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void connect(int height, BlockHeader header) throws IOException {
+        validate(height, header);
+        if (count == capacity) {
+            map(capacity * 2);
+        }
+        long stamp = stampedLock.writeLock();
+        try {
+            int offset = FILE_HEADER_SIZE + count * RECORD_SIZE;
+            header.writeAt(buffer, offset);
+            Hash256 hash = header.getHash();
+            buffer.putLong(offset + BlockHeader.SIZE, hash.getWord(3));
+            buffer.putLong(offset + BlockHeader.SIZE + 8, hash.getWord(2));
+            buffer.putLong(offset + BlockHeader.SIZE + 16, hash.getWord(1));
+            buffer.putLong(offset + BlockHeader.SIZE + 24, hash.getWord(0));
+            count++;
+            // the record is written before the count that makes it visible after a restart
+            buffer.putInt(COUNT_OFFSET, count);
+        } finally {
+            stampedLock.unlockWrite(stamp);
+        }
+        for (HeaderChainListener listener : listeners) {
+            listener.onConnected(height, header);
+        }
+    }
+
+    private void validate(int height, BlockHeader header) throws ChainValidationException {
+        Hash256 target = header.getTarget();
+        if (target.equals(Hash256.ZERO) || target.compareTo(BlockHeader.target(network.getPowLimitBits())) > 0) {
+            throw new ChainValidationException(height, "target " + Long.toHexString(header.getBits())
+                    + " is outside the " + network + " limit");
+        }
+        if (!header.hasValidProofOfWork()) {
+            throw new ChainValidationException(height, "hash " + header.getHash() + " does not meet its target");
+        }
+        if (count == 0) {
+            return;
+        }
+        BlockHeader previous = readHeader(height - 1);
+        if (!header.getPreviousBlockHash().equals(previous.getHash())) {
+            throw new ChainValidationException(height, "links to " + header.getPreviousBlockHash() + ", not "
+                    + previous.getHash());
+        }
+        if (network.isRetargeting()) {
+            long expected = expectedBits(height, previous);
+            if (expected >= 0 && expected != header.getBits()) {
+                throw new ChainValidationException(height, "bits " + Long.toHexString(header.getBits())
+                        + " should be " + Long.toHexString(expected));
+            }
+        }
+    }
+
+    /**
+     * Computes the compact target the retargeting rule requires, or returns -1 if the first header of the previous
+     * period is not stored.
+     */
+    private long expectedBits(int height, BlockHeader previous) {
+        if (height % RETARGET_INTERVAL != 0) {
+            return previous.getBits();
+        }
+        BlockHeader first = readHeader(height - RETARGET_INTERVAL);
+        if (first == null) {
+            return -1;
+        }
+        long timespan = previous.getTimestamp() - first.getTimestamp();
+        timespan = Math.max(TARGET_TIMESPAN / 4, Math.min(TARGET_TIMESPAN * 4, timespan));
+        BigInteger target = toBigInteger(previous.getTarget()).multiply(BigInteger.valueOf(timespan))
+                .divide(BigInteger.valueOf(TARGET_TIMESPAN));
+        BigInteger limit = toBigInteger(BlockHeader.target(network.getPowLimitBits()));
+        return compact(target.min(limit));
+    }
+
+    /**
+     * Walks down from a height until the stored hash matches the server's, then removes the headers above.
+     *
+     * @return {@code false} if the stored chain already matched at {@code fromHeight}.
+     */
+    private boolean rewind(MempoolClient client, int fromHeight) throws IOException {
+        int forkHeight = fromHeight;
+        while (forkHeight >= startHeight && !remoteHash(client, forkHeight).equals(hashAtHeight(forkHeight))) {
+            forkHeight--;
+        }
+        if (forkHeight < startHeight) {
+            throw new ChainValidationException(startHeight, "the server's chain forks below the start height");
+        }
+        int tipHeight = getTipHeight();
+        if (forkHeight == tipHeight) {
+            return false;
+        }
+        List<Hash256> disconnected = new ArrayList<>(tipHeight - forkHeight);
+        for (int height = tipHeight; height > forkHeight; height--) {
+            disconnected.add(hashAtHeight(height));
+        }
+        long stamp = stampedLock.writeLock();
+        try {
+            count = forkHeight - startHeight + 1;
+            buffer.putInt(COUNT_OFFSET, count);
+        } finally {
+            stampedLock.unlockWrite(stamp);
+        }
+        for (HeaderChainListener listener : listeners) {
+            listener.onReorg(forkHeight, disconnected);
+        }
+        return forkHeight < fromHeight;
+    }
+
+    /**
+     * Fetches the headers from {@code next} upwards with one {@code getBlocks} request, falling back to a single
+     * header request if the page does not start at {@code next}.
+     */
+    private List<BlockHeader> fetchPage(MempoolClient client, int next, int remoteTip) throws IOException {
+        int top = Math.min(next + PAGE_SIZE - 1, remoteTip);
+        BlockHeader[] page = new BlockHeader[top - next + 1];
+        for (Block block : client.getBlocks(Optional.of(top))) {
+            int index = block.getHeight() - next;
+            if (index >= 0 && index < page.length) {
+                page[index] = toHeader(block);
+            }
+        }
+        List<BlockHeader> headers = new ArrayList<>(page.length);
+        for (BlockHeader header : page) {
+            if (header == null) {
+                break;
+            }
+            headers.add(header);
+        }
+        if (headers.isEmpty()) {
+            headers.add(fetchHeader(client, next));
+        }
+        return headers;
+    }
+
+    private static BlockHeader fetchHeader(MempoolClient client, int height) throws IOException {
+        Hash256 hash = remoteHash(client, height);
+        BlockHeader header = BlockHeader.fromHex(client.getBlockHeader(hash.toString()).trim());
+        if (!header.getHash().equals(hash)) {
+            throw new ChainValidationException(height, "the server's header hashes to " + header.getHash()
+                    + ", not " + hash);
+        }
+        return header;
+    }
+
+    private static Hash256 remoteHash(MempoolClient client, int height) throws IOException {
+        return Hash256.fromHex(client.getBlockHeight(height).trim());
+    }
+
+    private static BlockHeader toHeader(Block block) throws ChainValidationException {
+        Hash256 previous = block.getPreviousBlockHash() == null ? Hash256.ZERO : block.getPreviousBlockHash();
+        BlockHeader header = BlockHeader.of(block.getVersion(), previous, block.getMerkleRoot(), block.getTimestamp(),
+                block.getBits(), block.getNonce());
+        if (!header.getHash().equals(block.getId())) {
+            throw new ChainValidationException(block.getHeight(), "the server's block fields hash to "
+                    + header.getHash() + ", not " + block.getId());
+        }
+        return header;
+    }
+
+    private Hash256 readHash(int height) {
+        MappedByteBuffer records = buffer;
+        int offset = recordOffset(records, height);
+        if (offset < 0) {
+            return null;
+        }
+        offset += BlockHeader.SIZE;
+        return Hash256.of(records.getLong(offset + 24), records.getLong(offset + 16), records.getLong(offset + 8),
+                records.getLong(offset));
+    }
+
+    private BlockHeader readHeader(int height) {
+        MappedByteBuffer records = buffer;
+        int offset = recordOffset(records, height);
+        return offset < 0 ? null : BlockHeader.readAt(records, offset);
+    }
+
+    private boolean readContains(int height, Hash256 hash) {
+        MappedByteBuffer records = buffer;
+        int offset = recordOffset(records, height);
+        if (offset < 0) {
+            return false;
+        }
+        offset += BlockHeader.SIZE;
+        return records.getLong(offset) == hash.getWord(3) && records.getLong(offset + 8) == hash.getWord(2)
+                && records.getLong(offset + 16) == hash.getWord(1) && records.getLong(offset + 24) == hash.getWord(0);
+    }
+
+    private int readConfirmations(int height, Hash256 hash) {
+        return readContains(height, hash) ? startHeight + count - height : 0;
+    }
+
+    /**
+     * Locates the record for a height, or returns -1. The bounds check against the buffer keeps an optimistic read
+     * that races with a remap from failing before it is validated.
+     */
+    private int recordOffset(ByteBuffer records, int height) {
+        long index = (long) height - startHeight;
+        if (index < 0 || index >= count) {
+            return -1;
+        }
+        long offset = FILE_HEADER_SIZE + index * RECORD_SIZE;
+        return offset + RECORD_SIZE > records.capacity() ? -1 : (int) offset;
+    }
+
+    private void map(int newCapacity) throws IOException {
+        long size = FILE_HEADER_SIZE + (long) newCapacity * RECORD_SIZE;
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException(file + " cannot grow beyond " + capacity + " headers");
+        }
+        if (channel.size() < size) {
+            channel.write(ByteBuffer.allocate(1), size - 1);
+        }
+        MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        mapped.order(ByteOrder.LITTLE_ENDIAN);
+        long stamp = stampedLock.writeLock();
+        try {
+            buffer = mapped;
+            capacity = newCapacity;
+        } finally {
+            stampedLock.unlockWrite(stamp);
+        }
+    }
+
+    private static BigInteger toBigInteger(Hash256 hash) {
+        return new BigInteger(1, hash.toBytes());
+    }
+
+    /**
+     * Encodes a target in compact form, as Bitcoin Core's {@code arith_uint256::GetCompact} does.
+     */
+    private static long compact(BigInteger target) {
+        int size = (target.bitLength() + 7) / 8;
+        long mantissa = size <= 3 ? target.longValue() << (8 * (3 - size))
+                : target.shiftRight(8 * (size - 3)).longValue();
+        if ((mantissa & 0x800000) != 0) {
+            mantissa >>>= 8;
+            size++;
+        }
+        return (long) size << 24 | mantissa;
+    }
+
+    private static FileLock tryLock(FileChannel channel) throws IOException {
+        try {
+            return channel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "HeaderChain{" +
+                "file=" + file +
+                ", network=" + network +
+                ", startHeight=" + startHeight +
+                ", tipHeight=" + getTipHeight() +
+                '}';
+    }
+}
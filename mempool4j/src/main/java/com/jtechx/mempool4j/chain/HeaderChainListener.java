@@ -0,0 +1,31 @@
+package com.jtechx.mempool4j.chain;
+
+import com.jtechx.mempool4j.model.Hash256;
+import com.jtechx.mempool4j.wire.BlockHeader;
+import java.util.List;
+
+/**
+ * Receives changes to a {@link HeaderChain}. Callbacks run on the thread that syncs the chain, after the change is
+ * visible to readers, and must not block.
+ */
+public interface HeaderChainListener {
+
+    /**
+     * Called after a header is appended to the tip.
+     *
+     * @param height The header's height.
+     * @param header The header.
+     */
+    default void onConnected(int height, BlockHeader header) {
+    }
+
+    /**
+     * Called after headers above a fork point are removed because the server's best chain no longer contains them.
+     * The replacement headers follow through {@link #onConnected(int, BlockHeader)}.
+     *
+     * @param forkHeight The height of the last header both chains share.
+     * @param disconnected The hashes of the removed headers, from the former tip down.
+     */
+    default void onReorg(int forkHeight, List<Hash256> disconnected) {
+    }
+}
@@ -0,0 +1,37 @@
+package com.jtechx.mempool4j.chain;
+
+/**
+ * The Bitcoin networks a mempool instance can serve, with the proof-of-work rules {@link HeaderChain} enforces for
+ * each.
+ */
+public enum Network {
+    MAINNET(0x1d00ffffL, true), TESTNET(0x1d00ffffL, false), SIGNET(0x1e0377aeL, true), REGTEST(0x207fffffL, false);
+
+    private final long powLimitBits;
+    private final boolean retargeting;
+
+    Network(long powLimitBits, boolean retargeting) {
+        this.powLimitBits = powLimitBits;
+        this.retargeting = retargeting;
+    }
+
+    /**
+     * Gets the easiest target a header may claim, in compact form.
+     *
+     * @return The proof-of-work limit.
+     */
+    public long getPowLimitBits() {
+        return powLimitBits;
+    }
+
+    /**
+     * Checks whether every header's target is fully determined by the retargeting rule. Testnet's minimum-difficulty
+     * exception and regtest's fixed target are not modeled, so on those networks only the proof of work against
+     * each header's own target and the limit is checked.
+     *
+     * @return {@code true} if targets are checked against the retargeting rule.
+     */
+    public boolean isRetargeting() {
+        return retargeting;
+    }
+}
@@ -0,0 +1,184 @@
+package com.jtechx.mempool4j.client;
+
+import com.jtechx.mempool4j.model.Hash256;
+import com.jtechx.mempool4j.model.address.Address;
+import com.jtechx.mempool4j.model.address.UTXO;
+import com.jtechx.mempool4j.model.block.Block;
+import com.jtechx.mempool4j.model.block.BlockStatus;
+import com.jtechx.mempool4j.model.fee.MempoolBlocksFees;
+import com.jtechx.mempool4j.model.fee.RecommendedFees;
+import com.jtechx.mempool4j.model.general.DifficultyAdjustment;
+import com.jtechx.mempool4j.model.lightning.ChannelGeodata;
+import com.jtechx.mempool4j.model.lightning.ChannelStatus;
+import com.jtechx.mempool4j.model.lightning.ChannelsFromTXID;
+import com.jtechx.mempool4j.model.lightning.ISPNodes;
+import com.jtechx.mempool4j.model.lightning.LightningChannel;
+import com.jtechx.mempool4j.model.lightning.LightningNode;
+import com.jtechx.mempool4j.model.lightning.NetworkStats;
+import com.jtechx.mempool4j.model.lightning.NodeHistoryStats;
+import com.jtechx.mempool4j.model.lightning.NodeStats;
+import com.jtechx.mempool4j.model.lightning.NodeStatsPerISP;
+import com.jtechx.mempool4j.model.lightning.NodesChannelsSearchResult;
+import com.jtechx.mempool4j.model.lightning.NodesInCountry;
+import com.jtechx.mempool4j.model.lightning.TopNodes;
+import com.jtechx.mempool4j.model.mempool.Mempool;
+import com.jtechx.mempool4j.model.mempool.MempoolRecent;
+import com.jtechx.mempool4j.model.mining.BlockFee;
+import com.jtechx.mempool4j.model.mining.BlockFeeRate;
+import com.jtechx.mempool4j.model.mining.BlockReward;
+import com.jtechx.mempool4j.model.mining.BlockSizesAndWeights;
+import com.jtechx.mempool4j.model.mining.HashrateDetails;
+import com.jtechx.mempool4j.model.mining.MiningPoolDetails;
+import com.jtechx.mempool4j.model.mining.MiningPoolHashrate;
+import com.jtechx.mempool4j.model.mining.MiningPools;
+import com.jtechx.mempool4j.model.mining.RewardStats;
+import com.jtechx.mempool4j.model.mining.TimePeriod;
+import com.jtechx.mempool4j.model.transaction.ChildrenPayForParent;
+import com.jtechx.mempool4j.model.transaction.Transaction;
+import com.jtechx.mempool4j.model.transaction.TransactionMerkleProof;
+import com.jtechx.mempool4j.model.transaction.TransactionOutspend;
+import com.jtechx.mempool4j.model.transaction.TransactionStatus;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking counterpart of {@link MempoolClient}. Every method mirrors the blocking method of the same name but
+ * returns immediately with a {@link CompletableFuture} that completes once the response has been received and
+ * deserialized. Transport and parsing failures complete the future exceptionally with the underlying
+ * {@link java.io.IOException} as the cause.
+ */
+public interface AsyncMempoolClient {
+
+    // General
+
+    CompletableFuture<DifficultyAdjustment> getDifficultyAdjustment();
+
+    // Addresses
+
+    CompletableFuture<Address> getAddress(String address);
+
+    CompletableFuture<List<Transaction>> getAddressTransactions(String address);
+
+    CompletableFuture<List<Transaction>> getAddressTransactionsChain(String address);
+
+    CompletableFuture<List<Transaction>> getAddressTransactionsMempool(String address);
+
+    CompletableFuture<List<UTXO>> getAddressUTXO(String address);
+
+    // Block
+
+    CompletableFuture<Block> getBlock(String hash);
+
+    CompletableFuture<String> getBlockHeader(String hash);
+
+    CompletableFuture<String> getBlockHeight(int height);
+
+    CompletableFuture<byte[]> getBlockRaw(String hash);
+
+    CompletableFuture<BlockStatus> getBlockStatus(String hash);
+
+    CompletableFuture<Integer> getBlockTipHeight();
+
+    CompletableFuture<String> getBlockTipHash();
+
+    CompletableFuture<String> getBlockTransactionId(String hash, int index);
+
+    CompletableFuture<List<Hash256>> getBlockTransactionIds(String hash);
+
+    CompletableFuture<List<Transaction>> getBlockTransactions(String hash, Optional<Integer> startIndex);
+
+    CompletableFuture<List<Block>> getBlocks(Optional<Integer> startHeight);
+
+    CompletableFuture<List<Block>> getBlocksBulk(int minHeight, Optional<Integer> maxHeight);
+
+    // Mining
+
+    CompletableFuture<MiningPools> getMiningPools(TimePeriod period);
+
+    CompletableFuture<MiningPoolDetails> getMiningPool(String slug);
+
+    CompletableFuture<HashrateDetails> getMiningPoolHashrates(Optional<TimePeriod> period);
+
+    CompletableFuture<List<MiningPoolHashrate>> getMiningPoolHashrate(String slug);
+
+    CompletableFuture<List<Block>> getMiningPoolBlocks(String slug, Optional<Integer> blockHeight);
+
+    CompletableFuture<HashrateDetails> getHashrate(TimePeriod period);
+
+    CompletableFuture<RewardStats> getRewardStats(int blockCount);
+
+    CompletableFuture<List<BlockFee>> getBlockFees(TimePeriod period);
+
+    CompletableFuture<List<BlockReward>> getBlockRewards(TimePeriod period);
+
+    CompletableFuture<List<BlockFeeRate>> getBlockFeeRates(TimePeriod period);
+
+    CompletableFuture<BlockSizesAndWeights> getBlockSizesAndWeights(TimePeriod period);
+
+    CompletableFuture<List<MempoolBlocksFees>> getMempoolBlockFees();
+
+    CompletableFuture<RecommendedFees> getRecommendedFees();
+
+    CompletableFuture<Mempool> getMempool();
+
+    CompletableFuture<List<Hash256>> getMempoolTransactionIds();
+
+    CompletableFuture<List<MempoolRecent>> getMempoolRecent();
+
+    // Transactions
+
+    CompletableFuture<ChildrenPayForParent> getChildrenPayForParent(String transactionId);
+
+    CompletableFuture<Transaction> getTransaction(String transactionId);
+
+    CompletableFuture<String> getTransactionHex(String transactionId);
+
+    CompletableFuture<String> getTransactionMerkleblockProof(String transactionId);
+
+    CompletableFuture<TransactionMerkleProof> getTransactionMerkleProof(String transactionId);
+
+    CompletableFuture<TransactionOutspend> getTransactionOutspend(String transactionId, int vout);
+
+    CompletableFuture<List<TransactionOutspend>> getTransactionOutspends(String transactionId);
+
+    CompletableFuture<byte[]> getTransactionRaw(String transactionId);
+
+    CompletableFuture<TransactionStatus> getTransactionStatus(String transactionId);
+
+    // Lightning
+
+    CompletableFuture<NetworkStats> getNetworkStats(TimePeriod interval);
+
+    CompletableFuture<NodesChannelsSearchResult> getNodesChannels(String query);
+
+    CompletableFuture<NodesInCountry> getNodesInCountry(String country);
+
+    CompletableFuture<List<NodeStats>> getNodeStatsPerCountry();
+
+    CompletableFuture<ISPNodes> getISPNodes(int isp);
+
+    CompletableFuture<NodeStatsPerISP> getNodeStatsPerISP();
+
+    CompletableFuture<TopNodes> getTop100Nodes();
+
+    CompletableFuture<List<LightningNode>> getTop100_NodesByLiquidity();
+
+    CompletableFuture<List<LightningNode>> getTop100_NodesByConnectivity();
+
+    CompletableFuture<List<LightningNode>> getTop100_OldestNodes();
+
+    CompletableFuture<LightningNode> getNodeStats(String pubKey);
+
+    CompletableFuture<List<NodeHistoryStats>> getHistoricalNodeStats(String pubKey);
+
+    CompletableFuture<LightningChannel> getChannel(String channelId);
+
+    CompletableFuture<List<ChannelsFromTXID>> getChannelsFromTXID(List<String> txIds);
+
+    CompletableFuture<List<LightningChannel>> getChannelsFromNodePubKey(String pubKey, ChannelStatus status, Optional<Integer> index);
+
+    CompletableFuture<List<ChannelGeodata>> getChannelGeodata();
+
+    CompletableFuture<List<ChannelGeodata>> getChannelGeodataForNode(String pubKey);
+}
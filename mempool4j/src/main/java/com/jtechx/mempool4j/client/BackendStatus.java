@@ -0,0 +1,104 @@
+package com.jtechx.mempool4j.client;
+
+import java.time.Duration;
+
+/**
+ * A snapshot of how {@link LoadBalancingTransport} currently sees one of its backends.
+ */
+public final class BackendStatus {
+    private final String url;
+    private final Duration latency;
+    private final double errorRate;
+    private final int inFlight;
+    private final int tipHeight;
+    private final boolean ejected;
+    private final boolean lagging;
+
+    BackendStatus(String url, Duration latency, double errorRate, int inFlight, int tipHeight, boolean ejected,
+            boolean lagging) {
+        this.url = url;
+        this.latency = latency;
+        this.errorRate = errorRate;
+        this.inFlight = inFlight;
+        this.tipHeight = tipHeight;
+        this.ejected = ejected;
+        this.lagging = lagging;
+    }
+
+    /**
+     * Gets the base URL of the backend.
+     *
+     * @return The URL.
+     */
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * Gets the exponentially weighted moving average of the time to the response headers.
+     *
+     * @return The average latency, zero before the first response.
+     */
+    public Duration getLatency() {
+        return latency;
+    }
+
+    /**
+     * Gets the exponentially weighted moving average of the share of failed requests, counting exceptions,
+     * {@code 429} and {@code 5xx} responses as failures.
+     *
+     * @return The error rate, between 0 and 1.
+     */
+    public double getErrorRate() {
+        return errorRate;
+    }
+
+    /**
+     * Gets the number of requests sent to the backend and not answered yet.
+     *
+     * @return The in-flight request count.
+     */
+    public int getInFlight() {
+        return inFlight;
+    }
+
+    /**
+     * Gets the last tip height the backend reported.
+     *
+     * @return The tip height, or -1 if it is not known yet.
+     */
+    public int getTipHeight() {
+        return tipHeight;
+    }
+
+    /**
+     * Checks whether the backend is ejected after consecutive failures.
+     *
+     * @return {@code true} if no requests are routed to it until the ejection ends.
+     */
+    public boolean isEjected() {
+        return ejected;
+    }
+
+    /**
+     * Checks whether the backend's tip is further behind the highest known tip than allowed.
+     *
+     * @return {@code true} if no requests are routed to it until it catches up.
+     */
+    public boolean isLagging() {
+        return lagging;
+    }
+
+    @Override
+    public String toString() {
+        return "BackendStatus{" +
+                "url='" + url + '\'' +
+                ", latency=" + latency +
+                ", errorRate=" + errorRate +
+                ", inFlight=" + inFlight +
+                ", tipHeight=" + tipHeight +
+                ", ejected=" + ejected +
+                ", lagging=" + lagging +
+                '}';
+    }
+}
@@ -0,0 +1,227 @@
+package com.jtechx.mempool4j.client;
+
+import com.jtechx.mempool4j.model.transaction.Transaction;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.net.SocketTimeoutException;
+import java.net.UnknownHostException;
+import java.net.http.HttpTimeoutException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Fetches every transaction of a block by paging {@link MempoolClient#getBlockTransactions(String, Optional)}
+ * with a bounded number of pages in flight.
+ * <p>
+ * Pages are claimed in ascending order by at most {@code concurrency} workers and written into a slot indexed by
+ * page number, so results are always returned in block order no matter which page completes first. A page that
+ * fails fails the whole fetch.
+ * <p>
+ * Retrying is left to the client's transport by default, since the default chain already retries with backoff
+ * within a deadline and pages retried here as well would multiply its attempts. With {@code maxAttempts} above 1, a
+ * page is also retried here after transient failures: timeouts, resets and {@code 5xx} responses. Errors that
+ * another attempt will not change, such as a {@code 404} for an unknown block or a rejected request, fail at once.
+ */
+public class BlockTransactionsFetcher {
+    /**
+     * Number of transactions returned per page by the block transactions endpoint.
+     */
+    public static final int PAGE_SIZE = 25;
+
+    private static final int DEFAULT_CONCURRENCY = 8;
+    private static final int DEFAULT_MAX_ATTEMPTS = 1;
+    private static final long RETRY_BACKOFF_MILLIS = 100;
+    private static final ExecutorService DEFAULT_EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "mempool4j-block-txs");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final MempoolClient client;
+    private final Executor executor;
+    private final int concurrency;
+    private final int maxAttempts;
+
+    private BlockTransactionsFetcher(MempoolClient client, Executor executor, int concurrency, int maxAttempts) {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("concurrency must be positive: " + concurrency);
+        }
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts must be positive: " + maxAttempts);
+        }
+        this.client = client;
+        this.executor = executor;
+        this.concurrency = concurrency;
+        this.maxAttempts = maxAttempts;
+    }
+
+    public static BlockTransactionsFetcher create(MempoolClient client) {
+        return create(client, DEFAULT_CONCURRENCY);
+    }
+
+    public static BlockTransactionsFetcher create(MempoolClient client, int concurrency) {
+        return create(client, DEFAULT_EXECUTOR, concurrency, DEFAULT_MAX_ATTEMPTS);
+    }
+
+    public static BlockTransactionsFetcher create(MempoolClient client, Executor executor, int concurrency,
+            int maxAttempts) {
+        return new BlockTransactionsFetcher(client, executor, concurrency, maxAttempts);
+    }
+
+    /**
+     * Fetches all transactions of the block, in block order.
+     *
+     * @param hash The block hash.
+     * @return The transactions of the block.
+     * @throws IOException If a page still fails after all attempts.
+     */
+    public List<Transaction> fetchAll(String hash) throws IOException {
+        Fetch fetch = start(hash);
+        try {
+            List<Transaction> transactions = new ArrayList<>(fetch.txCount);
+            for (int page = 0; page < fetch.pages.length; page++) {
+                transactions.addAll(fetch.await(page));
+            }
+            return transactions;
+        } finally {
+            fetch.cancel(null);
+        }
+    }
+
+    /**
+     * Fetches all transactions of the block, emitting them in block order as soon as every preceding page has
+     * arrived. Closing the stream stops workers from claiming further pages.
+     *
+     * @param hash The block hash.
+     * @return A lazy stream of the transactions of the block.
+     * @throws IOException If the block could not be looked up.
+     */
+    public Stream<Transaction> stream(String hash) throws IOException {
+        Fetch fetch = start(hash);
+        return IntStream.range(0, fetch.pages.length)
+                .mapToObj(page -> {
+                    try {
+                        return fetch.await(page);
+                    } catch (IOException e) {
+                        fetch.cancel(e);
+                        throw new UncheckedIOException(e);
+                    }
+                })
+                .flatMap(List::stream)
+                .onClose(() -> fetch.cancel(null));
+    }
+
+    private Fetch start(String hash) throws IOException {
+        int txCount = client.getBlock(hash).getTxCount();
+        Fetch fetch = new Fetch(hash, txCount);
+        int workers = Math.min(concurrency, fetch.pages.length);
+        for (int i = 0; i < workers; i++) {
+            executor.execute(fetch::work);
+        }
+        return fetch;
+    }
+
+    private final class Fetch {
+        private final String hash;
+        private final int txCount;
+        private final CompletableFuture<List<Transaction>>[] pages;
+        private final AtomicInteger nextPage = new AtomicInteger();
+        private final AtomicBoolean cancelled = new AtomicBoolean();
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private Fetch(String hash, int txCount) {
+            this.hash = hash;
+            this.txCount = txCount;
+            this.pages = new CompletableFuture[(txCount + PAGE_SIZE - 1) / PAGE_SIZE];
+            for (int page = 0; page < pages.length; page++) {
+                pages[page] = new CompletableFuture<>();
+            }
+        }
+
+        private void work() {
+            int page;
+            while (!cancelled.get() && (page = nextPage.getAndIncrement()) < pages.length) {
+                try {
+                    pages[page].complete(fetchPage(page));
+                } catch (IOException | RuntimeException e) {
+                    pages[page].completeExceptionally(e);
+                    cancel(e);
+                }
+            }
+        }
+
+        private List<Transaction> fetchPage(int page) throws IOException {
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    List<Transaction> transactions = client.getBlockTransactions(hash, Optional.of(page * PAGE_SIZE));
+                    return transactions != null ? transactions : Collections.emptyList();
+                } catch (IOException e) {
+                    if (attempt >= maxAttempts || cancelled.get() || !isTransient(e)) {
+                        throw e;
+                    }
+                    backoff(attempt);
+                }
+            }
+        }
+
+        private boolean isTransient(IOException e) {
+            if (e instanceof MempoolApiException) {
+                return ((MempoolApiException) e).getStatusCode() >= 500;
+            }
+            if (e instanceof HttpTimeoutException || e instanceof SocketTimeoutException) {
+                return true;
+            }
+            return !(e instanceof InterruptedIOException || e instanceof RequestRejectedException
+                    || e instanceof UnknownHostException);
+        }
+
+        private void backoff(int attempt) throws InterruptedIOException {
+            try {
+                Thread.sleep(RETRY_BACKOFF_MILLIS * attempt);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while retrying block " + hash);
+            }
+        }
+
+        private List<Transaction> await(int page) throws IOException {
+            try {
+                return pages[page].get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for block " + hash);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof IOException) {
+                    throw (IOException) e.getCause();
+                }
+                throw new IOException("Failed to fetch page " + page + " of block " + hash, e.getCause());
+            }
+        }
+
+        /**
+         * Stops the fetch. Pages already claimed by a worker are left to complete on their own, so that awaiting them
+         * in order still reports the page that actually failed; only the pages no worker has claimed yet fail, with
+         * {@code cause} as their cause.
+         */
+        private void cancel(Throwable cause) {
+            if (cancelled.compareAndSet(false, true)) {
+                for (int page = nextPage.getAndSet(pages.length); page < pages.length; page++) {
+                    pages[page].completeExceptionally(
+                            new IOException("Fetch of block " + hash + " was cancelled", cause));
+                }
+            }
+        }
+    }
+}
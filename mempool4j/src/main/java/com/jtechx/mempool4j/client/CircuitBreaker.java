@@ -0,0 +1,113 @@
+package com.jtechx.mempool4j.client;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A count-based circuit breaker. It opens when at least half of the last {@value #WINDOW} requests failed, with at
+ * least {@value #MIN_CALLS} counted. After 30 seconds it lets {@value #TRIAL_CALLS} trial requests through: it closes
+ * if all of them succeed and reopens on the first failure.
+ * <p>
+ * Each request is admitted with a token naming the period, between two changes of state, it was admitted in, and
+ * only outcomes from the current period count. A request sent before the breaker opened thus cannot close or reopen
+ * it when it finishes late; only the trials can.
+ */
+final class CircuitBreaker {
+    private static final int WINDOW = 20;
+    private static final int MIN_CALLS = 10;
+    private static final int TRIAL_CALLS = 3;
+    private static final long OPEN_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    // the outcomes of the last WINDOW requests, as a ring; true is a failure
+    private final boolean[] outcomes = new boolean[WINDOW];
+    private int next;
+    private int calls;
+    private int failures;
+    private volatile CircuitState state = CircuitState.CLOSED;
+    private long openedAt;
+    private int trials;
+    private int trialSuccesses;
+    private long period;
+
+    /**
+     * Asks to send a request.
+     *
+     * @return A token to record the request's outcome with, or -1 if the request may not be sent.
+     */
+    synchronized long tryAcquire(long now) {
+        if (state == CircuitState.OPEN) {
+            if (now - openedAt < OPEN_NANOS) {
+                return -1;
+            }
+            enter(CircuitState.HALF_OPEN);
+            trials = 0;
+            trialSuccesses = 0;
+        }
+        if (state == CircuitState.HALF_OPEN) {
+            if (trials == TRIAL_CALLS) {
+                return -1;
+            }
+            trials++;
+        }
+        return period;
+    }
+
+    /**
+     * Tells whether {@link #tryAcquire(long)} would be refused because the breaker is open, without asking it.
+     */
+    synchronized boolean isRejecting(long now) {
+        return state == CircuitState.OPEN && now - openedAt < OPEN_NANOS;
+    }
+
+    /**
+     * Records the outcome of a request.
+     *
+     * @param token The token {@link #tryAcquire(long)} admitted the request with.
+     */
+    synchronized void record(long now, long token, boolean failed) {
+        if (token != period) {
+            // admitted before the last change of state, e.g. before the breaker opened; it no longer matters
+            return;
+        }
+        switch (state) {
+            case CLOSED:
+                if (calls == WINDOW) {
+                    failures -= outcomes[next] ? 1 : 0;
+                } else {
+                    calls++;
+                }
+                outcomes[next] = failed;
+                failures += failed ? 1 : 0;
+                next = (next + 1) % WINDOW;
+                if (calls >= MIN_CALLS && failures * 2 >= calls) {
+                    open(now);
+                }
+                break;
+            case HALF_OPEN:
+                if (failed) {
+                    open(now);
+                } else if (++trialSuccesses == TRIAL_CALLS) {
+                    enter(CircuitState.CLOSED);
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    CircuitState getState() {
+        return state;
+    }
+
+    private void enter(CircuitState state) {
+        this.state = state;
+        period++;
+    }
+
+    private void open(long now) {
+        enter(CircuitState.OPEN);
+        openedAt = now;
+        calls = 0;
+        failures = 0;
+        next = 0;
+    }
+}
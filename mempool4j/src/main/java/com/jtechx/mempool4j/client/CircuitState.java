@@ -0,0 +1,19 @@
+package com.jtechx.mempool4j.client;
+
+/**
+ * The state of an endpoint group's circuit breaker in {@link IsolatingTransport}.
+ */
+public enum CircuitState {
+    /**
+     * Requests pass and their outcomes are counted.
+     */
+    CLOSED,
+    /**
+     * Too many recent requests failed; requests are rejected without being sent.
+     */
+    OPEN,
+    /**
+     * The open period has passed; a few trial requests decide whether to close again or reopen.
+     */
+    HALF_OPEN
+}
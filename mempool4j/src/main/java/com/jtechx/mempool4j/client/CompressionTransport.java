@@ -0,0 +1,211 @@
+package com.jtechx.mempool4j.client;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@link Transport} decorator that negotiates compressed responses.
+ * <p>
+ * Every request advertises the registered encodings in {@code Accept-Encoding}. Responses are decoded according
+ * to their {@code Content-Encoding} by wrapping the body stream, so streamed JSON is decompressed incrementally as
+ * it is parsed rather than inflated into a buffer first. gzip and deflate are supported out of the box; other
+ * encodings such as brotli can be registered with {@link #create(Transport, Map)}.
+ * <p>
+ * Compressed and decompressed body bytes are counted per {@link Endpoints} pattern.
+ */
+public class CompressionTransport implements Transport {
+    private static final String UNKNOWN_ENDPOINT = "other";
+    private static final int NOT_MODIFIED = 304;
+    private static final int NO_CONTENT = 204;
+
+    private final Transport delegate;
+    private final Map<String, ContentDecoder> decoders;
+    private final String acceptEncoding;
+    private final ConcurrentHashMap<String, TransferStats> stats = new ConcurrentHashMap<>();
+
+    private CompressionTransport(Transport delegate, Map<String, ContentDecoder> decoders) {
+        this.delegate = delegate;
+        this.decoders = decoders;
+        this.acceptEncoding = String.join(", ", decoders.keySet());
+    }
+
+    public static CompressionTransport create(Transport delegate) {
+        return create(delegate, Collections.emptyMap());
+    }
+
+    /**
+     * Creates a compression transport supporting gzip, deflate and the given additional encodings.
+     *
+     * @param delegate The transport to decorate.
+     * @param decoders Additional decoders keyed by their {@code Content-Encoding} token, e.g. {@code br}.
+     * @return The compression transport.
+     */
+    public static CompressionTransport create(Transport delegate, Map<String, ContentDecoder> decoders) {
+        Map<String, ContentDecoder> all = new LinkedHashMap<>(decoders);
+        all.putIfAbsent("gzip", ContentDecoder.GZIP);
+        all.putIfAbsent("deflate", ContentDecoder.DEFLATE);
+        return new CompressionTransport(delegate, Collections.unmodifiableMap(all));
+    }
+
+    /**
+     * Retrieves the transfer statistics per {@link Endpoints} pattern. Requests not built from a pattern are
+     * counted under {@code "other"}.
+     *
+     * @return The live statistics, keyed by endpoint pattern.
+     */
+    public Map<String, TransferStats> getStats() {
+        return Collections.unmodifiableMap(stats);
+    }
+
+    @Override
+    public Response execute(Request request) throws IOException {
+        Response response = delegate.execute(negotiate(request));
+        return new Response(response.getStatusCode(), decode(request, response), response.getHeaders());
+    }
+
+    @Override
+    public StreamingResponse stream(Request request) throws IOException {
+        StreamingResponse response = delegate.stream(negotiate(request));
+        try {
+            return new StreamingResponse(response.getStatusCode(), decode(request, response), response.getHeaders());
+        } catch (IOException | RuntimeException e) {
+            response.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public CompletableFuture<Response> executeAsync(Request request) {
+        return delegate.executeAsync(negotiate(request)).thenApply(response -> {
+            try {
+                return new Response(response.getStatusCode(), decode(request, response), response.getHeaders());
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        });
+    }
+
+    @Override
+    public void close() throws IOException {
+        delegate.close();
+    }
+
+    private Request negotiate(Request request) {
+        return request.getHeaders().containsKey("Accept-Encoding")
+                ? request
+                : request.withHeader("Accept-Encoding", acceptEncoding);
+    }
+
+    private byte[] decode(Request request, Response response) throws IOException {
+        TransferStats endpointStats = statsFor(request);
+        endpointStats.recordResponse();
+        byte[] body = response.getBody();
+        endpointStats.recordCompressed(body.length);
+
+        String encoding = response.getHeader("Content-Encoding");
+        if (!hasBody(response.getStatusCode()) || isIdentity(encoding) || body.length == 0) {
+            endpointStats.recordDecompressed(body.length);
+            return body;
+        }
+        try (InputStream decoded = decode(encoding, new ByteArrayInputStream(body))) {
+            byte[] decompressed = decoded.readAllBytes();
+            endpointStats.recordDecompressed(decompressed.length);
+            return decompressed;
+        }
+    }
+
+    private InputStream decode(Request request, StreamingResponse response) throws IOException {
+        TransferStats endpointStats = statsFor(request);
+        endpointStats.recordResponse();
+        InputStream body = new CountingInputStream(response.getBody(), endpointStats, true);
+
+        String encoding = response.getHeader("Content-Encoding");
+        if (!hasBody(response.getStatusCode()) || isIdentity(encoding)) {
+            return new CountingInputStream(body, endpointStats, false);
+        }
+        return new CountingInputStream(decode(encoding, body), endpointStats, false);
+    }
+
+    private InputStream decode(String encoding, InputStream body) throws IOException {
+        // codings are listed in the order they were applied, so undo them last to first
+        String[] codings = encoding.split(",");
+        for (int i = codings.length - 1; i >= 0; i--) {
+            String coding = codings[i].trim().toLowerCase(Locale.ROOT);
+            if (isIdentity(coding)) {
+                continue;
+            }
+            ContentDecoder decoder = decoders.get(coding);
+            if (decoder == null) {
+                throw new IOException("Unsupported Content-Encoding: " + encoding);
+            }
+            body = decoder.decode(body);
+        }
+        return body;
+    }
+
+    private TransferStats statsFor(Request request) {
+        String endpoint = request.getEndpoint() != null ? request.getEndpoint() : UNKNOWN_ENDPOINT;
+        return stats.computeIfAbsent(endpoint, key -> new TransferStats());
+    }
+
+    private static boolean hasBody(int statusCode) {
+        return statusCode != NOT_MODIFIED && statusCode != NO_CONTENT;
+    }
+
+    private static boolean isIdentity(String encoding) {
+        return encoding == null || encoding.isEmpty() || encoding.equalsIgnoreCase("identity");
+    }
+
+    private static final class CountingInputStream extends FilterInputStream {
+        private final TransferStats stats;
+        private final boolean compressed;
+
+        private CountingInputStream(InputStream in, TransferStats stats, boolean compressed) {
+            super(in);
+            this.stats = stats;
+            this.compressed = compressed;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                record(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                record(n);
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            record(skipped);
+            return skipped;
+        }
+
+        private void record(long bytes) {
+            if (compressed) {
+                stats.recordCompressed(bytes);
+            } else {
+                stats.recordDecompressed(bytes);
+            }
+        }
+    }
+}
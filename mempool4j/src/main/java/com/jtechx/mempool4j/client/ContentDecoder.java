@@ -0,0 +1,25 @@
+package com.jtechx.mempool4j.client;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Decodes a response body sent with a given {@code Content-Encoding}. Decoders wrap the body stream, so the
+ * decompressed bytes are produced incrementally as the JSON parser reads them.
+ */
+@FunctionalInterface
+public interface ContentDecoder {
+    ContentDecoder GZIP = GZIPInputStream::new;
+    ContentDecoder DEFLATE = InflaterInputStream::new;
+
+    /**
+     * Wraps an encoded body stream.
+     *
+     * @param encoded The body as received.
+     * @return A stream of the decoded body.
+     * @throws IOException If the encoded stream is malformed.
+     */
+    InputStream decode(InputStream encoded) throws IOException;
+}
@@ -0,0 +1,470 @@
+package com.jtechx.mempool4j.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jtechx.mempool4j.model.Hash256;
+import com.jtechx.mempool4j.model.address.Address;
+import com.jtechx.mempool4j.model.address.UTXO;
+import com.jtechx.mempool4j.model.block.Block;
+import com.jtechx.mempool4j.model.block.BlockStatus;
+import com.jtechx.mempool4j.model.fee.MempoolBlocksFees;
+import com.jtechx.mempool4j.model.fee.RecommendedFees;
+import com.jtechx.mempool4j.model.general.DifficultyAdjustment;
+import com.jtechx.mempool4j.model.lightning.ChannelGeodata;
+import com.jtechx.mempool4j.model.lightning.ChannelStatus;
+import com.jtechx.mempool4j.model.lightning.ChannelsFromTXID;
+import com.jtechx.mempool4j.model.lightning.ISPNodes;
+import com.jtechx.mempool4j.model.lightning.LightningChannel;
+import com.jtechx.mempool4j.model.lightning.LightningNode;
+import com.jtechx.mempool4j.model.lightning.NetworkStats;
+import com.jtechx.mempool4j.model.lightning.NodeHistoryStats;
+import com.jtechx.mempool4j.model.lightning.NodeStats;
+import com.jtechx.mempool4j.model.lightning.NodeStatsPerISP;
+import com.jtechx.mempool4j.model.lightning.NodesChannelsSearchResult;
+import com.jtechx.mempool4j.model.lightning.NodesInCountry;
+import com.jtechx.mempool4j.model.lightning.TopNodes;
+import com.jtechx.mempool4j.model.mempool.Mempool;
+import com.jtechx.mempool4j.model.mempool.MempoolRecent;
+import com.jtechx.mempool4j.model.mining.BlockFee;
+import com.jtechx.mempool4j.model.mining.BlockFeeRate;
+import com.jtechx.mempool4j.model.mining.BlockReward;
+import com.jtechx.mempool4j.model.mining.BlockSizesAndWeights;
+import com.jtechx.mempool4j.model.mining.HashrateDetails;
+import com.jtechx.mempool4j.model.mining.MiningPoolDetails;
+import com.jtechx.mempool4j.model.mining.MiningPoolHashrate;
+import com.jtechx.mempool4j.model.mining.MiningPools;
+import com.jtechx.mempool4j.model.mining.RewardStats;
+import com.jtechx.mempool4j.model.mining.TimePeriod;
+import com.jtechx.mempool4j.model.transaction.ChildrenPayForParent;
+import com.jtechx.mempool4j.model.transaction.Transaction;
+import com.jtechx.mempool4j.model.transaction.TransactionMerkleProof;
+import com.jtechx.mempool4j.model.transaction.TransactionOutspend;
+import com.jtechx.mempool4j.model.transaction.TransactionStatus;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+
+import static com.jtechx.mempool4j.client.Endpoints.*;
+
+public class DefaultAsyncMempoolClient implements AsyncMempoolClient, Closeable {
+    private static final String MEMPOOL_DEFAULT_URL = "https://mempool.space";
+    private static final int HTTP_CACHE_MAX_ENTRIES = 1024;
+    private final String mempoolUrl;
+    private final Transport transport;
+    private final ModelReaders readers;
+    private final SingleFlight singleFlight = new SingleFlight();
+    private final HttpCache httpCache = new HttpCache(HTTP_CACHE_MAX_ENTRIES);
+
+    private DefaultAsyncMempoolClient(String mempoolUrl, Transport transport, ObjectMapper mapper) {
+        this.mempoolUrl = mempoolUrl;
+        this.transport = transport;
+        this.readers = new ModelReaders(mapper);
+    }
+
+    public static DefaultAsyncMempoolClient create() {
+        return create(MEMPOOL_DEFAULT_URL);
+    }
+
+    /**
+     * Creates a client for an instance with the default transport chain: retries and deadlines, a bulkhead and
+     * circuit breaker per endpoint group, and compression. Requests to mempool.space are also paced to stay under
+     * its rate limit; see {@link RateLimitingTransport}. Requests to other instances are not.
+     *
+     * @param mempoolUrl The base URL of the instance.
+     * @return The client.
+     */
+    public static DefaultAsyncMempoolClient create(String mempoolUrl) {
+        return create(mempoolUrl, DefaultTransports.forInstance(mempoolUrl));
+    }
+
+    /**
+     * Creates a client that spreads its requests over several instances of the same network, preferring the
+     * fastest and avoiding those that fail or lag behind the tip. See {@link LoadBalancingTransport}.
+     *
+     * @param mempoolUrls The base URLs of the instances.
+     * @return The client.
+     */
+    public static DefaultAsyncMempoolClient create(List<String> mempoolUrls) {
+        return create(mempoolUrls.get(0), DefaultTransports.forInstances(mempoolUrls));
+    }
+
+    public static DefaultAsyncMempoolClient create(String mempoolUrl, Transport transport) {
+        return create(mempoolUrl, transport, ObjectMappers.create());
+    }
+
+    public static DefaultAsyncMempoolClient create(String mempoolUrl, Transport transport, ObjectMapper mapper) {
+        return new DefaultAsyncMempoolClient(mempoolUrl, transport, mapper);
+    }
+
+    @Override
+    public CompletableFuture<DifficultyAdjustment> getDifficultyAdjustment() {
+        return fetch(request(DIFFICULTY_ADJUSTMENT), readers.difficultyAdjustment);
+    }
+
+    @Override
+    public CompletableFuture<Address> getAddress(String address) {
+        return fetch(request(ADDRESS, address), readers.address);
+    }
+
+    @Override
+    public CompletableFuture<List<Transaction>> getAddressTransactions(String address) {
+        return fetch(request(ADDRESS_TXS, address), readers.transactionList);
+    }
+
+    @Override
+    public CompletableFuture<List<Transaction>> getAddressTransactionsChain(String address) {
+        return fetch(request(ADDRESS_TXS_CHAIN, address), readers.transactionList);
+    }
+
+    @Override
+    public CompletableFuture<List<Transaction>> getAddressTransactionsMempool(String address) {
+        return fetch(request(ADDRESS_TXS_MEMPOOL, address), readers.transactionList);
+    }
+
+    @Override
+    public CompletableFuture<List<UTXO>> getAddressUTXO(String address) {
+        return fetch(request(ADDRESS_UTXO, address), readers.uTXOList);
+    }
+
+    @Override
+    public CompletableFuture<Block> getBlock(String hash) {
+        return fetch(request(BLOCK, hash), readers.block);
+    }
+
+    @Override
+    public CompletableFuture<String> getBlockHeader(String hash) {
+        return fetchText(request(BLOCK_HEADER, hash));
+    }
+
+    @Override
+    public CompletableFuture<String> getBlockHeight(int height) {
+        return fetchText(request(BLOCK_HEIGHT, height));
+    }
+
+    @Override
+    public CompletableFuture<byte[]> getBlockRaw(String hash) {
+        return fetchBytes(request(BLOCK_RAW, hash));
+    }
+
+    @Override
+    public CompletableFuture<BlockStatus> getBlockStatus(String hash) {
+        return fetch(request(BLOCK_STATUS, hash), readers.blockStatus);
+    }
+
+    @Override
+    public CompletableFuture<Integer> getBlockTipHeight() {
+        return fetchText(request(BLOCK_TIP_HEIGHT)).thenApply(Integer::parseInt);
+    }
+
+    @Override
+    public CompletableFuture<String> getBlockTipHash() {
+        return fetchText(request(BLOCK_TIP_HASH));
+    }
+
+    @Override
+    public CompletableFuture<String> getBlockTransactionId(String hash, int index) {
+        return fetchText(request(BLOCK_TRANSACTION_ID, hash, index));
+    }
+
+    @Override
+    public CompletableFuture<List<Hash256>> getBlockTransactionIds(String hash) {
+        return fetch(request(BLOCK_TRANSACTION_IDS, hash), readers.hash256List);
+    }
+
+    @Override
+    public CompletableFuture<List<Transaction>> getBlockTransactions(String hash, Optional<Integer> startIndex) {
+        return fetch(request(BLOCK_TRANSACTIONS, hash, startIndex.map(Object::toString).orElse("")),
+                readers.transactionList);
+    }
+
+    @Override
+    public CompletableFuture<List<Block>> getBlocks(Optional<Integer> startHeight) {
+        return fetch(request(BLOCKS, startHeight.map(Object::toString).orElse("")), readers.blockList);
+    }
+
+    @Override
+    public CompletableFuture<List<Block>> getBlocksBulk(int minHeight, Optional<Integer> maxHeight) {
+        return fetch(request(BLOCKS_BULK, minHeight, maxHeight.map(Object::toString).orElse("")), readers.blockList);
+    }
+
+    @Override
+    public CompletableFuture<MiningPools> getMiningPools(TimePeriod period) {
+        return fetch(request(MINING_POOLS, period.getPeriod()), readers.miningPools);
+    }
+
+    @Override
+    public CompletableFuture<MiningPoolDetails> getMiningPool(String slug) {
+        return fetch(request(MINING_POOL, slug), readers.miningPoolDetails);
+    }
+
+    @Override
+    public CompletableFuture<HashrateDetails> getMiningPoolHashrates(Optional<TimePeriod> period) {
+        return fetch(request(MINING_POOL_HASHRATES, period.map(TimePeriod::getPeriod).orElse("")),
+                readers.hashrateDetails);
+    }
+
+    @Override
+    public CompletableFuture<List<MiningPoolHashrate>> getMiningPoolHashrate(String slug) {
+        return fetch(request(MINING_POOL_HASHRATE, slug), readers.miningPoolHashrateList);
+    }
+
+    @Override
+    public CompletableFuture<List<Block>> getMiningPoolBlocks(String slug, Optional<Integer> blockHeight) {
+        return fetch(request(MINING_POOL_BLOCKS, slug, blockHeight.map(Object::toString).orElse("")),
+                readers.blockList);
+    }
+
+    @Override
+    public CompletableFuture<HashrateDetails> getHashrate(TimePeriod period) {
+        return fetch(request(HASHRATE, period.getPeriod()), readers.hashrateDetails);
+    }
+
+    @Override
+    public CompletableFuture<RewardStats> getRewardStats(int blockCount) {
+        return fetch(request(REWARD_STATS, blockCount), readers.rewardStats);
+    }
+
+    @Override
+    public CompletableFuture<List<BlockFee>> getBlockFees(TimePeriod period) {
+        return fetch(request(BLOCK_FEES, period.getPeriod()), readers.blockFeeList);
+    }
+
+    @Override
+    public CompletableFuture<List<BlockReward>> getBlockRewards(TimePeriod period) {
+        return fetch(request(BLOCK_REWARDS, period.getPeriod()), readers.blockRewardList);
+    }
+
+    @Override
+    public CompletableFuture<List<BlockFeeRate>> getBlockFeeRates(TimePeriod period) {
+        return fetch(request(BLOCK_FEE_RATES, period.getPeriod()), readers.blockFeeRateList);
+    }
+
+    @Override
+    public CompletableFuture<BlockSizesAndWeights> getBlockSizesAndWeights(TimePeriod period) {
+        return fetch(request(BLOCK_SIZES_AND_WEIGHTS, period.getPeriod()), readers.blockSizesAndWeights);
+    }
+
+    @Override
+    public CompletableFuture<List<MempoolBlocksFees>> getMempoolBlockFees() {
+        return fetch(request(MEMPOOL_BLOCK_FEES), readers.mempoolBlocksFeesList);
+    }
+
+    @Override
+    public CompletableFuture<RecommendedFees> getRecommendedFees() {
+        return fetch(request(RECOMMENDED_FEES), readers.recommendedFees);
+    }
+
+    @Override
+    public CompletableFuture<Mempool> getMempool() {
+        return fetch(request(MEMPOOL), readers.mempool);
+    }
+
+    @Override
+    public CompletableFuture<List<Hash256>> getMempoolTransactionIds() {
+        return fetch(request(MEMPOOL_TXIDS), readers.hash256List);
+    }
+
+    @Override
+    public CompletableFuture<List<MempoolRecent>> getMempoolRecent() {
+        return fetch(request(MEMPOOL_RECENT), readers.mempoolRecentList);
+    }
+
+    @Override
+    public CompletableFuture<ChildrenPayForParent> getChildrenPayForParent(String transactionId) {
+        return fetch(request(CHILDREN_PAY_FOR_PARENT, transactionId), readers.childrenPayForParent);
+    }
+
+    @Override
+    public CompletableFuture<Transaction> getTransaction(String transactionId) {
+        return fetch(request(TRANSACTION, transactionId), readers.transaction);
+    }
+
+    @Override
+    public CompletableFuture<String> getTransactionHex(String transactionId) {
+        return fetchText(request(TRANSACTION_HEX, transactionId));
+    }
+
+    @Override
+    public CompletableFuture<String> getTransactionMerkleblockProof(String transactionId) {
+        return fetchText(request(TRANSACTION_MERKLEBLOCK_PROOF, transactionId));
+    }
+
+    @Override
+    public CompletableFuture<TransactionMerkleProof> getTransactionMerkleProof(String transactionId) {
+        return fetch(request(TRANSACTION_MERKLE_PROOF, transactionId), readers.transactionMerkleProof);
+    }
+
+    @Override
+    public CompletableFuture<TransactionOutspend> getTransactionOutspend(String transactionId, int vout) {
+        return fetch(request(TRANSACTION_OUTSPEND, transactionId, vout), readers.transactionOutspend);
+    }
+
+    @Override
+    public CompletableFuture<List<TransactionOutspend>> getTransactionOutspends(String transactionId) {
+        return fetch(request(TRANSACTION_OUTSPENDS, transactionId), readers.transactionOutspendList);
+    }
+
+    @Override
+    public CompletableFuture<byte[]> getTransactionRaw(String transactionId) {
+        return fetchBytes(request(TRANSACTION_RAW, transactionId));
+    }
+
+    @Override
+    public CompletableFuture<TransactionStatus> getTransactionStatus(String transactionId) {
+        return fetch(request(TRANSACTION_STATUS, transactionId), readers.transactionStatus);
+    }
+
+    @Override
+    public CompletableFuture<NetworkStats> getNetworkStats(TimePeriod interval) {
+        return fetch(request(NETWORK_STATS, interval.getPeriod()), readers.networkStats);
+    }
+
+    @Override
+    public CompletableFuture<NodesChannelsSearchResult> getNodesChannels(String query) {
+        return fetch(request(NODES_CHANNELS, query), readers.nodesChannelsSearchResult);
+    }
+
+    @Override
+    public CompletableFuture<NodesInCountry> getNodesInCountry(String country) {
+        return fetch(request(NODES_IN_COUNTRY, country), readers.nodesInCountry);
+    }
+
+    @Override
+    public CompletableFuture<List<NodeStats>> getNodeStatsPerCountry() {
+        return fetch(request(NODES_STATS_PER_COUNTRY), readers.nodeStatsList);
+    }
+
+    @Override
+    public CompletableFuture<ISPNodes> getISPNodes(int isp) {
+        return fetch(request(ISP_NODES, isp), readers.ispNodes);
+    }
+
+    @Override
+    public CompletableFuture<NodeStatsPerISP> getNodeStatsPerISP() {
+        return fetch(request(NODE_STATS_PER_ISP), readers.nodeStatsPerISP);
+    }
+
+    @Override
+    public CompletableFuture<TopNodes> getTop100Nodes() {
+        return fetch(request(TOP_100_NODES), readers.topNodes);
+    }
+
+    @Override
+    public CompletableFuture<List<LightningNode>> getTop100_NodesByLiquidity() {
+        return fetch(request(TOP_100_NODES_LIQUIDITY), readers.lightningNodeList);
+    }
+
+    @Override
+    public CompletableFuture<List<LightningNode>> getTop100_NodesByConnectivity() {
+        return fetch(request(TOP_100_NODES_CONNECTIVITY), readers.lightningNodeList);
+    }
+
+    @Override
+    public CompletableFuture<List<LightningNode>> getTop100_OldestNodes() {
+        return fetch(request(TOP_100_NODES_AGE), readers.lightningNodeList);
+    }
+
+    @Override
+    public CompletableFuture<LightningNode> getNodeStats(String pubKey) {
+        return fetch(request(NODE_STATS, pubKey), readers.lightningNode);
+    }
+
+    @Override
+    public CompletableFuture<List<NodeHistoryStats>> getHistoricalNodeStats(String pubKey) {
+        return fetch(request(HISTORICAL_NODE_STATS, pubKey), readers.nodeHistoryStatsList);
+    }
+
+    @Override
+    public CompletableFuture<LightningChannel> getChannel(String channelId) {
+        return fetch(request(CHANNEL, channelId), readers.lightningChannel);
+    }
+
+    @Override
+    public CompletableFuture<List<ChannelsFromTXID>> getChannelsFromTXID(List<String> txIds) {
+        return fetch(request(CHANNELS_FROM_TXID, txIds), readers.channelsFromTXIDList);
+    }
+
+    @Override
+    public CompletableFuture<List<LightningChannel>> getChannelsFromNodePubKey(String pubKey, ChannelStatus status,
+            Optional<Integer> index) {
+        return fetch(request(CHANNELS_FROM_NODE_PUBKEY, pubKey, status.getStatus(), index.orElse(null)),
+                readers.lightningChannelList);
+    }
+
+    @Override
+    public CompletableFuture<List<ChannelGeodata>> getChannelGeodata() {
+        return fetch(request(CHANNEL_GEODATA), readers.channelGeodataList);
+    }
+
+    @Override
+    public CompletableFuture<List<ChannelGeodata>> getChannelGeodataForNode(String pubKey) {
+        return fetch(request(CHANNEL_GEODATA_FOR_NODE, pubKey), readers.channelGeodataList);
+    }
+
+    @Override
+    public void close() throws IOException {
+        transport.close();
+    }
+
+    private Request request(UrlTemplate endpoint, Object... args) {
+        return Request.get(endpoint.expand(mempoolUrl, args), endpoint.getPattern());
+    }
+
+    /*
+     * JSON and text calls are coalesced by URL: concurrent callers of the same URL share one request and one
+     * deserialized result. They also go through the HTTP cache, so fresh results are reused without a request and
+     * stale ones are revalidated with a conditional GET. Sharing is safe as long as results are read-only: models
+     * have no setters, and the mapper from ObjectMappers binds their lists as unmodifiable. Raw byte[] calls bypass
+     * both, since an array cannot be made read-only.
+     */
+
+    private <T> CompletableFuture<T> fetch(Request request, ModelReader<T> reader) {
+        return fetch(request, (BodyReader<T>) reader::read);
+    }
+
+    private CompletableFuture<String> fetchText(Request request) {
+        return fetch(request, String::new);
+    }
+
+    private <T> CompletableFuture<T> fetch(Request request, BodyReader<T> reader) {
+        return singleFlight.executeAsync(request.getUrl(), () -> {
+            HttpCache.Entry cached = httpCache.get(request.getUrl());
+            if (cached != null && cached.isFresh()) {
+                return CompletableFuture.completedFuture(cached.<T>getValue());
+            }
+            return transport.executeAsync(httpCache.conditional(request, cached)).thenApply(response -> {
+                if (cached != null && response.getStatusCode() == HttpCache.NOT_MODIFIED) {
+                    httpCache.revalidated(request.getUrl(), cached, response.getHeaders());
+                    return cached.<T>getValue();
+                }
+                if (!MempoolApiException.isSuccess(response.getStatusCode())) {
+                    throw new CompletionException(MempoolApiException.of(request, response));
+                }
+                try {
+                    T value = reader.read(response.getBody());
+                    httpCache.store(request.getUrl(), response.getStatusCode(), response.getHeaders(), value);
+                    return value;
+                } catch (IOException e) {
+                    throw new CompletionException(e);
+                }
+            });
+        });
+    }
+
+    private CompletableFuture<byte[]> fetchBytes(Request request) {
+        return transport.executeAsync(request).thenApply(response -> {
+            if (!MempoolApiException.isSuccess(response.getStatusCode())) {
+                throw new CompletionException(MempoolApiException.of(request, response));
+            }
+            return response.getBody();
+        });
+    }
+
+    @FunctionalInterface
+    private interface BodyReader<T> {
+        T read(byte[] body) throws IOException;
+    }
+}
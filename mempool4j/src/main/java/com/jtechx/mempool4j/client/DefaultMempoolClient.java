@@ -0,0 +1,495 @@
+package com.jtechx.mempool4j.client;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jtechx.mempool4j.model.Hash256;
+import com.jtechx.mempool4j.model.address.Address;
+import com.jtechx.mempool4j.model.address.UTXO;
+import com.jtechx.mempool4j.model.block.Block;
+import com.jtechx.mempool4j.model.block.BlockStatus;
+import com.jtechx.mempool4j.model.fee.MempoolBlocksFees;
+import com.jtechx.mempool4j.model.fee.RecommendedFees;
+import com.jtechx.mempool4j.model.general.DifficultyAdjustment;
+import com.jtechx.mempool4j.model.lightning.ChannelGeodata;
+import com.jtechx.mempool4j.model.lightning.ChannelStatus;
+import com.jtechx.mempool4j.model.lightning.ChannelsFromTXID;
+import com.jtechx.mempool4j.model.lightning.ISPNodes;
+import com.jtechx.mempool4j.model.lightning.LightningChannel;
+import com.jtechx.mempool4j.model.lightning.LightningNode;
+import com.jtechx.mempool4j.model.lightning.NetworkStats;
+import com.jtechx.mempool4j.model.lightning.NodeHistoryStats;
+import com.jtechx.mempool4j.model.lightning.NodeStats;
+import com.jtechx.mempool4j.model.lightning.NodeStatsPerISP;
+import com.jtechx.mempool4j.model.lightning.NodesChannelsSearchResult;
+import com.jtechx.mempool4j.model.lightning.NodesInCountry;
+import com.jtechx.mempool4j.model.lightning.TopNodes;
+import com.jtechx.mempool4j.model.mempool.Mempool;
+import com.jtechx.mempool4j.model.mempool.MempoolRecent;
+import com.jtechx.mempool4j.model.mining.BlockFee;
+import com.jtechx.mempool4j.model.mining.BlockFeeRate;
+import com.jtechx.mempool4j.model.mining.BlockReward;
+import com.jtechx.mempool4j.model.mining.BlockSizesAndWeights;
+import com.jtechx.mempool4j.model.mining.HashrateDetails;
+import com.jtechx.mempool4j.model.mining.MiningPoolDetails;
+import com.jtechx.mempool4j.model.mining.MiningPoolHashrate;
+import com.jtechx.mempool4j.model.mining.MiningPools;
+import com.jtechx.mempool4j.model.mining.RewardStats;
+import com.jtechx.mempool4j.model.mining.TimePeriod;
+import com.jtechx.mempool4j.model.transaction.ChildrenPayForParent;
+import com.jtechx.mempool4j.model.transaction.Transaction;
+import com.jtechx.mempool4j.model.transaction.TransactionMerkleProof;
+import com.jtechx.mempool4j.model.transaction.TransactionOutspend;
+import com.jtechx.mempool4j.model.transaction.TransactionStatus;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+
+import static com.jtechx.mempool4j.client.Endpoints.*;
+
+public class DefaultMempoolClient implements MempoolClient, Closeable {
+    private static final String MEMPOOL_DEFAULT_URL = "https://mempool.space";
+    private static final int HTTP_CACHE_MAX_ENTRIES = 1024;
+    private final String mempoolUrl;
+    private final Transport transport;
+    private final ModelReaders readers;
+    private final SingleFlight singleFlight = new SingleFlight();
+    private final HttpCache httpCache = new HttpCache(HTTP_CACHE_MAX_ENTRIES);
+
+    private DefaultMempoolClient(String mempoolUrl, Transport transport, ObjectMapper mapper) {
+        this.mempoolUrl = mempoolUrl;
+        this.transport = transport;
+        this.readers = new ModelReaders(mapper);
+    }
+
+    public static DefaultMempoolClient create() {
+        return create(MEMPOOL_DEFAULT_URL);
+    }
+
+    /**
+     * Creates a client for an instance with the default transport chain: retries and deadlines, a bulkhead and
+     * circuit breaker per endpoint group, and compression. Requests to mempool.space are also paced to stay under
+     * its rate limit; see {@link RateLimitingTransport}. Requests to other instances are not.
+     *
+     * @param mempoolUrl The base URL of the instance.
+     * @return The client.
+     */
+    public static DefaultMempoolClient create(String mempoolUrl) {
+        return create(mempoolUrl, DefaultTransports.forInstance(mempoolUrl));
+    }
+
+    /**
+     * Creates a client that spreads its requests over several instances of the same network, preferring the
+     * fastest and avoiding those that fail or lag behind the tip. See {@link LoadBalancingTransport}.
+     *
+     * @param mempoolUrls The base URLs of the instances.
+     * @return The client.
+     */
+    public static DefaultMempoolClient create(List<String> mempoolUrls) {
+        return create(mempoolUrls.get(0), DefaultTransports.forInstances(mempoolUrls));
+    }
+
+    public static DefaultMempoolClient create(String mempoolUrl, Transport transport) {
+        return create(mempoolUrl, transport, ObjectMappers.create());
+    }
+
+    public static DefaultMempoolClient create(String mempoolUrl, Transport transport, ObjectMapper mapper) {
+        return new DefaultMempoolClient(mempoolUrl, transport, mapper);
+    }
+
+    @Override
+    public DifficultyAdjustment getDifficultyAdjustment() throws IOException {
+        return fetch(request(DIFFICULTY_ADJUSTMENT), readers.difficultyAdjustment);
+    }
+
+    @Override
+    public Address getAddress(String address) throws IOException {
+        return fetch(request(ADDRESS, address), readers.address);
+    }
+
+    @Override
+    public List<Transaction> getAddressTransactions(String address) throws IOException {
+        return fetch(request(ADDRESS_TXS, address), readers.transactionList);
+    }
+
+    @Override
+    public List<Transaction> getAddressTransactionsChain(String address) throws IOException {
+        return fetch(request(ADDRESS_TXS_CHAIN, address), readers.transactionList);
+    }
+
+    @Override
+    public List<Transaction> getAddressTransactionsMempool(String address) throws IOException {
+        return fetch(request(ADDRESS_TXS_MEMPOOL, address), readers.transactionList);
+    }
+
+    @Override
+    public List<UTXO> getAddressUTXO(String address) throws IOException {
+        return fetch(request(ADDRESS_UTXO, address), readers.uTXOList);
+    }
+
+    @Override
+    public Block getBlock(String hash) throws IOException {
+        return fetch(request(BLOCK, hash), readers.block);
+    }
+
+    @Override
+    public String getBlockHeader(String hash) throws IOException {
+        return fetchText(request(BLOCK_HEADER, hash));
+    }
+
+    @Override
+    public String getBlockHeight(int height) throws IOException {
+        return fetchText(request(BLOCK_HEIGHT, height));
+    }
+
+    @Override
+    public byte[] getBlockRaw(String hash) throws IOException {
+        return execute(request(BLOCK_RAW, hash)).getBody();
+    }
+
+    @Override
+    public BlockStatus getBlockStatus(String hash) throws IOException {
+        return fetch(request(BLOCK_STATUS, hash), readers.blockStatus);
+    }
+
+    @Override
+    public int getBlockTipHeight() throws IOException {
+        return Integer.parseInt(fetchText(request(BLOCK_TIP_HEIGHT)));
+    }
+
+    @Override
+    public String getBlockTipHash() throws IOException {
+        return fetchText(request(BLOCK_TIP_HASH));
+    }
+
+    @Override
+    public String getBlockTransactionId(String hash, int index) throws IOException {
+        return fetchText(request(BLOCK_TRANSACTION_ID, hash, index));
+    }
+
+    @Override
+    public List<Hash256> getBlockTransactionIds(String hash) throws IOException {
+        return fetch(request(BLOCK_TRANSACTION_IDS, hash), readers.hash256List);
+    }
+
+    @Override
+    public List<Transaction> getBlockTransactions(String hash, Optional<Integer> startIndex) throws IOException {
+        return fetch(request(BLOCK_TRANSACTIONS, hash, startIndex.map(Object::toString).orElse("")),
+                readers.transactionList);
+    }
+
+    @Override
+    public List<Block> getBlocks(Optional<Integer> startHeight) throws IOException {
+        return fetch(request(BLOCKS, startHeight.map(Object::toString).orElse("")), readers.blockList);
+    }
+
+    @Override
+    public List<Block> getBlocksBulk(int minHeight, Optional<Integer> maxHeight) throws IOException {
+        return fetch(request(BLOCKS_BULK, minHeight, maxHeight.map(Object::toString).orElse("")), readers.blockList);
+    }
+
+    @Override
+    public Stream<Block> streamBlocksBulk(int minHeight, Optional<Integer> maxHeight) throws IOException {
+        return fetchStream(request(BLOCKS_BULK, minHeight, maxHeight.map(Object::toString).orElse("")), readers.block);
+    }
+
+    @Override
+    public MiningPools getMiningPools(TimePeriod period) throws IOException {
+        return fetch(request(MINING_POOLS, period.getPeriod()), readers.miningPools);
+    }
+
+    @Override
+    public MiningPoolDetails getMiningPool(String slug) throws IOException {
+        return fetch(request(MINING_POOL, slug), readers.miningPoolDetails);
+    }
+
+    @Override
+    public HashrateDetails getMiningPoolHashrates(Optional<TimePeriod> period) throws IOException {
+        return fetch(request(MINING_POOL_HASHRATES, period.map(TimePeriod::getPeriod).orElse("")),
+                readers.hashrateDetails);
+    }
+
+    @Override
+    public List<MiningPoolHashrate> getMiningPoolHashrate(String slug) throws IOException {
+        return fetch(request(MINING_POOL_HASHRATE, slug), readers.miningPoolHashrateList);
+    }
+
+    @Override
+    public List<Block> getMiningPoolBlocks(String slug, Optional<Integer> blockHeight) throws IOException {
+        return fetch(request(MINING_POOL_BLOCKS, slug, blockHeight.map(Object::toString).orElse("")),
+                readers.blockList);
+    }
+
+    @Override
+    public HashrateDetails getHashrate(TimePeriod period) throws IOException {
+        return fetch(request(HASHRATE, period.getPeriod()), readers.hashrateDetails);
+    }
+
+    @Override
+    public RewardStats getRewardStats(int blockCount) throws IOException {
+        return fetch(request(REWARD_STATS, blockCount), readers.rewardStats);
+    }
+
+    @Override
+    public List<BlockFee> getBlockFees(TimePeriod period) throws IOException {
+        return fetch(request(BLOCK_FEES, period.getPeriod()), readers.blockFeeList);
+    }
+
+    @Override
+    public List<BlockReward> getBlockRewards(TimePeriod period) throws IOException {
+        return fetch(request(BLOCK_REWARDS, period.getPeriod()), readers.blockRewardList);
+    }
+
+    @Override
+    public List<BlockFeeRate> getBlockFeeRates(TimePeriod period) throws IOException {
+        return fetch(request(BLOCK_FEE_RATES, period.getPeriod()), readers.blockFeeRateList);
+    }
+
+    @Override
+    public BlockSizesAndWeights getBlockSizesAndWeights(TimePeriod period) throws IOException {
+        return fetch(request(BLOCK_SIZES_AND_WEIGHTS, period.getPeriod()), readers.blockSizesAndWeights);
+    }
+
+    @Override
+    public List<MempoolBlocksFees> getMempoolBlockFees() throws IOException {
+        return fetch(request(MEMPOOL_BLOCK_FEES), readers.mempoolBlocksFeesList);
+    }
+
+    @Override
+    public RecommendedFees getRecommendedFees() throws IOException {
+        return fetch(request(RECOMMENDED_FEES), readers.recommendedFees);
+    }
+
+    @Override
+    public Mempool getMempool() throws IOException {
+        return fetch(request(MEMPOOL), readers.mempool);
+    }
+
+    @Override
+    public List<Hash256> getMempoolTransactionIds() throws IOException {
+        return fetch(request(MEMPOOL_TXIDS), readers.hash256List);
+    }
+
+    @Override
+    public Stream<Hash256> streamMempoolTransactionIds() throws IOException {
+        return fetchStream(request(MEMPOOL_TXIDS), readers.hash256);
+    }
+
+    @Override
+    public List<MempoolRecent> getMempoolRecent() throws IOException {
+        return fetch(request(MEMPOOL_RECENT), readers.mempoolRecentList);
+    }
+
+    @Override
+    public ChildrenPayForParent getChildrenPayForParent(String transactionId) throws IOException {
+        return fetch(request(CHILDREN_PAY_FOR_PARENT, transactionId), readers.childrenPayForParent);
+    }
+
+    @Override
+    public Transaction getTransaction(String transactionId) throws IOException {
+        return fetch(request(TRANSACTION, transactionId), readers.transaction);
+    }
+
+    @Override
+    public String getTransactionHex(String transactionId) throws IOException {
+        return fetchText(request(TRANSACTION_HEX, transactionId));
+    }
+
+    @Override
+    public String getTransactionMerkleblockProof(String transactionId) throws IOException {
+        return fetchText(request(TRANSACTION_MERKLEBLOCK_PROOF, transactionId));
+    }
+
+    @Override
+    public TransactionMerkleProof getTransactionMerkleProof(String transactionId) throws IOException {
+        return fetch(request(TRANSACTION_MERKLE_PROOF, transactionId), readers.transactionMerkleProof);
+    }
+
+    @Override
+    public TransactionOutspend getTransactionOutspend(String transactionId, int vout) throws IOException {
+        return fetch(request(TRANSACTION_OUTSPEND, transactionId, vout), readers.transactionOutspend);
+    }
+
+    @Override
+    public List<TransactionOutspend> getTransactionOutspends(String transactionId) throws IOException {
+        return fetch(request(TRANSACTION_OUTSPENDS, transactionId), readers.transactionOutspendList);
+    }
+
+    @Override
+    public byte[] getTransactionRaw(String transactionId) throws IOException {
+        return execute(request(TRANSACTION_RAW, transactionId)).getBody();
+    }
+
+    @Override
+    public TransactionStatus getTransactionStatus(String transactionId) throws IOException {
+        return fetch(request(TRANSACTION_STATUS, transactionId), readers.transactionStatus);
+    }
+
+    @Override
+    public NetworkStats getNetworkStats(TimePeriod interval) throws IOException {
+        return fetch(request(NETWORK_STATS, interval.getPeriod()), readers.networkStats);
+    }
+
+    @Override
+    public NodesChannelsSearchResult getNodesChannels(String query) throws IOException {
+        return fetch(request(NODES_CHANNELS, query), readers.nodesChannelsSearchResult);
+    }
+
+    @Override
+    public NodesInCountry getNodesInCountry(String country) throws IOException {
+        return fetch(request(NODES_IN_COUNTRY, country), readers.nodesInCountry);
+    }
+
+    @Override
+    public List<NodeStats> getNodeStatsPerCountry() throws IOException {
+        return fetch(request(NODES_STATS_PER_COUNTRY), readers.nodeStatsList);
+    }
+
+    @Override
+    public ISPNodes getISPNodes(int isp) throws IOException {
+        return fetch(request(ISP_NODES, isp), readers.ispNodes);
+    }
+
+    @Override
+    public NodeStatsPerISP getNodeStatsPerISP() throws IOException {
+        return fetch(request(NODE_STATS_PER_ISP), readers.nodeStatsPerISP);
+    }
+
+    @Override
+    public TopNodes getTop100Nodes() throws IOException {
+        return fetch(request(TOP_100_NODES), readers.topNodes);
+    }
+
+    @Override
+    public List<LightningNode> getTop100_NodesByLiquidity() throws IOException {
+        return fetch(request(TOP_100_NODES_LIQUIDITY), readers.lightningNodeList);
+    }
+
+    @Override
+    public List<LightningNode> getTop100_NodesByConnectivity() throws IOException {
+        return fetch(request(TOP_100_NODES_CONNECTIVITY), readers.lightningNodeList);
+    }
+
+    @Override
+    public List<LightningNode> getTop100_OldestNodes() throws IOException {
+        return fetch(request(TOP_100_NODES_AGE), readers.lightningNodeList);
+    }
+
+    @Override
+    public LightningNode getNodeStats(String pubKey) throws IOException {
+        return fetch(request(NODE_STATS, pubKey), readers.lightningNode);
+    }
+
+    @Override
+    public List<NodeHistoryStats> getHistoricalNodeStats(String pubKey) throws IOException {
+        return fetch(request(HISTORICAL_NODE_STATS, pubKey), readers.nodeHistoryStatsList);
+    }
+
+    @Override
+    public LightningChannel getChannel(String channelId) throws IOException {
+        return fetch(request(CHANNEL, channelId), readers.lightningChannel);
+    }
+
+    @Override
+    public List<ChannelsFromTXID> getChannelsFromTXID(List<String> txIds) throws IOException {
+        return fetch(request(CHANNELS_FROM_TXID, txIds), readers.channelsFromTXIDList);
+    }
+
+    @Override
+    public List<LightningChannel> getChannelsFromNodePubKey(String pubKey, ChannelStatus status, Optional<Integer> index)
+            throws IOException {
+        return fetch(request(CHANNELS_FROM_NODE_PUBKEY, pubKey, status.getStatus(), index.orElse(null)),
+                readers.lightningChannelList);
+    }
+
+    @Override
+    public List<ChannelGeodata> getChannelGeodata() throws IOException {
+        return fetch(request(CHANNEL_GEODATA), readers.channelGeodataList);
+    }
+
+    @Override
+    public Stream<ChannelGeodata> streamChannelGeodata() throws IOException {
+        return fetchStream(request(CHANNEL_GEODATA), readers.channelGeodata);
+    }
+
+    @Override
+    public List<ChannelGeodata> getChannelGeodataForNode(String pubKey) throws IOException {
+        return fetch(request(CHANNEL_GEODATA_FOR_NODE, pubKey), readers.channelGeodataList);
+    }
+
+    @Override
+    public void close() throws IOException {
+        transport.close();
+    }
+
+    private Request request(UrlTemplate endpoint, Object... args) {
+        return Request.get(endpoint.expand(mempoolUrl, args), endpoint.getPattern());
+    }
+
+    /*
+     * JSON and text calls are coalesced by URL: concurrent callers of the same URL share one request and one
+     * deserialized result. They also go through the HTTP cache, so fresh results are reused without a request and
+     * stale ones are revalidated with a conditional GET. Sharing is safe as long as results are read-only: models
+     * have no setters, and the mapper from ObjectMappers binds their lists as unmodifiable. Raw byte[] and streaming
+     * calls bypass both, since an array cannot be made read-only and a stream can only be read once.
+     */
+
+    private <T> T fetch(Request request, ModelReader<T> reader) throws IOException {
+        return fetch(request, (BodyReader<T>) reader::read);
+    }
+
+    private String fetchText(Request request) throws IOException {
+        return fetch(request, body -> new String(body.readAllBytes()));
+    }
+
+    private <T> T fetch(Request request, BodyReader<T> reader) throws IOException {
+        return singleFlight.execute(request.getUrl(), () -> {
+            HttpCache.Entry cached = httpCache.get(request.getUrl());
+            if (cached != null && cached.isFresh()) {
+                return cached.getValue();
+            }
+            try (StreamingResponse response = transport.stream(httpCache.conditional(request, cached))) {
+                if (cached != null && response.getStatusCode() == HttpCache.NOT_MODIFIED) {
+                    httpCache.revalidated(request.getUrl(), cached, response.getHeaders());
+                    return cached.getValue();
+                }
+                if (!MempoolApiException.isSuccess(response.getStatusCode())) {
+                    throw MempoolApiException.of(request, response);
+                }
+                T value = reader.read(response.getBody());
+                httpCache.store(request.getUrl(), response.getStatusCode(), response.getHeaders(), value);
+                return value;
+            }
+        });
+    }
+
+    private <T> Stream<T> fetchStream(Request request, ModelReader<T> reader) throws IOException {
+        StreamingResponse response = transport.stream(request);
+        if (!MempoolApiException.isSuccess(response.getStatusCode())) {
+            throw MempoolApiException.of(request, response);
+        }
+        try {
+            JsonParser parser = reader.getObjectReader().createParser(response.getBody());
+            return new JsonArrayIterator<T>(parser, reader.getObjectReader(), response).stream();
+        } catch (IOException | RuntimeException e) {
+            response.close();
+            throw e;
+        }
+    }
+
+    private Response execute(Request request) throws IOException {
+        Response response = transport.execute(request);
+        if (!MempoolApiException.isSuccess(response.getStatusCode())) {
+            throw MempoolApiException.of(request, response);
+        }
+        return response;
+    }
+
+    @FunctionalInterface
+    private interface BodyReader<T> {
+        T read(InputStream body) throws IOException;
+    }
+}
@@ -0,0 +1,67 @@
+package com.jtechx.mempool4j.client;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * The transport chains {@link DefaultMempoolClient} and {@link DefaultAsyncMempoolClient} are created with when none
+ * is given.
+ * <p>
+ * Requests are only paced for the public instance at mempool.space, whose rate limit is known to exist; a
+ * self-hosted instance gets as many requests as its callers make, as it did before rate limiting was added.
+ */
+final class DefaultTransports {
+    private static final String PUBLIC_HOST = "mempool.space";
+
+    private DefaultTransports() {
+    }
+
+    /**
+     * Creates the chain for a single instance.
+     *
+     * @param mempoolUrl The base URL of the instance.
+     * @return The transport.
+     */
+    static Transport forInstance(String mempoolUrl) {
+        Transport transport = IsolatingTransport.create(CompressionTransport.create(HttpClientTransport.create()));
+        if (isPublic(mempoolUrl)) {
+            transport = RateLimitingTransport.create(transport);
+        }
+        return RetryingTransport.create(transport);
+    }
+
+    /**
+     * Creates the chain for several instances of the same network, each of which gets its own rate limiter and
+     * isolation below the load balancer.
+     *
+     * @param mempoolUrls The base URLs of the instances.
+     * @return The transport.
+     */
+    static Transport forInstances(List<String> mempoolUrls) {
+        // one connection pool for all, but a rate limit, bulkheads and circuit breakers per instance, so that one
+        // failing instance does not trip the breakers of the others
+        Transport http = CompressionTransport.create(HttpClientTransport.create());
+        return RetryingTransport.create(LoadBalancingTransport.createPerBackend(mempoolUrls, url -> {
+            Transport transport = IsolatingTransport.create(http);
+            return isPublic(url) ? RateLimitingTransport.create(transport) : transport;
+        }, 0));
+    }
+
+    /**
+     * Tells whether a URL points at mempool.space or one of its subdomains.
+     */
+    private static boolean isPublic(String mempoolUrl) {
+        String host;
+        try {
+            host = URI.create(mempoolUrl).getHost();
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        if (host == null) {
+            return false;
+        }
+        host = host.toLowerCase(Locale.ROOT);
+        return host.equals(PUBLIC_HOST) || host.endsWith("." + PUBLIC_HOST);
+    }
+}
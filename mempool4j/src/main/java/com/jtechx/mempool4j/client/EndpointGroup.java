@@ -0,0 +1,50 @@
+package com.jtechx.mempool4j.client;
+
+import static com.jtechx.mempool4j.client.Endpoints.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The sections of {@link Endpoints}, which mempool instances tend to serve from differently loaded backends and
+ * which are therefore limited and monitored separately.
+ */
+public enum EndpointGroup {
+    GENERAL, ADDRESSES, BLOCKS, MINING, FEES, MEMPOOL, TRANSACTIONS, LIGHTNING;
+
+    private static final Map<String, EndpointGroup> GROUPS = new HashMap<>();
+
+    static {
+        put(GENERAL, DIFFICULTY_ADJUSTMENT, WEBSOCKET);
+        put(ADDRESSES, ADDRESS, ADDRESS_TXS, ADDRESS_TXS_CHAIN, ADDRESS_TXS_MEMPOOL, ADDRESS_UTXO);
+        put(BLOCKS, BLOCK, BLOCK_HEADER, BLOCK_HEIGHT, BLOCK_RAW, BLOCK_STATUS, BLOCK_TIP_HEIGHT, BLOCK_TIP_HASH,
+                BLOCK_TRANSACTION_ID, BLOCK_TRANSACTION_IDS, BLOCK_TRANSACTIONS, Endpoints.BLOCKS, BLOCKS_BULK);
+        put(MINING, MINING_POOLS, MINING_POOL, MINING_POOL_HASHRATES, MINING_POOL_HASHRATE, MINING_POOL_BLOCKS,
+                HASHRATE, REWARD_STATS, BLOCK_FEES, BLOCK_REWARDS, BLOCK_FEE_RATES, BLOCK_SIZES_AND_WEIGHTS);
+        put(FEES, MEMPOOL_BLOCK_FEES, RECOMMENDED_FEES);
+        put(MEMPOOL, Endpoints.MEMPOOL, MEMPOOL_TXIDS, MEMPOOL_RECENT);
+        put(TRANSACTIONS, CHILDREN_PAY_FOR_PARENT, TRANSACTION, TRANSACTION_HEX, TRANSACTION_MERKLEBLOCK_PROOF,
+                TRANSACTION_MERKLE_PROOF, TRANSACTION_OUTSPEND, TRANSACTION_OUTSPENDS, TRANSACTION_RAW,
+                TRANSACTION_STATUS);
+        put(LIGHTNING, NETWORK_STATS, NODES_CHANNELS, NODES_IN_COUNTRY, NODES_STATS_PER_COUNTRY, ISP_NODES,
+                NODE_STATS_PER_ISP, TOP_100_NODES, TOP_100_NODES_LIQUIDITY, TOP_100_NODES_CONNECTIVITY,
+                TOP_100_NODES_AGE, NODE_STATS, HISTORICAL_NODE_STATS, CHANNEL, CHANNELS_FROM_TXID,
+                CHANNELS_FROM_NODE_PUBKEY, CHANNEL_GEODATA, CHANNEL_GEODATA_FOR_NODE);
+    }
+
+    /**
+     * Looks up the group of an {@link Endpoints} pattern, as returned by {@link Request#getEndpoint()}.
+     *
+     * @param endpoint The pattern, or {@code null}.
+     * @return The group, or {@link #GENERAL} for requests not built from a known pattern.
+     */
+    public static EndpointGroup of(String endpoint) {
+        return endpoint == null ? GENERAL : GROUPS.getOrDefault(endpoint, GENERAL);
+    }
+
+    private static void put(EndpointGroup group, UrlTemplate... endpoints) {
+        for (UrlTemplate endpoint : endpoints) {
+            GROUPS.put(endpoint.getPattern(), group);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.jtechx.mempool4j.client;
+
+public class Endpoints {
+
+    /**
+     * General
+     * */
+    public static final UrlTemplate DIFFICULTY_ADJUSTMENT = UrlTemplate.compile("/api/v1/difficulty-adjustment");
+
+    /**
+     * Addresses
+     * */
+    public static final UrlTemplate ADDRESS = UrlTemplate.compile("/api/address/%s");
+    public static final UrlTemplate ADDRESS_TXS = UrlTemplate.compile("/api/address/%s/txs");
+    public static final UrlTemplate ADDRESS_TXS_CHAIN = UrlTemplate.compile("/api/address/%s/txs/chain");
+    public static final UrlTemplate ADDRESS_TXS_MEMPOOL = UrlTemplate.compile("/api/address/%s/txs/mempool");
+    public static final UrlTemplate ADDRESS_UTXO = UrlTemplate.compile("/api/address/%s/utxo");
+
+    /**
+     * Blocks
+     * */
+    public static final UrlTemplate BLOCK = UrlTemplate.compile("/api/block/%s");
+    public static final UrlTemplate BLOCK_HEADER = UrlTemplate.compile("/api/block/%s/header");
+    public static final UrlTemplate BLOCK_HEIGHT = UrlTemplate.compile("/api/block-height/%s");
+    public static final UrlTemplate BLOCK_RAW = UrlTemplate.compile("/api/block/%s/raw");
+    public static final UrlTemplate BLOCK_STATUS = UrlTemplate.compile("/api/block/%s/status");
+    public static final UrlTemplate BLOCK_TIP_HEIGHT = UrlTemplate.compile("/api/blocks/tip/height");
+    public static final UrlTemplate BLOCK_TIP_HASH = UrlTemplate.compile("/api/blocks/tip/hash");
+    public static final UrlTemplate BLOCK_TRANSACTION_ID = UrlTemplate.compile("/api/block/%s/txid/%s");
+    public static final UrlTemplate BLOCK_TRANSACTION_IDS = UrlTemplate.compile("/api/block/%s/txids");
+    public static final UrlTemplate BLOCK_TRANSACTIONS = UrlTemplate.compile("/api/block/%s/txs/%s");
+    public static final UrlTemplate BLOCKS = UrlTemplate.compile("/api/v1/blocks/%s");
+    public static final UrlTemplate BLOCKS_BULK = UrlTemplate.compile("/api/v1/blocks-bulk/%s/%s");
+
+    /**
+     * Mining
+     * */
+    public static final UrlTemplate MINING_POOLS = UrlTemplate.compile("/api/v1/mining/pools/%s");
+    public static final UrlTemplate MINING_POOL = UrlTemplate.compile("/api/v1/mining/pool/%s");
+    public static final UrlTemplate MINING_POOL_HASHRATES = UrlTemplate.compile("/api/v1/mining/hashrate/pools/%s");
+    public static final UrlTemplate MINING_POOL_HASHRATE = UrlTemplate.compile("/api/v1/mining/pool/%s/hashrate");
+    public static final UrlTemplate MINING_POOL_BLOCKS = UrlTemplate.compile("/api/v1/mining/pool/%s/blocks/%s");
+    public static final UrlTemplate HASHRATE = UrlTemplate.compile("/api/v1/mining/hashrate/%s");
+    public static final UrlTemplate REWARD_STATS = UrlTemplate.compile("/api/v1/mining/reward-stats/%s");
+    public static final UrlTemplate BLOCK_FEES = UrlTemplate.compile("/api/v1/mining/blocks/fees/%s");
+    public static final UrlTemplate BLOCK_REWARDS = UrlTemplate.compile("/api/v1/mining/blocks/rewards/%s");
+    public static final UrlTemplate BLOCK_FEE_RATES = UrlTemplate.compile("/api/v1/mining/blocks/fee-rates/%s");
+    public static final UrlTemplate BLOCK_SIZES_AND_WEIGHTS =
+            UrlTemplate.compile("/api/v1/mining/blocks/sizes-weights/%s");
+
+    /**
+     * Fees
+     * */
+    public static final UrlTemplate MEMPOOL_BLOCK_FEES = UrlTemplate.compile("/api/v1/fees/mempool-blocks");
+    public static final UrlTemplate RECOMMENDED_FEES = UrlTemplate.compile("/api/v1/fees/recommended");
+
+    /**
+     * Mempool
+     * */
+    public static final UrlTemplate MEMPOOL = UrlTemplate.compile("/api/mempool");
+    public static final UrlTemplate MEMPOOL_TXIDS = UrlTemplate.compile("/api/mempool/txids");
+    public static final UrlTemplate MEMPOOL_RECENT = UrlTemplate.compile("/api/mempool/recent");
+
+    /**
+     * Transactions
+     * */
+    public static final UrlTemplate CHILDREN_PAY_FOR_PARENT = UrlTemplate.compile("/api/v1/cpfp/%s");
+    public static final UrlTemplate TRANSACTION = UrlTemplate.compile("/api/tx/%s");
+    public static final UrlTemplate TRANSACTION_HEX = UrlTemplate.compile("/api/tx/%s/hex");
+    public static final UrlTemplate TRANSACTION_MERKLEBLOCK_PROOF = UrlTemplate.compile("/api/tx/%s/merkleblock-proof");
+    public static final UrlTemplate TRANSACTION_MERKLE_PROOF = UrlTemplate.compile("/api/tx/%s/merkle-proof");
+    public static final UrlTemplate TRANSACTION_OUTSPEND = UrlTemplate.compile("/api/tx/%s/outspend/%s");
+    public static final UrlTemplate TRANSACTION_OUTSPENDS = UrlTemplate.compile("/api/tx/%s/outspends");
+    public static final UrlTemplate TRANSACTION_RAW = UrlTemplate.compile("/api/tx/%s/raw");
+    public static final UrlTemplate TRANSACTION_STATUS = UrlTemplate.compile("/api/tx/%s/status");
+
+    /**
+     * Lightning
+     * */
+    public static final UrlTemplate NETWORK_STATS = UrlTemplate.compile("/api/v1/lightning/statistics/%s");
+    public static final UrlTemplate NODES_CHANNELS = UrlTemplate.compile("/api/v1/lightning/search?searchText=%s");
+    public static final UrlTemplate NODES_IN_COUNTRY = UrlTemplate.compile("/api/v1/lightning/nodes/country/%s");
+    public static final UrlTemplate NODES_STATS_PER_COUNTRY = UrlTemplate.compile("/api/v1/lightning/nodes/countries");
+    public static final UrlTemplate ISP_NODES = UrlTemplate.compile("/api/v1/lightning/nodes/isp/%s");
+    public static final UrlTemplate NODE_STATS_PER_ISP = UrlTemplate.compile("/api/v1/lightning/nodes/isp-ranking");
+    public static final UrlTemplate TOP_100_NODES = UrlTemplate.compile("/api/v1/lightning/nodes/rankings");
+    public static final UrlTemplate TOP_100_NODES_LIQUIDITY =
+            UrlTemplate.compile("/api/v1/lightning/nodes/rankings/liquidity");
+    public static final UrlTemplate TOP_100_NODES_CONNECTIVITY =
+            UrlTemplate.compile("/api/v1/lightning/nodes/rankings/connectivity");
+    public static final UrlTemplate TOP_100_NODES_AGE = UrlTemplate.compile("/api/v1/lightning/nodes/rankings/age");
+    public static final UrlTemplate NODE_STATS = UrlTemplate.compile("/api/v1/lightning/nodes/%s");
+    public static final UrlTemplate HISTORICAL_NODE_STATS =
+            UrlTemplate.compile("/api/v1/lightning/nodes/%s/statistics");
+    public static final UrlTemplate CHANNEL = UrlTemplate.compile("/api/v1/lightning/channels/%s");
+    public static final UrlTemplate CHANNELS_FROM_TXID =
+            UrlTemplate.compile("/api/v1/lightning/channels/txids?txId[]=%s");
+    public static final UrlTemplate CHANNELS_FROM_NODE_PUBKEY =
+            UrlTemplate.compile("/api/v1/lightning/channels?public_key=%s&status=%s&index=%s");
+    public static final UrlTemplate CHANNEL_GEODATA = UrlTemplate.compile("/api/v1/lightning/channels-geo");
+    public static final UrlTemplate CHANNEL_GEODATA_FOR_NODE = UrlTemplate.compile("/api/v1/lightning/channels-geo/%s");
+
+    /**
+     * WebSocket
+     * */
+    public static final UrlTemplate WEBSOCKET = UrlTemplate.compile("/api/v1/ws");
+}
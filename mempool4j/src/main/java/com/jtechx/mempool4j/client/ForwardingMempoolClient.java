@@ -0,0 +1,376 @@
+package com.jtechx.mempool4j.client;
+
+import com.jtechx.mempool4j.model.Hash256;
+import com.jtechx.mempool4j.model.address.Address;
+import com.jtechx.mempool4j.model.address.UTXO;
+import com.jtechx.mempool4j.model.block.Block;
+import com.jtechx.mempool4j.model.block.BlockStatus;
+import com.jtechx.mempool4j.model.fee.MempoolBlocksFees;
+import com.jtechx.mempool4j.model.fee.RecommendedFees;
+import com.jtechx.mempool4j.model.general.DifficultyAdjustment;
+import com.jtechx.mempool4j.model.lightning.ChannelGeodata;
+import com.jtechx.mempool4j.model.lightning.ChannelStatus;
+import com.jtechx.mempool4j.model.lightning.ChannelsFromTXID;
+import com.jtechx.mempool4j.model.lightning.ISPNodes;
+import com.jtechx.mempool4j.model.lightning.LightningChannel;
+import com.jtechx.mempool4j.model.lightning.LightningNode;
+import com.jtechx.mempool4j.model.lightning.NetworkStats;
+import com.jtechx.mempool4j.model.lightning.NodeHistoryStats;
+import com.jtechx.mempool4j.model.lightning.NodeStats;
+import com.jtechx.mempool4j.model.lightning.NodeStatsPerISP;
+import com.jtechx.mempool4j.model.lightning.NodesChannelsSearchResult;
+import com.jtechx.mempool4j.model.lightning.NodesInCountry;
+import com.jtechx.mempool4j.model.lightning.TopNodes;
+import com.jtechx.mempool4j.model.mempool.Mempool;
+import com.jtechx.mempool4j.model.mempool.MempoolRecent;
+import com.jtechx.mempool4j.model.mining.BlockFee;
+import com.jtechx.mempool4j.model.mining.BlockFeeRate;
+import com.jtechx.mempool4j.model.mining.BlockReward;
+import com.jtechx.mempool4j.model.mining.BlockSizesAndWeights;
+import com.jtechx.mempool4j.model.mining.HashrateDetails;
+import com.jtechx.mempool4j.model.mining.MiningPoolDetails;
+import com.jtechx.mempool4j.model.mining.MiningPoolHashrate;
+import com.jtechx.mempool4j.model.mining.MiningPools;
+import com.jtechx.mempool4j.model.mining.RewardStats;
+import com.jtechx.mempool4j.model.mining.TimePeriod;
+import com.jtechx.mempool4j.model.transaction.ChildrenPayForParent;
+import com.jtechx.mempool4j.model.transaction.Transaction;
+import com.jtechx.mempool4j.model.transaction.TransactionMerkleProof;
+import com.jtechx.mempool4j.model.transaction.TransactionOutspend;
+import com.jtechx.mempool4j.model.transaction.TransactionStatus;
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * A {@link MempoolClient} that forwards every call to another client. Decorators extend this class and override
+ * only the calls they change.
+ * <p>
+ * {@link #getAllBlockTransactions(String)} and {@link #streamAllBlockTransactions(String)} are deliberately not
+ * forwarded, so the pages they fetch go through the decorated {@link #getBlock(String)} and
+ * {@link #getBlockTransactions(String, Optional)}.
+ */
+public abstract class ForwardingMempoolClient implements MempoolClient {
+    protected final MempoolClient delegate;
+
+    protected ForwardingMempoolClient(MempoolClient delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public DifficultyAdjustment getDifficultyAdjustment() throws IOException {
+        return delegate.getDifficultyAdjustment();
+    }
+
+    @Override
+    public Address getAddress(String address) throws IOException {
+        return delegate.getAddress(address);
+    }
+
+    @Override
+    public List<Transaction> getAddressTransactions(String address) throws IOException {
+        return delegate.getAddressTransactions(address);
+    }
+
+    @Override
+    public List<Transaction> getAddressTransactionsChain(String address) throws IOException {
+        return delegate.getAddressTransactionsChain(address);
+    }
+
+    @Override
+    public List<Transaction> getAddressTransactionsMempool(String address) throws IOException {
+        return delegate.getAddressTransactionsMempool(address);
+    }
+
+    @Override
+    public List<UTXO> getAddressUTXO(String address) throws IOException {
+        return delegate.getAddressUTXO(address);
+    }
+
+    @Override
+    public Block getBlock(String hash) throws IOException {
+        return delegate.getBlock(hash);
+    }
+
+    @Override
+    public String getBlockHeader(String hash) throws IOException {
+        return delegate.getBlockHeader(hash);
+    }
+
+    @Override
+    public String getBlockHeight(int height) throws IOException {
+        return delegate.getBlockHeight(height);
+    }
+
+    @Override
+    public byte[] getBlockRaw(String hash) throws IOException {
+        return delegate.getBlockRaw(hash);
+    }
+
+    @Override
+    public BlockStatus getBlockStatus(String hash) throws IOException {
+        return delegate.getBlockStatus(hash);
+    }
+
+    @Override
+    public int getBlockTipHeight() throws IOException {
+        return delegate.getBlockTipHeight();
+    }
+
+    @Override
+    public String getBlockTipHash() throws IOException {
+        return delegate.getBlockTipHash();
+    }
+
+    @Override
+    public String getBlockTransactionId(String hash, int index) throws IOException {
+        return delegate.getBlockTransactionId(hash, index);
+    }
+
+    @Override
+    public List<Hash256> getBlockTransactionIds(String hash) throws IOException {
+        return delegate.getBlockTransactionIds(hash);
+    }
+
+    @Override
+    public List<Transaction> getBlockTransactions(String hash, Optional<Integer> startIndex) throws IOException {
+        return delegate.getBlockTransactions(hash, startIndex);
+    }
+
+    @Override
+    public List<Block> getBlocks(Optional<Integer> startHeight) throws IOException {
+        return delegate.getBlocks(startHeight);
+    }
+
+    @Override
+    public List<Block> getBlocksBulk(int minHeight, Optional<Integer> maxHeight) throws IOException {
+        return delegate.getBlocksBulk(minHeight, maxHeight);
+    }
+
+    @Override
+    public Stream<Block> streamBlocksBulk(int minHeight, Optional<Integer> maxHeight) throws IOException {
+        return delegate.streamBlocksBulk(minHeight, maxHeight);
+    }
+
+    @Override
+    public MiningPools getMiningPools(TimePeriod period) throws IOException {
+        return delegate.getMiningPools(period);
+    }
+
+    @Override
+    public MiningPoolDetails getMiningPool(String slug) throws IOException {
+        return delegate.getMiningPool(slug);
+    }
+
+    @Override
+    public HashrateDetails getMiningPoolHashrates(Optional<TimePeriod> period) throws IOException {
+        return delegate.getMiningPoolHashrates(period);
+    }
+
+    @Override
+    public List<MiningPoolHashrate> getMiningPoolHashrate(String slug) throws IOException {
+        return delegate.getMiningPoolHashrate(slug);
+    }
+
+    @Override
+    public List<Block> getMiningPoolBlocks(String slug, Optional<Integer> blockHeight) throws IOException {
+        return delegate.getMiningPoolBlocks(slug, blockHeight);
+    }
+
+    @Override
+    public HashrateDetails getHashrate(TimePeriod period) throws IOException {
+        return delegate.getHashrate(period);
+    }
+
+    @Override
+    public RewardStats getRewardStats(int blockCount) throws IOException {
+        return delegate.getRewardStats(blockCount);
+    }
+
+    @Override
+    public List<BlockFee> getBlockFees(TimePeriod period) throws IOException {
+        return delegate.getBlockFees(period);
+    }
+
+    @Override
+    public List<BlockReward> getBlockRewards(TimePeriod period) throws IOException {
+        return delegate.getBlockRewards(period);
+    }
+
+    @Override
+    public List<BlockFeeRate> getBlockFeeRates(TimePeriod period) throws IOException {
+        return delegate.getBlockFeeRates(period);
+    }
+
+    @Override
+    public BlockSizesAndWeights getBlockSizesAndWeights(TimePeriod period) throws IOException {
+        return delegate.getBlockSizesAndWeights(period);
+    }
+
+    @Override
+    public List<MempoolBlocksFees> getMempoolBlockFees() throws IOException {
+        return delegate.getMempoolBlockFees();
+    }
+
+    @Override
+    public RecommendedFees getRecommendedFees() throws IOException {
+        return delegate.getRecommendedFees();
+    }
+
+    @Override
+    public Mempool getMempool() throws IOException {
+        return delegate.getMempool();
+    }
+
+    @Override
+    public List<Hash256> getMempoolTransactionIds() throws IOException {
+        return delegate.getMempoolTransactionIds();
+    }
+
+    @Override
+    public Stream<Hash256> streamMempoolTransactionIds() throws IOException {
+        return delegate.streamMempoolTransactionIds();
+    }
+
+    @Override
+    public List<MempoolRecent> getMempoolRecent() throws IOException {
+        return delegate.getMempoolRecent();
+    }
+
+    @Override
+    public ChildrenPayForParent getChildrenPayForParent(String transactionId) throws IOException {
+        return delegate.getChildrenPayForParent(transactionId);
+    }
+
+    @Override
+    public Transaction getTransaction(String transactionId) throws IOException {
+        return delegate.getTransaction(transactionId);
+    }
+
+    @Override
+    public String getTransactionHex(String transactionId) throws IOException {
+        return delegate.getTransactionHex(transactionId);
+    }
+
+    @Override
+    public String getTransactionMerkleblockProof(String transactionId) throws IOException {
+        return delegate.getTransactionMerkleblockProof(transactionId);
+    }
+
+    @Override
+    public TransactionMerkleProof getTransactionMerkleProof(String transactionId) throws IOException {
+        return delegate.getTransactionMerkleProof(transactionId);
+    }
+
+    @Override
+    public TransactionOutspend getTransactionOutspend(String transactionId, int vout) throws IOException {
+        return delegate.getTransactionOutspend(transactionId, vout);
+    }
+
+    @Override
+    public List<TransactionOutspend> getTransactionOutspends(String transactionId) throws IOException {
+        return delegate.getTransactionOutspends(transactionId);
+    }
+
+    @Override
+    public byte[] getTransactionRaw(String transactionId) throws IOException {
+        return delegate.getTransactionRaw(transactionId);
+    }
+
+    @Override
+    public TransactionStatus getTransactionStatus(String transactionId) throws IOException {
+        return delegate.getTransactionStatus(transactionId);
+    }
+
+    @Override
+    public NetworkStats getNetworkStats(TimePeriod interval) throws IOException {
+        return delegate.getNetworkStats(interval);
+    }
+
+    @Override
+    public NodesChannelsSearchResult getNodesChannels(String query) throws IOException {
+        return delegate.getNodesChannels(query);
+    }
+
+    @Override
+    public NodesInCountry getNodesInCountry(String country) throws IOException {
+        return delegate.getNodesInCountry(country);
+    }
+
+    @Override
+    public List<NodeStats> getNodeStatsPerCountry() throws IOException {
+        return delegate.getNodeStatsPerCountry();
+    }
+
+    @Override
+    public ISPNodes getISPNodes(int isp) throws IOException {
+        return delegate.getISPNodes(isp);
+    }
+
+    @Override
+    public NodeStatsPerISP getNodeStatsPerISP() throws IOException {
+        return delegate.getNodeStatsPerISP();
+    }
+
+    @Override
+    public TopNodes getTop100Nodes() throws IOException {
+        return delegate.getTop100Nodes();
+    }
+
+    @Override
+    public List<LightningNode> getTop100_NodesByLiquidity() throws IOException {
+        return delegate.getTop100_NodesByLiquidity();
+    }
+
+    @Override
+    public List<LightningNode> getTop100_NodesByConnectivity() throws IOException {
+        return delegate.getTop100_NodesByConnectivity();
+    }
+
+    @Override
+    public List<LightningNode> getTop100_OldestNodes() throws IOException {
+        return delegate.getTop100_OldestNodes();
+    }
+
+    @Override
+    public LightningNode getNodeStats(String pubKey) throws IOException {
+        return delegate.getNodeStats(pubKey);
+    }
+
+    @Override
+    public List<NodeHistoryStats> getHistoricalNodeStats(String pubKey) throws IOException {
+        return delegate.getHistoricalNodeStats(pubKey);
+    }
+
+    @Override
+    public LightningChannel getChannel(String channelId) throws IOException {
+        return delegate.getChannel(channelId);
+    }
+
+    @Override
+    public List<ChannelsFromTXID> getChannelsFromTXID(List<String> txIds) throws IOException {
+        return delegate.getChannelsFromTXID(txIds);
+    }
+
+    @Override
+    public List<LightningChannel> getChannelsFromNodePubKey(String pubKey, ChannelStatus status,
+                                                           Optional<Integer> index) throws IOException {
+        return delegate.getChannelsFromNodePubKey(pubKey, status, index);
+    }
+
+    @Override
+    public List<ChannelGeodata> getChannelGeodata() throws IOException {
+        return delegate.getChannelGeodata();
+    }
+
+    @Override
+    public Stream<ChannelGeodata> streamChannelGeodata() throws IOException {
+        return delegate.streamChannelGeodata();
+    }
+
+    @Override
+    public List<ChannelGeodata> getChannelGeodataForNode(String pubKey) throws IOException {
+        return delegate.getChannelGeodataForNode(pubKey);
+    }
+}
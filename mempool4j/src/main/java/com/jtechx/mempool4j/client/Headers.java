@@ -0,0 +1,26 @@
+package com.jtechx.mempool4j.client;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+final class Headers {
+
+    private Headers() {
+    }
+
+    /**
+     * Copies response headers into an unmodifiable map keyed case-insensitively, dropping the null key
+     * {@link java.net.HttpURLConnection} uses for the status line.
+     */
+    static Map<String, List<String>> of(Map<String, List<String>> headers) {
+        Map<String, List<String>> copy = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+            if (header.getKey() != null) {
+                copy.put(header.getKey(), header.getValue());
+            }
+        }
+        return Collections.unmodifiableMap(copy);
+    }
+}
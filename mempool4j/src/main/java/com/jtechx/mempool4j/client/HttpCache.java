@@ -0,0 +1,148 @@
+package com.jtechx.mempool4j.client;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps deserialized responses together with their HTTP validators ({@code ETag}, {@code Last-Modified}) and
+ * freshness lifetime ({@code Cache-Control: max-age}).
+ * <p>
+ * A fresh entry is returned without any request at all. A stale entry turns the next request into a conditional
+ * GET, and a {@code 304 Not Modified} answer hands back the already deserialized value, so nothing is read, parsed
+ * or allocated for the body. Responses marked {@code no-store}, or without validators or a lifetime, are not kept.
+ * Entries are evicted least recently used first once {@code maxEntries} is reached.
+ */
+final class HttpCache {
+    static final int NOT_MODIFIED = 304;
+    private static final int OK = 200;
+
+    private final Map<String, Entry> entries;
+
+    HttpCache(int maxEntries) {
+        this.entries = new LinkedHashMap<String, HttpCache.Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, HttpCache.Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    synchronized Entry get(String url) {
+        return entries.get(url);
+    }
+
+    /**
+     * Adds the validators of a cached entry to a request, if there is one.
+     */
+    Request conditional(Request request, Entry entry) {
+        if (entry == null) {
+            return request;
+        }
+        if (entry.etag != null) {
+            request = request.withHeader("If-None-Match", entry.etag);
+        }
+        if (entry.lastModified != null) {
+            request = request.withHeader("If-Modified-Since", entry.lastModified);
+        }
+        return request;
+    }
+
+    /**
+     * Extends the lifetime of an entry after the server confirmed it is still current.
+     */
+    void revalidated(String url, Entry entry, Map<String, List<String>> headers) {
+        String etag = first(headers, "ETag");
+        String lastModified = first(headers, "Last-Modified");
+        put(url, new Entry(entry.value, etag != null ? etag : entry.etag,
+                lastModified != null ? lastModified : entry.lastModified, expiresAt(headers)));
+    }
+
+    /**
+     * Remembers a successfully deserialized response if its headers allow it to be reused.
+     */
+    void store(String url, int statusCode, Map<String, List<String>> headers, Object value) {
+        if (statusCode != OK || value == null) {
+            return;
+        }
+        String cacheControl = first(headers, "Cache-Control");
+        if (cacheControl != null && cacheControl.toLowerCase(Locale.ROOT).contains("no-store")) {
+            return;
+        }
+        String etag = first(headers, "ETag");
+        String lastModified = first(headers, "Last-Modified");
+        long expiresAt = expiresAt(headers);
+        if (etag == null && lastModified == null && expiresAt <= System.nanoTime()) {
+            return;
+        }
+        put(url, new Entry(value, etag, lastModified, expiresAt));
+    }
+
+    private synchronized void put(String url, Entry entry) {
+        entries.put(url, entry);
+    }
+
+    private static long expiresAt(Map<String, List<String>> headers) {
+        long now = System.nanoTime();
+        String cacheControl = first(headers, "Cache-Control");
+        if (cacheControl == null) {
+            return now;
+        }
+        long maxAge = -1;
+        for (String directive : cacheControl.split(",")) {
+            String normalized = directive.trim().toLowerCase(Locale.ROOT);
+            if (normalized.equals("no-cache")) {
+                return now;
+            }
+            if (normalized.startsWith("max-age=")) {
+                maxAge = parseSeconds(normalized.substring("max-age=".length()));
+            }
+        }
+        if (maxAge <= 0) {
+            return now;
+        }
+        long age = Math.max(0, parseSeconds(first(headers, "Age")));
+        return now + TimeUnit.SECONDS.toNanos(Math.max(0, maxAge - age));
+    }
+
+    private static long parseSeconds(String value) {
+        if (value == null) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(value.trim().replace("\"", ""));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static String first(Map<String, List<String>> headers, String name) {
+        List<String> values = headers.get(name);
+        return values == null || values.isEmpty() ? null : values.get(0);
+    }
+
+    static final class Entry {
+        private final Object value;
+        private final String etag;
+        private final String lastModified;
+        private final long expiresAt;
+
+        private Entry(Object value, String etag, String lastModified, long expiresAt) {
+            this.value = value;
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isFresh() {
+            return System.nanoTime() - expiresAt < 0;
+        }
+
+        @SuppressWarnings("unchecked")
+        <T> T getValue() {
+            return (T) value;
+        }
+    }
+}
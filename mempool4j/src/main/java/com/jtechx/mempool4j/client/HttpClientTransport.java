@@ -0,0 +1,200 @@
+package com.jtechx.mempool4j.client;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Default {@link Transport} built on {@link HttpClient}.
+ * <p>
+ * A single client instance is shared by every call, so requests to the same mempool instance are multiplexed over
+ * pooled HTTP/2 connections (falling back to keep-alive HTTP/1.1 if the server does not negotiate h2) instead of
+ * paying a TCP and TLS handshake per call.
+ * <p>
+ * A {@link Request#getTimeout() request timeout} bounds the whole exchange, not just the wait for the response
+ * headers: a response read into memory must have arrived in full within it, and each read of a streamed body must
+ * return within it. An exchange that takes longer is aborted and fails with {@link HttpTimeoutException}.
+ */
+public class HttpClientTransport implements Transport {
+    private static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(10);
+
+    private final HttpClient httpClient;
+
+    private HttpClientTransport(HttpClient httpClient) {
+        this.httpClient = httpClient;
+    }
+
+    public static HttpClientTransport create() {
+        return new HttpClientTransport(HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .connectTimeout(DEFAULT_CONNECT_TIMEOUT)
+                .build());
+    }
+
+    public static HttpClientTransport create(HttpClient httpClient) {
+        return new HttpClientTransport(httpClient);
+    }
+
+    /**
+     * Retrieves the underlying HTTP client.
+     *
+     * @return The underlying HTTP client.
+     */
+    public HttpClient getHttpClient() {
+        return httpClient;
+    }
+
+    @Override
+    public Response execute(Request request) throws IOException {
+        Exchange exchange = send(request);
+        try {
+            return exchange.response.get();
+        } catch (InterruptedException e) {
+            exchange.abort();
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for " + request.getUrl());
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IOException("Request to " + request.getUrl() + " failed", e.getCause());
+        }
+    }
+
+    @Override
+    public StreamingResponse stream(Request request) throws IOException {
+        try {
+            HttpResponse<InputStream> response = httpClient.send(newRequest(request),
+                    HttpResponse.BodyHandlers.ofInputStream());
+            InputStream body = request.getTimeout() == null ? response.body()
+                    : new ReadTimeoutInputStream(response.body(), request.getTimeout(), request.getUrl());
+            return new StreamingResponse(response.statusCode(), body, Headers.of(response.headers().map()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for " + request.getUrl());
+        }
+    }
+
+    @Override
+    public CompletableFuture<Response> executeAsync(Request request) {
+        return send(request).response;
+    }
+
+    /**
+     * Sends a request whose whole response is read into memory. {@link HttpRequest#timeout()} only bounds the wait
+     * for the response headers, so with a request timeout the body is given what is left of it, and the exchange is
+     * aborted when that runs out.
+     */
+    private Exchange send(Request request) {
+        Exchange exchange = new Exchange();
+        exchange.sent = httpClient.sendAsync(newRequest(request), exchange.body);
+        CompletableFuture<Response> response = exchange.sent.thenApply(result -> new Response(result.statusCode(),
+                result.body(), Headers.of(result.headers().map())));
+        if (request.getTimeout() != null) {
+            response = response.orTimeout(request.getTimeout().toNanos(), TimeUnit.NANOSECONDS).exceptionally(error -> {
+                if (!(error instanceof TimeoutException)) {
+                    throw error instanceof CompletionException ? (CompletionException) error
+                            : new CompletionException(error);
+                }
+                exchange.abort();
+                throw new CompletionException(new HttpTimeoutException("Request to " + request.getUrl()
+                        + " did not complete within " + request.getTimeout()));
+            });
+        }
+        exchange.response = response;
+        return exchange;
+    }
+
+    private HttpRequest newRequest(Request request) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(request.getUrl()))
+                .method(request.getMethod().name(), HttpRequest.BodyPublishers.noBody());
+        request.getHeaders().forEach(builder::header);
+        if (request.getTimeout() != null) {
+            builder.timeout(request.getTimeout());
+        }
+        return builder.build();
+    }
+
+    private static final class Exchange {
+        final AbortableBody body = new AbortableBody();
+        CompletableFuture<HttpResponse<byte[]>> sent;
+        CompletableFuture<Response> response;
+
+        void abort() {
+            // cancelling the future stops an exchange still waiting for its headers, on Java 16 and later; cancelling
+            // the subscription stops one already receiving its body, on any version
+            sent.cancel(true);
+            body.abort();
+        }
+    }
+
+    /**
+     * Reads the body into an array, like {@link HttpResponse.BodyHandlers#ofByteArray()}, but can be stopped midway.
+     */
+    private static final class AbortableBody implements HttpResponse.BodyHandler<byte[]> {
+        private volatile Flow.Subscription subscription;
+        private volatile boolean aborted;
+
+        @Override
+        public HttpResponse.BodySubscriber<byte[]> apply(HttpResponse.ResponseInfo responseInfo) {
+            HttpResponse.BodySubscriber<byte[]> delegate = HttpResponse.BodySubscribers.ofByteArray();
+            return new HttpResponse.BodySubscriber<>() {
+                @Override
+                public CompletionStage<byte[]> getBody() {
+                    return delegate.getBody();
+                }
+
+                @Override
+                public void onSubscribe(Flow.Subscription subscription) {
+                    AbortableBody.this.subscription = subscription;
+                    delegate.onSubscribe(subscription);
+                    if (aborted) {
+                        subscription.cancel();
+                    }
+                }
+
+                @Override
+                public void onNext(List<ByteBuffer> item) {
+                    delegate.onNext(item);
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                    delegate.onError(throwable);
+                }
+
+                @Override
+                public void onComplete() {
+                    delegate.onComplete();
+                }
+            };
+        }
+
+        void abort() {
+            aborted = true;
+            Flow.Subscription current = subscription;
+            if (current != null) {
+                current.cancel();
+            }
+        }
+    }
+}
@@ -0,0 +1,354 @@
+package com.jtechx.mempool4j.client;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link Transport} decorator that keeps a slow or failing {@link EndpointGroup} from taking the others down with
+ * it.
+ * <p>
+ * Each group is a bulkhead with its own cap on concurrent requests, so e.g. a stalled Lightning backend can hold at
+ * most its own share of connections and callers while fee and transaction lookups go on. A request over the cap
+ * waits, first come, first served, for a slot to free up, for at most its {@link Request#getTimeout() timeout}. Each
+ * group also has a circuit breaker that opens when at least half of its last 20 requests failed, counting exceptions
+ * and {@code 5xx} responses, and rejects the group's requests without sending them for 30 seconds. After that a few
+ * trial requests are let through to decide whether to close it again.
+ * <p>
+ * Rejections, by the breaker or for lack of a slot in time, are thrown as {@link RequestRejectedException}. A
+ * streamed request keeps its slot until its body is closed.
+ */
+public class IsolatingTransport implements Transport {
+    private static final int DEFAULT_MAX_CONCURRENT = 32;
+
+    private final Transport delegate;
+    private final Map<EndpointGroup, Group> groups;
+
+    private IsolatingTransport(Transport delegate, int maxConcurrent, Map<EndpointGroup, Integer> groupMaxConcurrent) {
+        this.delegate = delegate;
+        Map<EndpointGroup, Group> map = new EnumMap<>(EndpointGroup.class);
+        for (EndpointGroup group : EndpointGroup.values()) {
+            map.put(group, new Group(groupMaxConcurrent.getOrDefault(group, maxConcurrent)));
+        }
+        this.groups = Collections.unmodifiableMap(map);
+    }
+
+    /**
+     * Creates an isolating transport allowing 32 concurrent requests per endpoint group.
+     *
+     * @param delegate The transport to decorate.
+     * @return The isolating transport.
+     */
+    public static IsolatingTransport create(Transport delegate) {
+        return create(delegate, DEFAULT_MAX_CONCURRENT, Collections.emptyMap());
+    }
+
+    /**
+     * Creates an isolating transport.
+     *
+     * @param delegate The transport to decorate.
+     * @param maxConcurrent The number of concurrent requests allowed per endpoint group.
+     * @param groupMaxConcurrent Other numbers for some endpoint groups, e.g. a lower one for a slow backend.
+     * @return The isolating transport.
+     */
+    public static IsolatingTransport create(Transport delegate, int maxConcurrent,
+            Map<EndpointGroup, Integer> groupMaxConcurrent) {
+        if (maxConcurrent < 1 || groupMaxConcurrent.values().stream().anyMatch(max -> max < 1)) {
+            throw new IllegalArgumentException("Concurrency caps must be positive: " + maxConcurrent + ", "
+                    + groupMaxConcurrent);
+        }
+        return new IsolatingTransport(delegate, maxConcurrent, groupMaxConcurrent);
+    }
+
+    /**
+     * Gets the state of an endpoint group's circuit breaker, as of its last request.
+     *
+     * @param group The endpoint group.
+     * @return The circuit state.
+     */
+    public CircuitState getCircuitState(EndpointGroup group) {
+        return groups.get(group).breaker.getState();
+    }
+
+    /**
+     * Gets the number of requests of an endpoint group currently sent and not yet answered.
+     *
+     * @param group The endpoint group.
+     * @return The active request count.
+     */
+    public int getActiveCount(EndpointGroup group) {
+        return groups.get(group).getActive();
+    }
+
+    /**
+     * Gets the number of requests of an endpoint group rejected because no slot under its concurrency cap freed up
+     * within their timeout.
+     *
+     * @param group The endpoint group.
+     * @return The rejected request count.
+     */
+    public long getBulkheadRejectedCount(EndpointGroup group) {
+        return groups.get(group).bulkheadRejected.sum();
+    }
+
+    /**
+     * Gets the number of requests of an endpoint group rejected because its circuit breaker was open.
+     *
+     * @param group The endpoint group.
+     * @return The rejected request count.
+     */
+    public long getCircuitRejectedCount(EndpointGroup group) {
+        return groups.get(group).circuitRejected.sum();
+    }
+
+    @Override
+    public Response execute(Request request) throws IOException {
+        Permit permit = acquire(request);
+        Response response;
+        try {
+            response = delegate.execute(request);
+        } catch (IOException | RuntimeException e) {
+            permit.release(true);
+            throw e;
+        }
+        permit.release(isFailure(response.getStatusCode()));
+        return response;
+    }
+
+    @Override
+    public StreamingResponse stream(Request request) throws IOException {
+        Permit permit = acquire(request);
+        StreamingResponse response;
+        try {
+            response = delegate.stream(request);
+        } catch (IOException | RuntimeException e) {
+            permit.release(true);
+            throw e;
+        }
+        boolean failed = isFailure(response.getStatusCode());
+        AtomicBoolean released = new AtomicBoolean();
+        InputStream body = new FilterInputStream(response.getBody()) {
+            @Override
+            public void close() throws IOException {
+                try {
+                    super.close();
+                } finally {
+                    if (released.compareAndSet(false, true)) {
+                        permit.release(failed);
+                    }
+                }
+            }
+        };
+        return new StreamingResponse(response.getStatusCode(), body, response.getHeaders());
+    }
+
+    @Override
+    public CompletableFuture<Response> executeAsync(Request request) {
+        return acquireAsync(request).thenCompose(permit -> {
+            CompletableFuture<Response> response;
+            try {
+                response = delegate.executeAsync(request);
+            } catch (RuntimeException e) {
+                permit.release(true);
+                throw e;
+            }
+            return response.whenComplete((result, error) ->
+                    permit.release(error != null || isFailure(result.getStatusCode())));
+        });
+    }
+
+    @Override
+    public void close() throws IOException {
+        delegate.close();
+    }
+
+    private Permit acquire(Request request) throws IOException {
+        EndpointGroup endpointGroup = EndpointGroup.of(request.getEndpoint());
+        Group group = groups.get(endpointGroup);
+        CompletableFuture<Void> slot = take(request, endpointGroup, group);
+        if (!slot.isDone()) {
+            try {
+                if (request.getTimeout() == null) {
+                    slot.get();
+                } else {
+                    slot.get(request.getTimeout().toNanos(), TimeUnit.NANOSECONDS);
+                }
+            } catch (InterruptedException e) {
+                if (!slot.cancel(false)) {
+                    group.free();
+                }
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for a slot for " + request);
+            } catch (TimeoutException e) {
+                // the slot may have been handed over just now, in which case it is ours to use
+                if (slot.cancel(false)) {
+                    throw bulkheadRejected(request, endpointGroup, group);
+                }
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("A slot is never failed", e);
+            }
+        }
+        return tryBreaker(request, endpointGroup, group);
+    }
+
+    private CompletableFuture<Permit> acquireAsync(Request request) {
+        EndpointGroup endpointGroup = EndpointGroup.of(request.getEndpoint());
+        Group group = groups.get(endpointGroup);
+        CompletableFuture<Void> slot;
+        try {
+            slot = take(request, endpointGroup, group);
+        } catch (RequestRejectedException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        if (!slot.isDone() && request.getTimeout() != null) {
+            // a waiter that timed out can no longer be completed, so the slot goes to the next one
+            slot.orTimeout(request.getTimeout().toNanos(), TimeUnit.NANOSECONDS);
+        }
+        return slot.handle((ignored, error) -> {
+            try {
+                if (error != null) {
+                    throw bulkheadRejected(request, endpointGroup, group);
+                }
+                return tryBreaker(request, endpointGroup, group);
+            } catch (RequestRejectedException e) {
+                throw new CompletionException(e);
+            }
+        });
+    }
+
+    /**
+     * Takes a slot of the group, or queues for one.
+     *
+     * @return A future completed once the caller holds the slot.
+     */
+    private static CompletableFuture<Void> take(Request request, EndpointGroup endpointGroup, Group group)
+            throws RequestRejectedException {
+        // no use waiting for a slot only to be turned away by the breaker
+        if (group.breaker.isRejecting(System.nanoTime())) {
+            throw circuitRejected(request, endpointGroup, group);
+        }
+        return group.take();
+    }
+
+    /**
+     * Asks the breaker of the group whose slot the caller holds. The slot is taken first, so a half-open breaker never
+     * hands out a trial that cannot be sent.
+     */
+    private static Permit tryBreaker(Request request, EndpointGroup endpointGroup, Group group)
+            throws RequestRejectedException {
+        long token = group.breaker.tryAcquire(System.nanoTime());
+        if (token < 0) {
+            group.free();
+            throw circuitRejected(request, endpointGroup, group);
+        }
+        return new Permit(group, token);
+    }
+
+    private static RequestRejectedException bulkheadRejected(Request request, EndpointGroup endpointGroup,
+            Group group) {
+        group.bulkheadRejected.increment();
+        return new RequestRejectedException("No slot of the " + group.maxConcurrent + " concurrent " + endpointGroup
+                + " requests freed up within " + request.getTimeout() + ", rejected " + request, endpointGroup,
+                group.breaker.getState());
+    }
+
+    private static RequestRejectedException circuitRejected(Request request, EndpointGroup endpointGroup,
+            Group group) {
+        group.circuitRejected.increment();
+        return new RequestRejectedException("The " + endpointGroup + " circuit breaker is open, rejected " + request,
+                endpointGroup, group.breaker.getState());
+    }
+
+    private static boolean isFailure(int statusCode) {
+        return statusCode >= 500;
+    }
+
+    @Override
+    public String toString() {
+        Map<EndpointGroup, CircuitState> states = new EnumMap<>(EndpointGroup.class);
+        groups.forEach((group, state) -> states.put(group, state.breaker.getState()));
+        return "IsolatingTransport{" +
+                "circuitStates=" + states +
+                '}';
+    }
+
+    private static final class Group {
+        private static final CompletableFuture<Void> TAKEN = CompletableFuture.completedFuture(null);
+
+        final int maxConcurrent;
+        final CircuitBreaker breaker = new CircuitBreaker();
+        final LongAdder bulkheadRejected = new LongAdder();
+        final LongAdder circuitRejected = new LongAdder();
+        // callers waiting for a slot, in arrival order; those that gave up are skipped when their turn comes
+        private final ArrayDeque<CompletableFuture<Void>> waiters = new ArrayDeque<>();
+        private int active;
+
+        Group(int maxConcurrent) {
+            this.maxConcurrent = maxConcurrent;
+        }
+
+        synchronized CompletableFuture<Void> take() {
+            if (active < maxConcurrent) {
+                active++;
+                return TAKEN;
+            }
+            CompletableFuture<Void> waiter = new CompletableFuture<>();
+            waiters.add(waiter);
+            return waiter;
+        }
+
+        /**
+         * Hands the caller's slot to the next waiter still waiting, or else frees it.
+         */
+        void free() {
+            while (true) {
+                CompletableFuture<Void> waiter;
+                synchronized (this) {
+                    waiter = waiters.poll();
+                    if (waiter == null) {
+                        active--;
+                        return;
+                    }
+                }
+                // completed outside the lock, since an async waiter goes on to send its request right away
+                if (waiter.complete(null)) {
+                    return;
+                }
+            }
+        }
+
+        synchronized int getActive() {
+            return active;
+        }
+    }
+
+    /**
+     * A slot of a group, held by a request the group's breaker let through.
+     */
+    private static final class Permit {
+        final Group group;
+        final long token;
+
+        Permit(Group group, long token) {
+            this.group = group;
+            this.token = token;
+        }
+
+        void release(boolean failed) {
+            group.breaker.record(System.nanoTime(), token, failed);
+            group.free();
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.jtechx.mempool4j.client;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Iterates over the elements of a top-level JSON array, binding one element at a time as it is read off the
+ * underlying stream. Only the element currently being bound is held in memory, regardless of the array length.
+ * <p>
+ * The parser and its source are closed once the closing bracket is reached, or earlier via {@link #close()}.
+ *
+ * @param <T> The element type.
+ */
+class JsonArrayIterator<T> implements Iterator<T>, Closeable {
+    private final JsonParser parser;
+    private final ObjectReader reader;
+    private final Closeable source;
+    private boolean ready;
+    private boolean done;
+
+    JsonArrayIterator(JsonParser parser, ObjectReader reader, Closeable source) throws IOException {
+        this.parser = parser;
+        this.reader = reader;
+        this.source = source;
+
+        JsonToken token = parser.nextToken();
+        if (token != JsonToken.START_ARRAY) {
+            throw new IOException("Expected a JSON array but got " + token);
+        }
+    }
+
+    /**
+     * Wraps this iterator in a sequential stream that closes the iterator when the stream is closed.
+     *
+     * @return A lazy stream of the array elements.
+     */
+    Stream<T> stream() {
+        Spliterator<T> spliterator =
+                Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false)
+                .onClose(() -> {
+                    try {
+                        close();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (done) {
+            return false;
+        }
+        if (ready) {
+            return true;
+        }
+        try {
+            JsonToken token = parser.nextToken();
+            if (token == null || token == JsonToken.END_ARRAY) {
+                close();
+                return false;
+            }
+            ready = true;
+            return true;
+        } catch (IOException e) {
+            closeQuietly();
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        ready = false;
+        try {
+            return reader.readValue(parser);
+        } catch (IOException e) {
+            closeQuietly();
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (done) {
+            return;
+        }
+        done = true;
+        try {
+            parser.close();
+        } finally {
+            source.close();
+        }
+    }
+
+    private void closeQuietly() {
+        try {
+            close();
+        } catch (IOException ignored) {
+            // the original failure is more useful to the caller
+        }
+    }
+}
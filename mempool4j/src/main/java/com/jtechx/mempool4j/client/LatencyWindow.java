@@ -0,0 +1,36 @@
+package com.jtechx.mempool4j.client;
+
+import java.util.Arrays;
+
+/**
+ * The latencies of an endpoint's most recent responses, from which {@link RetryingTransport} derives the delay
+ * before hedging. The percentile is recomputed only every {@value #RECOMPUTE_EVERY} samples, so recording costs a
+ * lock and an array store.
+ */
+final class LatencyWindow {
+    private static final int SIZE = 256;
+    private static final int MIN_SAMPLES = 32;
+    private static final int RECOMPUTE_EVERY = 32;
+
+    private final long[] samples = new long[SIZE];
+    private long count;
+    private volatile long p95 = -1;
+
+    synchronized void record(long nanos) {
+        samples[(int) (count++ % SIZE)] = nanos;
+        if (count >= MIN_SAMPLES && count % RECOMPUTE_EVERY == 0) {
+            long[] sorted = Arrays.copyOf(samples, (int) Math.min(count, SIZE));
+            Arrays.sort(sorted);
+            p95 = sorted[(int) (sorted.length * 0.95)];
+        }
+    }
+
+    /**
+     * Gets the 95th percentile of the recent latencies.
+     *
+     * @return The percentile in nanoseconds, or -1 until enough responses have been seen.
+     */
+    long getP95() {
+        return p95;
+    }
+}
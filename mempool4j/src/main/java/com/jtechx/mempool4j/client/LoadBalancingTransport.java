@@ -0,0 +1,418 @@
+package com.jtechx.mempool4j.client;
+
+import static com.jtechx.mempool4j.client.Endpoints.BLOCK_TIP_HEIGHT;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * A {@link Transport} decorator that spreads requests over several mempool instances serving the same network.
+ * <p>
+ * Requests are built against the first backend's URL, as by a client created for it, and each is sent to the
+ * cheaper of two backends picked at random, where the cost of a backend is the moving average of its latency,
+ * multiplied by its in-flight requests plus one and divided by its recent success rate. Picking from two instead of
+ * all keeps a backend that just became the fastest from being flooded by every caller at once.
+ * <p>
+ * Backends are left out of the choice while they are
+ * <ul>
+ *     <li>ejected: after 5 consecutive failures a backend gets no requests for 30 seconds, doubling up to 5 minutes
+ *     each time it fails again as soon as it is back;</li>
+ *     <li>lagging: its tip height is further behind the highest known tip than the allowed lag. Tip heights are
+ *     probed every 10 seconds, in the background of whichever request finds them due, and picked up from
+ *     {@link Endpoints#BLOCK_TIP_HEIGHT} responses.</li>
+ * </ul>
+ * If that leaves no backend, lagging backends are used, and if all are ejected, all of them.
+ * <p>
+ * Each backend may have a transport of its own, so that e.g. its rate limit, bulkheads and circuit breakers only
+ * track the requests sent to it. A request a backend's transport rejects without sending, because a circuit breaker
+ * there is open, is sent to another backend instead; rejections do not count as failures of the backend.
+ */
+public class LoadBalancingTransport implements Transport {
+    private static final double ALPHA = 0.2;
+    private static final double MAX_ERROR_RATE = 0.99;
+    private static final int EJECTION_FAILURES = 5;
+    private static final long BASE_EJECTION_NANOS = TimeUnit.SECONDS.toNanos(30);
+    private static final long MAX_EJECTION_NANOS = TimeUnit.MINUTES.toNanos(5);
+    private static final long PROBE_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+    private static final Duration PROBE_TIMEOUT = Duration.ofSeconds(5);
+    private static final int TOO_MANY_REQUESTS = 429;
+
+    private final Backend[] backends;
+    private final int maxTipLag;
+    private final AtomicInteger maxTipHeight = new AtomicInteger(-1);
+    private final AtomicLong nextProbe;
+
+    private LoadBalancingTransport(List<String> backendUrls, Function<String, Transport> backendTransports,
+            int maxTipLag) {
+        long now = System.nanoTime();
+        this.backends = backendUrls.stream()
+                .map(url -> new Backend(url, backendTransports.apply(url), now))
+                .toArray(Backend[]::new);
+        this.maxTipLag = maxTipLag;
+        this.nextProbe = new AtomicLong(now);
+    }
+
+    /**
+     * Creates a load-balancing transport that avoids backends behind the highest known tip.
+     *
+     * @param backendUrls The base URLs of the backends, without trailing slashes. Clients using the transport are
+     *                    created for the first one.
+     * @param delegate The transport to decorate.
+     * @return The load-balancing transport.
+     */
+    public static LoadBalancingTransport create(List<String> backendUrls, Transport delegate) {
+        return create(backendUrls, delegate, 0);
+    }
+
+    /**
+     * Creates a load-balancing transport.
+     *
+     * @param backendUrls The base URLs of the backends, without trailing slashes. Clients using the transport are
+     *                    created for the first one.
+     * @param delegate The transport to decorate.
+     * @param maxTipLag The number of blocks a backend may be behind the highest known tip and still get requests.
+     * @return The load-balancing transport.
+     */
+    public static LoadBalancingTransport create(List<String> backendUrls, Transport delegate, int maxTipLag) {
+        return createPerBackend(backendUrls, url -> delegate, maxTipLag);
+    }
+
+    /**
+     * Creates a load-balancing transport that sends each backend's requests through a transport of its own.
+     *
+     * @param backendUrls The base URLs of the backends, without trailing slashes. Clients using the transport are
+     *                    created for the first one.
+     * @param backendTransports Creates the transport of a backend from its URL.
+     * @param maxTipLag The number of blocks a backend may be behind the highest known tip and still get requests.
+     * @return The load-balancing transport.
+     */
+    public static LoadBalancingTransport createPerBackend(List<String> backendUrls,
+            Function<String, Transport> backendTransports, int maxTipLag) {
+        if (backendUrls.isEmpty()) {
+            throw new IllegalArgumentException("At least one backend is required");
+        }
+        if (new LinkedHashSet<>(backendUrls).size() != backendUrls.size()) {
+            throw new IllegalArgumentException("Duplicate backends: " + backendUrls);
+        }
+        if (maxTipLag < 0) {
+            throw new IllegalArgumentException("maxTipLag must not be negative: " + maxTipLag);
+        }
+        return new LoadBalancingTransport(List.copyOf(backendUrls), backendTransports, maxTipLag);
+    }
+
+    /**
+     * Gets how each backend is currently seen.
+     *
+     * @return One status per backend, in the order they were given.
+     */
+    public List<BackendStatus> getBackendStatuses() {
+        long now = System.nanoTime();
+        List<BackendStatus> statuses = new ArrayList<>(backends.length);
+        for (Backend backend : backends) {
+            statuses.add(new BackendStatus(backend.url, Duration.ofNanos((long) backend.latencyNanos),
+                    backend.errorRate, backend.inFlight.get(), backend.tipHeight, backend.isEjected(now),
+                    isLagging(backend)));
+        }
+        return statuses;
+    }
+
+    @Override
+    public Response execute(Request request) throws IOException {
+        String path = relativePath(request);
+        if (path == null) {
+            return backends[0].transport.execute(request);
+        }
+        List<Backend> tried = new ArrayList<>(1);
+        while (true) {
+            Backend backend = choose(tried);
+            long start = backend.start();
+            Response response;
+            try {
+                response = backend.transport.execute(route(request, backend, path));
+            } catch (RequestRejectedException e) {
+                backend.cancel();
+                if (!reroute(e, backend, tried)) {
+                    throw e;
+                }
+                continue;
+            } catch (IOException | RuntimeException e) {
+                backend.finish(start, true);
+                throw e;
+            }
+            backend.finish(start, isFailure(response.getStatusCode()));
+            observeTipHeight(backend, request, response);
+            return response;
+        }
+    }
+
+    @Override
+    public StreamingResponse stream(Request request) throws IOException {
+        String path = relativePath(request);
+        if (path == null) {
+            return backends[0].transport.stream(request);
+        }
+        List<Backend> tried = new ArrayList<>(1);
+        while (true) {
+            Backend backend = choose(tried);
+            long start = backend.start();
+            StreamingResponse response;
+            try {
+                response = backend.transport.stream(route(request, backend, path));
+            } catch (RequestRejectedException e) {
+                backend.cancel();
+                if (!reroute(e, backend, tried)) {
+                    throw e;
+                }
+                continue;
+            } catch (IOException | RuntimeException e) {
+                backend.finish(start, true);
+                throw e;
+            }
+            backend.finish(start, isFailure(response.getStatusCode()));
+            return response;
+        }
+    }
+
+    @Override
+    public CompletableFuture<Response> executeAsync(Request request) {
+        String path = relativePath(request);
+        if (path == null) {
+            return backends[0].transport.executeAsync(request);
+        }
+        return executeAsync(request, path, new ArrayList<>(1));
+    }
+
+    @Override
+    public void close() throws IOException {
+        Set<Transport> closed = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Backend backend : backends) {
+            if (closed.add(backend.transport)) {
+                backend.transport.close();
+            }
+        }
+    }
+
+    private CompletableFuture<Response> executeAsync(Request request, String path, List<Backend> tried) {
+        Backend backend = choose(tried);
+        return send(backend, request, route(request, backend, path)).handle((response, error) -> {
+            Throwable cause = error instanceof CompletionException && error.getCause() != null
+                    ? error.getCause() : error;
+            if (cause instanceof RequestRejectedException
+                    && reroute((RequestRejectedException) cause, backend, tried)) {
+                return executeAsync(request, path, tried);
+            }
+            return cause == null ? CompletableFuture.completedFuture(response)
+                    : CompletableFuture.<Response>failedFuture(cause);
+        }).thenCompose(next -> next);
+    }
+
+    private CompletableFuture<Response> send(Backend backend, Request request, Request routed) {
+        long start = backend.start();
+        CompletableFuture<Response> response;
+        try {
+            response = backend.transport.executeAsync(routed);
+        } catch (RuntimeException e) {
+            backend.finish(start, true);
+            throw e;
+        }
+        return response.whenComplete((result, error) -> {
+            Throwable cause = error instanceof CompletionException && error.getCause() != null
+                    ? error.getCause() : error;
+            if (cause instanceof RequestRejectedException) {
+                backend.cancel();
+                return;
+            }
+            backend.finish(start, error != null || isFailure(result.getStatusCode()));
+            if (error == null) {
+                observeTipHeight(backend, request, result);
+            }
+        });
+    }
+
+    /**
+     * Decides whether to send a request a backend rejected to another one, which is worth it when a circuit breaker
+     * turned it away at once rather than after it waited out its timeout for a free slot.
+     *
+     * @return {@code true} if there is a backend left to try.
+     */
+    private boolean reroute(RequestRejectedException e, Backend backend, List<Backend> tried) {
+        if (e.getCircuitState() == CircuitState.CLOSED) {
+            return false;
+        }
+        tried.add(backend);
+        return tried.size() < backends.length;
+    }
+
+    /**
+     * Picks the cheaper of two random backends among those neither ejected nor lagging, leaving out those already
+     * tried for the request.
+     */
+    private Backend choose(List<Backend> tried) {
+        long now = System.nanoTime();
+        probeIfDue(now);
+        Backend[] candidates = new Backend[backends.length];
+        int count = 0;
+        for (Backend backend : backends) {
+            if (!backend.isEjected(now) && !isLagging(backend) && !tried.contains(backend)) {
+                candidates[count++] = backend;
+            }
+        }
+        if (count == 0) {
+            // stale answers beat no answers, and a backend that failed may have recovered
+            for (Backend backend : backends) {
+                if (!backend.isEjected(now) && !tried.contains(backend)) {
+                    candidates[count++] = backend;
+                }
+            }
+            if (count == 0) {
+                for (Backend backend : backends) {
+                    if (!tried.contains(backend)) {
+                        candidates[count++] = backend;
+                    }
+                }
+            }
+        }
+        if (count == 1) {
+            return candidates[0];
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(count);
+        int second = random.nextInt(count - 1);
+        if (second >= first) {
+            second++;
+        }
+        return candidates[first].cost() <= candidates[second].cost() ? candidates[first] : candidates[second];
+    }
+
+    private void probeIfDue(long now) {
+        long due = nextProbe.get();
+        if (now - due < 0 || !nextProbe.compareAndSet(due, now + PROBE_INTERVAL_NANOS)) {
+            return;
+        }
+        for (Backend backend : backends) {
+            Request probe = Request.get(BLOCK_TIP_HEIGHT.expand(backend.url), BLOCK_TIP_HEIGHT.getPattern())
+                    .withTimeout(PROBE_TIMEOUT);
+            send(backend, probe, probe);
+        }
+    }
+
+    private void observeTipHeight(Backend backend, Request request, Response response) {
+        if (!BLOCK_TIP_HEIGHT.getPattern().equals(request.getEndpoint())
+                || !MempoolApiException.isSuccess(response.getStatusCode())) {
+            return;
+        }
+        try {
+            int height = Integer.parseInt(new String(response.getBody(), StandardCharsets.US_ASCII).trim());
+            backend.tipHeight = height;
+            maxTipHeight.accumulateAndGet(height, Math::max);
+        } catch (NumberFormatException e) {
+            // not a height, e.g. a proxy's error page; the next probe will tell
+        }
+    }
+
+    private boolean isLagging(Backend backend) {
+        int height = backend.tipHeight;
+        return height >= 0 && height < maxTipHeight.get() - maxTipLag;
+    }
+
+    /**
+     * Returns the part of the request URL after the backend it was built for, or null if it was not built for one.
+     */
+    private String relativePath(Request request) {
+        String url = request.getUrl();
+        for (Backend backend : backends) {
+            if (url.startsWith(backend.url) && (url.length() == backend.url.length()
+                    || url.charAt(backend.url.length()) == '/' || url.charAt(backend.url.length()) == '?')) {
+                return url.substring(backend.url.length());
+            }
+        }
+        return null;
+    }
+
+    private static Request route(Request request, Backend backend, String path) {
+        return request.withUrl(backend.url + path);
+    }
+
+    private static boolean isFailure(int statusCode) {
+        return statusCode == TOO_MANY_REQUESTS || statusCode >= 500;
+    }
+
+    @Override
+    public String toString() {
+        return "LoadBalancingTransport{" +
+                "backends=" + getBackendStatuses() +
+                ", maxTipLag=" + maxTipLag +
+                '}';
+    }
+
+    private static final class Backend {
+        final String url;
+        final Transport transport;
+        final AtomicInteger inFlight = new AtomicInteger();
+        // written under the lock, read without it
+        volatile double latencyNanos;
+        volatile double errorRate;
+        volatile long ejectedUntil;
+        volatile int tipHeight = -1;
+        private int consecutiveFailures;
+        private int ejections;
+
+        Backend(String url, Transport transport, long now) {
+            this.url = url;
+            this.transport = transport;
+            this.ejectedUntil = now;
+        }
+
+        long start() {
+            inFlight.incrementAndGet();
+            return System.nanoTime();
+        }
+
+        /**
+         * Ends a request the backend's transport did not send, without counting it either way.
+         */
+        void cancel() {
+            inFlight.decrementAndGet();
+        }
+
+        synchronized void finish(long start, boolean failed) {
+            inFlight.decrementAndGet();
+            long now = System.nanoTime();
+            errorRate += ALPHA * ((failed ? 1 : 0) - errorRate);
+            if (!failed) {
+                // a fast error says nothing about how fast the backend answers
+                latencyNanos = latencyNanos == 0 ? now - start : latencyNanos + ALPHA * (now - start - latencyNanos);
+                consecutiveFailures = 0;
+                if (!isEjected(now)) {
+                    ejections = 0;
+                }
+            } else if (++consecutiveFailures >= EJECTION_FAILURES && !isEjected(now)) {
+                ejectedUntil = now + Math.min(MAX_EJECTION_NANOS, BASE_EJECTION_NANOS << Math.min(ejections, 10));
+                ejections++;
+                consecutiveFailures = 0;
+            }
+        }
+
+        boolean isEjected(long now) {
+            return now - ejectedUntil < 0;
+        }
+
+        double cost() {
+            return (latencyNanos + 1) * (inFlight.get() + 1) / (1 - Math.min(errorRate, MAX_ERROR_RATE));
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.jtechx.mempool4j.client;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+
+/**
+ * Thrown when a mempool instance answers with an error status instead of the requested resource. The error body,
+ * typically a short plain-text message such as {@code Block not found}, is kept for diagnosis instead of being
+ * handed to the JSON binder.
+ */
+public class MempoolApiException extends IOException {
+    private static final int MAX_BODY_LENGTH = 1024;
+
+    private final String url;
+    private final int statusCode;
+    private final String body;
+    private final Duration retryAfter;
+
+    /**
+     * Creates an exception for an error response.
+     *
+     * @param url The request URL.
+     * @param statusCode The response status code.
+     * @param body The start of the response body.
+     * @param retryAfter The delay the server asked for in {@code Retry-After}, or {@code null}.
+     */
+    public MempoolApiException(String url, int statusCode, String body, Duration retryAfter) {
+        super("HTTP " + statusCode + " from " + url + (body.isEmpty() ? "" : ": " + body));
+        this.url = url;
+        this.statusCode = statusCode;
+        this.body = body;
+        this.retryAfter = retryAfter;
+    }
+
+    static MempoolApiException of(Request request, Response response) {
+        byte[] body = response.getBody();
+        int length = body == null ? 0 : Math.min(body.length, MAX_BODY_LENGTH);
+        return new MempoolApiException(request.getUrl(), response.getStatusCode(),
+                length == 0 ? "" : new String(body, 0, length, StandardCharsets.UTF_8).trim(),
+                parseRetryAfter(response.getHeader("Retry-After")));
+    }
+
+    static MempoolApiException of(Request request, StreamingResponse response) {
+        String body;
+        try (InputStream in = response.getBody()) {
+            body = new String(in.readNBytes(MAX_BODY_LENGTH), StandardCharsets.UTF_8).trim();
+        } catch (IOException e) {
+            body = "";
+        }
+        return new MempoolApiException(request.getUrl(), response.getStatusCode(), body,
+                parseRetryAfter(response.getHeader("Retry-After")));
+    }
+
+    static boolean isSuccess(int statusCode) {
+        return statusCode >= 200 && statusCode < 300;
+    }
+
+    /**
+     * Parses a {@code Retry-After} value, either delay seconds or an HTTP date.
+     *
+     * @return The delay, or {@code null} if the value is absent or malformed.
+     */
+    static Duration parseRetryAfter(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        String trimmed = value.trim();
+        try {
+            long seconds = Long.parseLong(trimmed);
+            return seconds < 0 ? null : Duration.ofSeconds(seconds);
+        } catch (NumberFormatException e) {
+            try {
+                Duration delay = Duration.between(ZonedDateTime.now(),
+                        ZonedDateTime.parse(trimmed, DateTimeFormatter.RFC_1123_DATE_TIME));
+                return delay.isNegative() ? Duration.ZERO : delay;
+            } catch (DateTimeParseException ignored) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Gets the request URL.
+     *
+     * @return The URL.
+     */
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * Gets the response status code.
+     *
+     * @return The status code.
+     */
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    /**
+     * Gets the start of the response body, at most 1024 bytes of it.
+     *
+     * @return The body, or an empty string.
+     */
+    public String getBody() {
+        return body;
+    }
+
+    /**
+     * Gets the delay the server asked for before the next request.
+     *
+     * @return The {@code Retry-After} delay, if the server sent one.
+     */
+    public Optional<Duration> getRetryAfter() {
+        return Optional.ofNullable(retryAfter);
+    }
+}
@@ -1,5 +1,6 @@
 package com.jtechx.mempool4j.client;
 
+import com.jtechx.mempool4j.model.Hash256;
 import com.jtechx.mempool4j.model.address.Address;
 import com.jtechx.mempool4j.model.address.UTXO;
 import com.jtechx.mempool4j.model.block.Block;
@@ -40,6 +41,7 @@ import com.jtechx.mempool4j.model.transaction.TransactionStatus;
 import java.io.IOException;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface MempoolClient {
 
@@ -122,14 +124,26 @@ public interface MempoolClient {
     /***
      * Returns a list of all txids in the block.
      */
-    List<String> getBlockTransactionIds(String hash) throws IOException;
+    List<Hash256> getBlockTransactionIds(String hash) throws IOException;
 
     /***
      * Returns a list of transactions in the block (up to 25 transactions beginning at start_index). Transactions returned here do not have the status field, since all the transactions share the same block and confirmation status.
      */
     List<Transaction> getBlockTransactions(String hash, Optional<Integer> startIndex) throws IOException;
 
-//    List<Transaction> getAllBlockTransactions(String hash) throws IOException;
+    /**
+     * Returns all transactions in the block, in block order, by paging {@link #getBlockTransactions(String, Optional)} with a bounded number of pages in flight. Use {@link BlockTransactionsFetcher} directly to tune concurrency and retries.
+     * */
+    default List<Transaction> getAllBlockTransactions(String hash) throws IOException {
+        return BlockTransactionsFetcher.create(this).fetchAll(hash);
+    }
+
+    /**
+     * Same as {@link #getAllBlockTransactions(String)}, but transactions are emitted in block order as soon as their page and every preceding page have arrived. The returned stream must be closed.
+     * */
+    default Stream<Transaction> streamAllBlockTransactions(String hash) throws IOException {
+        return BlockTransactionsFetcher.create(this).stream(hash);
+    }
 
     /***
      * Returns details on the past 15 blocks with fee and mining details in an extras field. If :startHeight is specified, the past 15 blocks before (and including) :startHeight are returned.
@@ -141,6 +155,13 @@ public interface MempoolClient {
      * */
     List<Block> getBlocksBulk(int minHeight, Optional<Integer> maxHeight) throws IOException;
 
+    /**
+     * Same as {@link #getBlocksBulk(int, Optional)}, but blocks are produced lazily as they are read off the connection. The returned stream must be closed.
+     * */
+    default Stream<Block> streamBlocksBulk(int minHeight, Optional<Integer> maxHeight) throws IOException {
+        return getBlocksBulk(minHeight, maxHeight).stream();
+    }
+
     // Mining
 
     /**
@@ -234,7 +255,14 @@ public interface MempoolClient {
     /**
      * Get the full list of txids in the mempool as an array. The order of the txids is arbitrary and does not match bitcoind.
      * */
-    List<String> getMempoolTransactionIds() throws IOException;
+    List<Hash256> getMempoolTransactionIds() throws IOException;
+
+    /**
+     * Same as {@link #getMempoolTransactionIds()}, but txids are produced lazily as they are read off the connection, so peak heap does not grow with the mempool size. The returned stream must be closed.
+     * */
+    default Stream<Hash256> streamMempoolTransactionIds() throws IOException {
+        return getMempoolTransactionIds().stream();
+    }
 
     /**
      * Get a list of the last 10 transactions to enter the mempool. Each transaction object contains simplified overview data, with the following fields: txid, fee, vsize, and value.
@@ -289,11 +317,18 @@ public interface MempoolClient {
 
     LightningChannel getChannel(String channelId) throws IOException;
 
-    ChannelsFromTXID getChannelsFromTXID(List<String> txIds) throws IOException;
+    List<ChannelsFromTXID> getChannelsFromTXID(List<String> txIds) throws IOException;
 
     List<LightningChannel> getChannelsFromNodePubKey(String pubKey, ChannelStatus status, Optional<Integer> index) throws IOException;
 
     List<ChannelGeodata> getChannelGeodata() throws IOException;
 
+    /**
+     * Same as {@link #getChannelGeodata()}, but channels are produced lazily as they are read off the connection. The returned stream must be closed.
+     * */
+    default Stream<ChannelGeodata> streamChannelGeodata() throws IOException {
+        return getChannelGeodata().stream();
+    }
+
     List<ChannelGeodata> getChannelGeodataForNode(String pubKey) throws IOException;
 }
@@ -0,0 +1,502 @@
+package com.jtechx.mempool4j.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jtechx.mempool4j.model.block.Block;
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.WebSocket;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Subscribes to the WebSocket API of a mempool instance ({@code /api/v1/ws}), which pushes new blocks, projected
+ * mempool blocks, fees and address activity as they happen instead of having to poll for them.
+ * <p>
+ * Messages are bound to the same models as {@link MempoolClient} responses and passed to a
+ * {@link MempoolStreamListener} on a dedicated dispatch thread. At most 16 received messages wait for dispatch;
+ * beyond that the client stops reading from the socket, so a slow listener pushes back on the server through TCP
+ * flow control instead of growing the heap.
+ * <p>
+ * Lost connections are reopened with jittered exponential backoff, from one second up to a minute, and the current
+ * subscriptions are sent again. A connection that delivers nothing, not even a reply to the client's periodic
+ * ping, for two ping intervals is treated as lost.
+ */
+public final class MempoolStreamClient implements Closeable {
+    private static final String MEMPOOL_DEFAULT_URL = "https://mempool.space";
+    private static final int PREFETCH = 16;
+    private static final long PING_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(30);
+    private static final long MIN_RECONNECT_DELAY_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final long MAX_RECONNECT_DELAY_NANOS = TimeUnit.MINUTES.toNanos(1);
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(10);
+
+    private final URI uri;
+    private final HttpClient httpClient;
+    private final ObjectMapper mapper;
+    private final JsonFactory jsonFactory;
+    private final ModelReaders readers;
+    private final MempoolStreamListener listener;
+    private final ScheduledExecutorService scheduler;
+    private final ExecutorService dispatcher;
+    private final AtomicLong reconnects = new AtomicLong();
+    private volatile long lastReceived = System.nanoTime();
+
+    // guarded by this
+    private final Set<StreamTopic> topics = EnumSet.noneOf(StreamTopic.class);
+    private String trackedAddress;
+    private WebSocket webSocket;
+    private CompletableFuture<WebSocket> sending = CompletableFuture.completedFuture(null);
+    private int failedAttempts;
+    private boolean closed;
+
+    // only touched on the dispatch thread
+    private int lastBlockHeight = -1;
+
+    private MempoolStreamClient(URI uri, HttpClient httpClient, ObjectMapper mapper, MempoolStreamListener listener) {
+        this.uri = uri;
+        this.httpClient = httpClient;
+        this.mapper = mapper;
+        this.jsonFactory = mapper.getFactory();
+        this.readers = new ModelReaders(mapper);
+        this.listener = listener;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> daemon(runnable, "mempool4j-ws"));
+        this.dispatcher = Executors.newSingleThreadExecutor(runnable -> daemon(runnable, "mempool4j-ws-dispatch"));
+    }
+
+    public static MempoolStreamClient create(MempoolStreamListener listener) {
+        return create(MEMPOOL_DEFAULT_URL, listener);
+    }
+
+    public static MempoolStreamClient create(String mempoolUrl, MempoolStreamListener listener) {
+        return create(mempoolUrl, listener, HttpClient.newHttpClient(), ObjectMappers.create());
+    }
+
+    /**
+     * Creates a client and starts connecting in the background.
+     *
+     * @param mempoolUrl The base URL of the mempool instance, e.g. {@code https://mempool.space}; the WebSocket URL
+     *                   is derived from it.
+     * @param listener The listener to pass messages to.
+     * @param httpClient The client to open WebSockets with.
+     * @param mapper The mapper to bind messages with.
+     * @return The client.
+     */
+    public static MempoolStreamClient create(String mempoolUrl, MempoolStreamListener listener, HttpClient httpClient,
+            ObjectMapper mapper) {
+        String url = Endpoints.WEBSOCKET.expand(mempoolUrl);
+        if (url.startsWith("https://")) {
+            url = "wss://" + url.substring("https://".length());
+        } else if (url.startsWith("http://")) {
+            url = "ws://" + url.substring("http://".length());
+        }
+        MempoolStreamClient client = new MempoolStreamClient(URI.create(url), httpClient, mapper, listener);
+        client.scheduler.scheduleWithFixedDelay(client::keepAlive, PING_INTERVAL_NANOS, PING_INTERVAL_NANOS,
+                TimeUnit.NANOSECONDS);
+        client.connect();
+        return client;
+    }
+
+    /**
+     * Adds topics to the subscription. The subscription is kept across reconnects.
+     *
+     * @param topics The topics.
+     */
+    public synchronized void subscribe(StreamTopic... topics) {
+        Collections.addAll(this.topics, topics);
+        sendWant();
+    }
+
+    /**
+     * Removes topics from the subscription.
+     *
+     * @param topics The topics.
+     */
+    public synchronized void unsubscribe(StreamTopic... topics) {
+        for (StreamTopic topic : topics) {
+            this.topics.remove(topic);
+        }
+        sendWant();
+    }
+
+    /**
+     * Tracks the transactions of an address. The server tracks one address per connection, so this replaces the
+     * address tracked before. Tracking is kept across reconnects.
+     *
+     * @param address The address.
+     */
+    public synchronized void trackAddress(String address) {
+        trackedAddress = address;
+        sendTrackAddress();
+    }
+
+    /**
+     * Gets the subscribed topics.
+     *
+     * @return A copy of the topics.
+     */
+    public synchronized Set<StreamTopic> getTopics() {
+        return topics.isEmpty() ? EnumSet.noneOf(StreamTopic.class) : EnumSet.copyOf(topics);
+    }
+
+    /**
+     * Gets the tracked address.
+     *
+     * @return The address, or {@code null} if none is tracked.
+     */
+    public synchronized String getTrackedAddress() {
+        return trackedAddress;
+    }
+
+    /**
+     * Checks whether a connection is open.
+     *
+     * @return {@code true} if connected.
+     */
+    public synchronized boolean isConnected() {
+        return webSocket != null;
+    }
+
+    /**
+     * Gets the number of times a lost connection was reopened.
+     *
+     * @return The reconnect count.
+     */
+    public long getReconnectCount() {
+        return reconnects.get();
+    }
+
+    /**
+     * Closes the connection and stops reconnecting. Messages already received are still dispatched.
+     */
+    @Override
+    public void close() {
+        WebSocket current;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            current = webSocket;
+            webSocket = null;
+        }
+        scheduler.shutdownNow();
+        if (current != null) {
+            current.sendClose(WebSocket.NORMAL_CLOSURE, "").whenComplete((ignored, error) -> current.abort());
+        }
+        dispatcher.shutdown();
+    }
+
+    private void connect() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+        }
+        httpClient.newWebSocketBuilder()
+                .connectTimeout(CONNECT_TIMEOUT)
+                .buildAsync(uri, new Connection())
+                .whenComplete((ignored, error) -> {
+                    if (error != null) {
+                        reconnectLater();
+                    }
+                });
+    }
+
+    private synchronized void reconnectLater() {
+        if (closed) {
+            return;
+        }
+        long delay = Math.min(MAX_RECONNECT_DELAY_NANOS, MIN_RECONNECT_DELAY_NANOS << Math.min(failedAttempts, 16));
+        failedAttempts++;
+        // between half and all of the backoff, so clients dropped together do not reconnect together
+        delay = delay / 2 + ThreadLocalRandom.current().nextLong(delay / 2 + 1);
+        scheduler.schedule(() -> {
+            reconnects.incrementAndGet();
+            connect();
+        }, delay, TimeUnit.NANOSECONDS);
+    }
+
+    private void opened(WebSocket socket) {
+        synchronized (this) {
+            if (closed) {
+                socket.abort();
+                return;
+            }
+            webSocket = socket;
+            failedAttempts = 0;
+            sending = CompletableFuture.completedFuture(socket);
+            lastReceived = System.nanoTime();
+            sendWant();
+            sendTrackAddress();
+        }
+        socket.request(PREFETCH);
+        dispatch(socket, listener::onConnected, false);
+    }
+
+    private void lost(WebSocket socket, Throwable cause) {
+        synchronized (this) {
+            if (webSocket != socket) {
+                return;
+            }
+            webSocket = null;
+        }
+        socket.abort();
+        dispatch(socket, () -> listener.onDisconnected(cause), false);
+        reconnectLater();
+    }
+
+    private void keepAlive() {
+        WebSocket current;
+        synchronized (this) {
+            current = webSocket;
+        }
+        if (current == null) {
+            return;
+        }
+        long silence = System.nanoTime() - lastReceived;
+        if (silence > 2 * PING_INTERVAL_NANOS) {
+            lost(current, new IOException("No message received for " + TimeUnit.NANOSECONDS.toSeconds(silence)
+                    + "s"));
+        } else {
+            send(Map.of("action", "ping"));
+        }
+    }
+
+    private void sendWant() {
+        List<String> data = new ArrayList<>(topics.size());
+        for (StreamTopic topic : topics) {
+            data.add(topic.getTopic());
+        }
+        send(Map.of("action", "want", "data", data));
+    }
+
+    private void sendTrackAddress() {
+        if (trackedAddress != null) {
+            send(Map.of("track-address", trackedAddress));
+        }
+    }
+
+    /**
+     * Queues a message behind the ones already being sent, since a WebSocket accepts one outstanding send at a time.
+     * A failed send fails the connection, which is then reopened.
+     */
+    private synchronized void send(Map<String, Object> message) {
+        WebSocket socket = webSocket;
+        if (socket == null) {
+            return;
+        }
+        String text;
+        try {
+            text = mapper.writeValueAsString(message);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException(e);
+        }
+        sending = sending.handle((ignored, error) -> socket)
+                .thenCompose(current -> current.sendText(text, true))
+                .whenComplete((ignored, error) -> {
+                    if (error != null) {
+                        lost(socket, error);
+                    }
+                });
+    }
+
+    /**
+     * Runs a callback on the dispatch thread. Callbacks for messages request the next message once they return, so
+     * no more than {@link #PREFETCH} messages are ever waiting.
+     */
+    private void dispatch(WebSocket socket, Runnable callback, boolean requestNext) {
+        try {
+            dispatcher.execute(() -> {
+                try {
+                    callback.run();
+                } catch (RuntimeException e) {
+                    Thread thread = Thread.currentThread();
+                    thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+                } finally {
+                    if (requestNext) {
+                        socket.request(1);
+                    }
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // the client was closed
+        }
+    }
+
+    private void handle(WebSocket socket, String text) {
+        String address;
+        synchronized (this) {
+            address = trackedAddress;
+        }
+        try (JsonParser parser = jsonFactory.createParser(text)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.getCurrentName();
+                parser.nextToken();
+                switch (name) {
+                    case "block":
+                        deliverBlock(readers.block.read(parser));
+                        break;
+                    case "blocks":
+                        deliverMissedBlocks(readers.blockList.read(parser));
+                        break;
+                    case "mempool-blocks":
+                        listener.onMempoolBlocks(readers.mempoolBlocksFeesList.read(parser));
+                        break;
+                    case "fees":
+                        listener.onFees(readers.recommendedFees.read(parser));
+                        break;
+                    case "address-transactions":
+                        listener.onAddressTransactions(address, readers.transactionList.read(parser));
+                        break;
+                    case "block-transactions":
+                        listener.onAddressBlockTransactions(address, readers.transactionList.read(parser));
+                        break;
+                    case "address-removed-transactions":
+                        listener.onAddressRemovedTransactions(address, readers.transactionList.read(parser));
+                        break;
+                    default:
+                        parser.skipChildren();
+                }
+            }
+        } catch (IOException e) {
+            lost(socket, e);
+        }
+    }
+
+    private void deliverBlock(Block block) {
+        lastBlockHeight = Math.max(lastBlockHeight, block.getHeight());
+        listener.onBlock(block);
+    }
+
+    /**
+     * Handles the recent blocks the server sends when {@link StreamTopic#BLOCKS} is requested: the first time only
+     * the tip is delivered, after a reconnect every block above the last one delivered.
+     */
+    private void deliverMissedBlocks(List<Block> blocks) {
+        if (blocks.isEmpty()) {
+            return;
+        }
+        List<Block> sorted = new ArrayList<>(blocks);
+        sorted.sort(Comparator.comparingInt(Block::getHeight));
+        if (lastBlockHeight < 0) {
+            deliverBlock(sorted.get(sorted.size() - 1));
+            return;
+        }
+        for (Block block : sorted) {
+            if (block.getHeight() > lastBlockHeight) {
+                deliverBlock(block);
+            }
+        }
+    }
+
+    private static Thread daemon(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "MempoolStreamClient{" +
+                "uri=" + uri +
+                ", topics=" + topics +
+                ", trackedAddress=" + trackedAddress +
+                ", connected=" + (webSocket != null) +
+                ", reconnects=" + reconnects +
+                '}';
+    }
+
+    /**
+     * The listener for one connection; callbacks from a connection that was already replaced are ignored.
+     */
+    private final class Connection implements WebSocket.Listener {
+        private final StringBuilder partial = new StringBuilder();
+        // the socket this listener was opened for; callbacks of one socket never run concurrently
+        private WebSocket socket;
+
+        @Override
+        public void onOpen(WebSocket socket) {
+            this.socket = socket;
+            opened(socket);
+        }
+
+        @Override
+        public CompletionStage<?> onText(WebSocket socket, CharSequence data, boolean last) {
+            if (isStale()) {
+                // nothing more is requested, so a replaced socket stops delivering
+                return null;
+            }
+            lastReceived = System.nanoTime();
+            partial.append(data);
+            if (!last) {
+                socket.request(1);
+                return null;
+            }
+            String text = partial.toString();
+            partial.setLength(0);
+            dispatch(socket, () -> handle(socket, text), true);
+            return null;
+        }
+
+        @Override
+        public CompletionStage<?> onBinary(WebSocket socket, ByteBuffer data, boolean last) {
+            if (isStale()) {
+                return null;
+            }
+            socket.request(1);
+            return null;
+        }
+
+        @Override
+        public CompletionStage<?> onPong(WebSocket socket, ByteBuffer message) {
+            if (isStale()) {
+                return null;
+            }
+            lastReceived = System.nanoTime();
+            socket.request(1);
+            return null;
+        }
+
+        @Override
+        public CompletionStage<?> onClose(WebSocket socket, int statusCode, String reason) {
+            lost(socket, statusCode == WebSocket.NORMAL_CLOSURE ? null
+                    : new IOException("Closed by server: " + statusCode + " " + reason));
+            return null;
+        }
+
+        @Override
+        public void onError(WebSocket socket, Throwable error) {
+            lost(socket, error);
+        }
+
+        private boolean isStale() {
+            synchronized (MempoolStreamClient.this) {
+                return webSocket != socket;
+            }
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.jtechx.mempool4j.client;
+
+import com.jtechx.mempool4j.model.block.Block;
+import com.jtechx.mempool4j.model.fee.MempoolBlocksFees;
+import com.jtechx.mempool4j.model.fee.RecommendedFees;
+import com.jtechx.mempool4j.model.transaction.Transaction;
+import java.util.List;
+
+/**
+ * Receives the messages pushed to a {@link MempoolStreamClient}. Callbacks run one at a time, in the order the
+ * messages arrived, on the client's dispatch thread. A slow callback slows down reading from the socket rather than
+ * queueing messages without bound.
+ */
+public interface MempoolStreamListener {
+
+    /**
+     * Called after a connection is opened and the subscriptions are sent, including after a reconnect.
+     */
+    default void onConnected() {
+    }
+
+    /**
+     * Called when a connection is lost. The client reconnects on its own unless it was closed.
+     *
+     * @param cause The error that ended the connection, or {@code null} if the server closed it normally.
+     */
+    default void onDisconnected(Throwable cause) {
+    }
+
+    /**
+     * Called for each new block. After a reconnect, blocks mined while disconnected are delivered first, in height
+     * order.
+     *
+     * @param block The block.
+     */
+    default void onBlock(Block block) {
+    }
+
+    /**
+     * Called when the projected mempool blocks change.
+     *
+     * @param blocks The projected blocks, next block first.
+     */
+    default void onMempoolBlocks(List<MempoolBlocksFees> blocks) {
+    }
+
+    /**
+     * Called when the recommended fees change.
+     *
+     * @param fees The fees.
+     */
+    default void onFees(RecommendedFees fees) {
+    }
+
+    /**
+     * Called when transactions involving the tracked address enter the mempool.
+     *
+     * @param address The tracked address.
+     * @param transactions The transactions.
+     */
+    default void onAddressTransactions(String address, List<Transaction> transactions) {
+    }
+
+    /**
+     * Called when transactions involving the tracked address are confirmed in a new block.
+     *
+     * @param address The tracked address.
+     * @param transactions The transactions.
+     */
+    default void onAddressBlockTransactions(String address, List<Transaction> transactions) {
+    }
+
+    /**
+     * Called when transactions involving the tracked address leave the mempool without confirming, e.g. because
+     * they were replaced.
+     *
+     * @param address The tracked address.
+     * @param transactions The transactions.
+     */
+    default void onAddressRemovedTransactions(String address, List<Transaction> transactions) {
+    }
+}
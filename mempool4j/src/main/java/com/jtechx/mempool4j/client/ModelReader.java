@@ -0,0 +1,46 @@
+package com.jtechx.mempool4j.client;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * An {@link ObjectReader} bound to one response type. The reader is resolved once, so reading a body does not look
+ * up the type or its deserializer again, and the type parameter keeps call sites free of unchecked casts.
+ *
+ * @param <T> The type read.
+ */
+final class ModelReader<T> {
+    private final ObjectReader reader;
+
+    private ModelReader(ObjectReader reader) {
+        this.reader = reader;
+    }
+
+    static <T> ModelReader<T> of(ObjectMapper mapper, Class<T> type) {
+        return new ModelReader<>(mapper.readerFor(type));
+    }
+
+    static <T> ModelReader<T> of(ObjectMapper mapper, TypeReference<T> type) {
+        return new ModelReader<>(mapper.readerFor(type));
+    }
+
+    T read(InputStream body) throws IOException {
+        return reader.readValue(body);
+    }
+
+    T read(byte[] body) throws IOException {
+        return reader.readValue(body);
+    }
+
+    T read(JsonParser parser) throws IOException {
+        return reader.readValue(parser);
+    }
+
+    ObjectReader getObjectReader() {
+        return reader;
+    }
+}
@@ -0,0 +1,154 @@
+package com.jtechx.mempool4j.client;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jtechx.mempool4j.model.Hash256;
+import com.jtechx.mempool4j.model.address.Address;
+import com.jtechx.mempool4j.model.address.UTXO;
+import com.jtechx.mempool4j.model.block.Block;
+import com.jtechx.mempool4j.model.block.BlockStatus;
+import com.jtechx.mempool4j.model.fee.MempoolBlocksFees;
+import com.jtechx.mempool4j.model.fee.RecommendedFees;
+import com.jtechx.mempool4j.model.general.DifficultyAdjustment;
+import com.jtechx.mempool4j.model.lightning.ChannelGeodata;
+import com.jtechx.mempool4j.model.lightning.ChannelsFromTXID;
+import com.jtechx.mempool4j.model.lightning.ISPNodes;
+import com.jtechx.mempool4j.model.lightning.LightningChannel;
+import com.jtechx.mempool4j.model.lightning.LightningNode;
+import com.jtechx.mempool4j.model.lightning.NetworkStats;
+import com.jtechx.mempool4j.model.lightning.NodeHistoryStats;
+import com.jtechx.mempool4j.model.lightning.NodeStats;
+import com.jtechx.mempool4j.model.lightning.NodeStatsPerISP;
+import com.jtechx.mempool4j.model.lightning.NodesChannelsSearchResult;
+import com.jtechx.mempool4j.model.lightning.NodesInCountry;
+import com.jtechx.mempool4j.model.lightning.TopNodes;
+import com.jtechx.mempool4j.model.mempool.Mempool;
+import com.jtechx.mempool4j.model.mempool.MempoolRecent;
+import com.jtechx.mempool4j.model.mining.BlockFee;
+import com.jtechx.mempool4j.model.mining.BlockFeeRate;
+import com.jtechx.mempool4j.model.mining.BlockReward;
+import com.jtechx.mempool4j.model.mining.BlockSizesAndWeights;
+import com.jtechx.mempool4j.model.mining.HashrateDetails;
+import com.jtechx.mempool4j.model.mining.MiningPoolDetails;
+import com.jtechx.mempool4j.model.mining.MiningPoolHashrate;
+import com.jtechx.mempool4j.model.mining.MiningPools;
+import com.jtechx.mempool4j.model.mining.RewardStats;
+import com.jtechx.mempool4j.model.transaction.ChildrenPayForParent;
+import com.jtechx.mempool4j.model.transaction.Transaction;
+import com.jtechx.mempool4j.model.transaction.TransactionMerkleProof;
+import com.jtechx.mempool4j.model.transaction.TransactionOutspend;
+import com.jtechx.mempool4j.model.transaction.TransactionStatus;
+import java.util.List;
+
+/**
+ * One {@link ModelReader} per response type of the clients, built when the client is created and shared by all
+ * of its calls. Element readers such as {@link #block} also bind the items of streamed arrays.
+ */
+final class ModelReaders {
+    final ModelReader<Address> address;
+    final ModelReader<Block> block;
+    final ModelReader<BlockSizesAndWeights> blockSizesAndWeights;
+    final ModelReader<BlockStatus> blockStatus;
+    final ModelReader<ChannelGeodata> channelGeodata;
+    final ModelReader<ChildrenPayForParent> childrenPayForParent;
+    final ModelReader<DifficultyAdjustment> difficultyAdjustment;
+    final ModelReader<HashrateDetails> hashrateDetails;
+    final ModelReader<ISPNodes> ispNodes;
+    final ModelReader<LightningChannel> lightningChannel;
+    final ModelReader<LightningNode> lightningNode;
+    final ModelReader<Mempool> mempool;
+    final ModelReader<MiningPoolDetails> miningPoolDetails;
+    final ModelReader<MiningPools> miningPools;
+    final ModelReader<NetworkStats> networkStats;
+    final ModelReader<NodeStatsPerISP> nodeStatsPerISP;
+    final ModelReader<NodesChannelsSearchResult> nodesChannelsSearchResult;
+    final ModelReader<NodesInCountry> nodesInCountry;
+    final ModelReader<RecommendedFees> recommendedFees;
+    final ModelReader<RewardStats> rewardStats;
+    final ModelReader<Hash256> hash256;
+    final ModelReader<TopNodes> topNodes;
+    final ModelReader<Transaction> transaction;
+    final ModelReader<TransactionMerkleProof> transactionMerkleProof;
+    final ModelReader<TransactionOutspend> transactionOutspend;
+    final ModelReader<TransactionStatus> transactionStatus;
+    final ModelReader<List<Block>> blockList;
+    final ModelReader<List<BlockFee>> blockFeeList;
+    final ModelReader<List<BlockFeeRate>> blockFeeRateList;
+    final ModelReader<List<BlockReward>> blockRewardList;
+    final ModelReader<List<ChannelGeodata>> channelGeodataList;
+    final ModelReader<List<ChannelsFromTXID>> channelsFromTXIDList;
+    final ModelReader<List<LightningChannel>> lightningChannelList;
+    final ModelReader<List<LightningNode>> lightningNodeList;
+    final ModelReader<List<MempoolBlocksFees>> mempoolBlocksFeesList;
+    final ModelReader<List<MempoolRecent>> mempoolRecentList;
+    final ModelReader<List<MiningPoolHashrate>> miningPoolHashrateList;
+    final ModelReader<List<NodeHistoryStats>> nodeHistoryStatsList;
+    final ModelReader<List<NodeStats>> nodeStatsList;
+    final ModelReader<List<Hash256>> hash256List;
+    final ModelReader<List<Transaction>> transactionList;
+    final ModelReader<List<TransactionOutspend>> transactionOutspendList;
+    final ModelReader<List<UTXO>> uTXOList;
+
+    ModelReaders(ObjectMapper mapper) {
+        address = ModelReader.of(mapper, Address.class);
+        block = ModelReader.of(mapper, Block.class);
+        blockSizesAndWeights = ModelReader.of(mapper, BlockSizesAndWeights.class);
+        blockStatus = ModelReader.of(mapper, BlockStatus.class);
+        channelGeodata = ModelReader.of(mapper, ChannelGeodata.class);
+        childrenPayForParent = ModelReader.of(mapper, ChildrenPayForParent.class);
+        difficultyAdjustment = ModelReader.of(mapper, DifficultyAdjustment.class);
+        hashrateDetails = ModelReader.of(mapper, HashrateDetails.class);
+        ispNodes = ModelReader.of(mapper, ISPNodes.class);
+        lightningChannel = ModelReader.of(mapper, LightningChannel.class);
+        lightningNode = ModelReader.of(mapper, LightningNode.class);
+        mempool = ModelReader.of(mapper, Mempool.class);
+        miningPoolDetails = ModelReader.of(mapper, MiningPoolDetails.class);
+        miningPools = ModelReader.of(mapper, MiningPools.class);
+        networkStats = ModelReader.of(mapper, NetworkStats.class);
+        nodeStatsPerISP = ModelReader.of(mapper, NodeStatsPerISP.class);
+        nodesChannelsSearchResult = ModelReader.of(mapper, NodesChannelsSearchResult.class);
+        nodesInCountry = ModelReader.of(mapper, NodesInCountry.class);
+        recommendedFees = ModelReader.of(mapper, RecommendedFees.class);
+        rewardStats = ModelReader.of(mapper, RewardStats.class);
+        hash256 = ModelReader.of(mapper, Hash256.class);
+        topNodes = ModelReader.of(mapper, TopNodes.class);
+        transaction = ModelReader.of(mapper, Transaction.class);
+        transactionMerkleProof = ModelReader.of(mapper, TransactionMerkleProof.class);
+        transactionOutspend = ModelReader.of(mapper, TransactionOutspend.class);
+        transactionStatus = ModelReader.of(mapper, TransactionStatus.class);
+        blockList = ModelReader.of(mapper, new TypeReference<List<Block>>() {
+        });
+        blockFeeList = ModelReader.of(mapper, new TypeReference<List<BlockFee>>() {
+        });
+        blockFeeRateList = ModelReader.of(mapper, new TypeReference<List<BlockFeeRate>>() {
+        });
+        blockRewardList = ModelReader.of(mapper, new TypeReference<List<BlockReward>>() {
+        });
+        channelGeodataList = ModelReader.of(mapper, new TypeReference<List<ChannelGeodata>>() {
+        });
+        channelsFromTXIDList = ModelReader.of(mapper, new TypeReference<List<ChannelsFromTXID>>() {
+        });
+        lightningChannelList = ModelReader.of(mapper, new TypeReference<List<LightningChannel>>() {
+        });
+        lightningNodeList = ModelReader.of(mapper, new TypeReference<List<LightningNode>>() {
+        });
+        mempoolBlocksFeesList = ModelReader.of(mapper, new TypeReference<List<MempoolBlocksFees>>() {
+        });
+        mempoolRecentList = ModelReader.of(mapper, new TypeReference<List<MempoolRecent>>() {
+        });
+        miningPoolHashrateList = ModelReader.of(mapper, new TypeReference<List<MiningPoolHashrate>>() {
+        });
+        nodeHistoryStatsList = ModelReader.of(mapper, new TypeReference<List<NodeHistoryStats>>() {
+        });
+        nodeStatsList = ModelReader.of(mapper, new TypeReference<List<NodeStats>>() {
+        });
+        hash256List = ModelReader.of(mapper, new TypeReference<List<Hash256>>() {
+        });
+        transactionList = ModelReader.of(mapper, new TypeReference<List<Transaction>>() {
+        });
+        transactionOutspendList = ModelReader.of(mapper, new TypeReference<List<TransactionOutspend>>() {
+        });
+        uTXOList = ModelReader.of(mapper, new TypeReference<List<UTXO>>() {
+        });
+    }
+}
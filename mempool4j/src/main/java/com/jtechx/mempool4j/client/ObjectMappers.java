@@ -0,0 +1,103 @@
+package com.jtechx.mempool4j.client;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.deser.std.DelegatingDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.type.CollectionType;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Creates the {@link ObjectMapper} configurations the clients bind responses with. Pass one to
+ * {@code DefaultMempoolClient.create(String, Transport, ObjectMapper)} to change how models are deserialized.
+ * <p>
+ * The clients hand the same result to every caller of a coalesced or cached call, so the mappers bind every
+ * {@link List}, whether a whole response or a model property, as an unmodifiable list; the models themselves have no
+ * setters. A mapper configured otherwise should do the same, or its callers must not modify what they get.
+ */
+public final class ObjectMappers {
+
+    private ObjectMappers() {
+    }
+
+    /**
+     * Creates the default mapper, which ignores properties the models do not declare and binds lists as
+     * unmodifiable.
+     *
+     * @return A new mapper.
+     */
+    public static ObjectMapper create() {
+        return new ObjectMapper()
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .registerModule(new SimpleModule("UnmodifiableLists")
+                        .setDeserializerModifier(new UnmodifiableLists()));
+    }
+
+    /**
+     * Creates the default mapper with Jackson's Blackbird module registered, which replaces reflective calls to the
+     * model constructors and setters with generated lambdas. This mostly pays off at high request rates, after the
+     * JIT has warmed up. Requires {@code com.fasterxml.jackson.module:jackson-module-blackbird} on the class path.
+     *
+     * @return A new mapper.
+     * @throws IllegalStateException If the Blackbird module is not on the class path.
+     */
+    public static ObjectMapper createWithBlackbird() {
+        ObjectMapper mapper = create();
+        try {
+            Blackbird.register(mapper);
+        } catch (NoClassDefFoundError e) {
+            throw new IllegalStateException("jackson-module-blackbird is not on the class path", e);
+        }
+        return mapper;
+    }
+
+    /**
+     * Wraps the deserializer of every property or value declared as a {@link List}, which has been mapped to
+     * {@code ArrayList} by the time it gets here. Subclasses of {@code ArrayList}, such as {@code ISP}, are left alone.
+     */
+    private static final class UnmodifiableLists extends BeanDeserializerModifier {
+        @Override
+        public JsonDeserializer<?> modifyCollectionDeserializer(DeserializationConfig config, CollectionType type,
+                BeanDescription beanDesc, JsonDeserializer<?> deserializer) {
+            Class<?> raw = type.getRawClass();
+            return raw == List.class || raw == ArrayList.class ? new UnmodifiableListDeserializer(deserializer)
+                    : deserializer;
+        }
+    }
+
+    private static final class UnmodifiableListDeserializer extends DelegatingDeserializer {
+        UnmodifiableListDeserializer(JsonDeserializer<?> delegate) {
+            super(delegate);
+        }
+
+        @Override
+        protected JsonDeserializer<?> newDelegatingInstance(JsonDeserializer<?> newDelegatee) {
+            return new UnmodifiableListDeserializer(newDelegatee);
+        }
+
+        @Override
+        public Object deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            Object list = super.deserialize(parser, context);
+            return list == null ? null : Collections.unmodifiableList((List<?>) list);
+        }
+    }
+
+    /**
+     * Keeps the reference to the optional module out of {@link ObjectMappers}, so the class links without it.
+     */
+    private static final class Blackbird {
+        static void register(ObjectMapper mapper) {
+            mapper.registerModule(new BlackbirdModule());
+        }
+    }
+}
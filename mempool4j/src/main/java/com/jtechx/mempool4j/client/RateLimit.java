@@ -0,0 +1,67 @@
+package com.jtechx.mempool4j.client;
+
+import java.util.Objects;
+
+/**
+ * A token-bucket rate: a sustained number of requests per second, plus a burst that may be sent at once after a
+ * quiet period.
+ */
+public final class RateLimit {
+    private final double requestsPerSecond;
+    private final int burst;
+
+    private RateLimit(double requestsPerSecond, int burst) {
+        this.requestsPerSecond = requestsPerSecond;
+        this.burst = burst;
+    }
+
+    /**
+     * Creates a rate limit.
+     *
+     * @param requestsPerSecond The sustained rate.
+     * @param burst The number of requests allowed at once, at least 1.
+     * @return The rate limit.
+     */
+    public static RateLimit of(double requestsPerSecond, int burst) {
+        if (!(requestsPerSecond > 0) || Double.isInfinite(requestsPerSecond)) {
+            throw new IllegalArgumentException("requestsPerSecond must be positive and finite: " + requestsPerSecond);
+        }
+        if (burst < 1) {
+            throw new IllegalArgumentException("burst must be positive: " + burst);
+        }
+        return new RateLimit(requestsPerSecond, burst);
+    }
+
+    public double getRequestsPerSecond() {
+        return requestsPerSecond;
+    }
+
+    public int getBurst() {
+        return burst;
+    }
+
+    @Override
+    public String toString() {
+        return "RateLimit{" +
+                "requestsPerSecond=" + requestsPerSecond +
+                ", burst=" + burst +
+                '}';
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        RateLimit rateLimit = (RateLimit) o;
+        return Double.compare(rateLimit.requestsPerSecond, requestsPerSecond) == 0 && burst == rateLimit.burst;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(requestsPerSecond, burst);
+    }
+}
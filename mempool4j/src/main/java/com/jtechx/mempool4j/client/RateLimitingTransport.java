@@ -0,0 +1,298 @@
+package com.jtechx.mempool4j.client;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link Transport} decorator that paces requests so a client stays under a mempool instance's rate limit
+ * instead of discovering it through {@code 429 Too Many Requests}.
+ * <p>
+ * Every request takes a slot from a bucket shared by the whole client and from the bucket of its
+ * {@link EndpointGroup}. Slots are handed out in arrival order, so queued callers wait their turn rather than fail
+ * or starve. On {@code 429} or {@code 503} the group's rate halves, and a {@code Retry-After} delay holds back every
+ * request of the client until it has passed; successful responses then restore the rate gradually. A {@code 429}
+ * is sent again after the pause, up to three times, since the server did not process it.
+ * <p>
+ * Waiting for a slot counts against the request's {@link Request#getTimeout() timeout}, as set per attempt by
+ * {@link RetryingTransport}: a request whose slot would come too late fails with {@link HttpTimeoutException}, and a
+ * {@code 429} that cannot be sent again in time is returned as it is.
+ * <p>
+ * The default clients only put one in front of the public instance at mempool.space; a self-hosted instance is not
+ * paced unless a client is created with a transport that does.
+ */
+public class RateLimitingTransport implements Transport {
+    private static final RateLimit DEFAULT_LIMIT = RateLimit.of(10, 20);
+    private static final int TOO_MANY_REQUESTS = 429;
+    private static final int SERVICE_UNAVAILABLE = 503;
+    private static final int MAX_THROTTLED_ATTEMPTS = 4;
+    private static final long DEFAULT_PAUSE_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final long MIN_TIMEOUT_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final Transport delegate;
+    private final TokenBucket clientBucket;
+    private final Map<EndpointGroup, TokenBucket> groupBuckets;
+    private final LongAdder throttled = new LongAdder();
+    private final LongAdder delayed = new LongAdder();
+    private final LongAdder delayNanos = new LongAdder();
+
+    private RateLimitingTransport(Transport delegate, RateLimit clientLimit,
+            Map<EndpointGroup, RateLimit> groupLimits) {
+        long now = System.nanoTime();
+        this.delegate = delegate;
+        this.clientBucket = new TokenBucket(clientLimit, now);
+        Map<EndpointGroup, TokenBucket> buckets = new EnumMap<>(EndpointGroup.class);
+        for (EndpointGroup group : EndpointGroup.values()) {
+            buckets.put(group, new TokenBucket(groupLimits.getOrDefault(group, clientLimit), now));
+        }
+        this.groupBuckets = Collections.unmodifiableMap(buckets);
+    }
+
+    /**
+     * Creates a rate-limiting transport allowing 10 requests per second with bursts of 20, for the client as a
+     * whole and for each endpoint group.
+     *
+     * @param delegate The transport to decorate.
+     * @return The rate-limiting transport.
+     */
+    public static RateLimitingTransport create(Transport delegate) {
+        return create(delegate, DEFAULT_LIMIT);
+    }
+
+    /**
+     * Creates a rate-limiting transport with the same limit for the client and for each endpoint group.
+     *
+     * @param delegate The transport to decorate.
+     * @param clientLimit The limit for all requests together.
+     * @return The rate-limiting transport.
+     */
+    public static RateLimitingTransport create(Transport delegate, RateLimit clientLimit) {
+        return create(delegate, clientLimit, Collections.emptyMap());
+    }
+
+    /**
+     * Creates a rate-limiting transport.
+     *
+     * @param delegate The transport to decorate.
+     * @param clientLimit The limit for all requests together.
+     * @param groupLimits Tighter limits for some endpoint groups; the others use {@code clientLimit}.
+     * @return The rate-limiting transport.
+     */
+    public static RateLimitingTransport create(Transport delegate, RateLimit clientLimit,
+            Map<EndpointGroup, RateLimit> groupLimits) {
+        return new RateLimitingTransport(delegate, clientLimit, groupLimits);
+    }
+
+    /**
+     * Gets the rate currently allowed for an endpoint group, which is below its limit while the server is
+     * signalling overload.
+     *
+     * @param group The endpoint group.
+     * @return The current rate, in requests per second.
+     */
+    public double getRate(EndpointGroup group) {
+        return groupBuckets.get(group).getRate();
+    }
+
+    /**
+     * Gets the number of {@code 429} and {@code 503} responses received.
+     *
+     * @return The throttled response count.
+     */
+    public long getThrottledCount() {
+        return throttled.sum();
+    }
+
+    /**
+     * Gets the number of requests that had to wait for a slot.
+     *
+     * @return The delayed request count.
+     */
+    public long getDelayedCount() {
+        return delayed.sum();
+    }
+
+    /**
+     * Gets the total time requests waited for a slot.
+     *
+     * @return The total delay.
+     */
+    public Duration getTotalDelay() {
+        return Duration.ofNanos(delayNanos.sum());
+    }
+
+    @Override
+    public Response execute(Request request) throws IOException {
+        TokenBucket group = bucket(request);
+        long start = System.nanoTime();
+        long wait = reserve(group, request, start);
+        if (wait < 0) {
+            throw timeout(request);
+        }
+        for (int attempt = 1; ; attempt++) {
+            sleep(wait);
+            Response response = delegate.execute(withRemainingTimeout(request, start));
+            if (!adapt(group, response.getStatusCode(), response.getHeader("Retry-After"), attempt)) {
+                return response;
+            }
+            wait = reserve(group, request, start);
+            if (wait < 0) {
+                // sending again would outlast the timeout, so let the caller see the 429
+                return response;
+            }
+        }
+    }
+
+    @Override
+    public StreamingResponse stream(Request request) throws IOException {
+        TokenBucket group = bucket(request);
+        long start = System.nanoTime();
+        long wait = reserve(group, request, start);
+        if (wait < 0) {
+            throw timeout(request);
+        }
+        for (int attempt = 1; ; attempt++) {
+            sleep(wait);
+            StreamingResponse response = delegate.stream(withRemainingTimeout(request, start));
+            if (!adapt(group, response.getStatusCode(), response.getHeader("Retry-After"), attempt)) {
+                return response;
+            }
+            wait = reserve(group, request, start);
+            if (wait < 0) {
+                return response;
+            }
+            response.close();
+        }
+    }
+
+    @Override
+    public CompletableFuture<Response> executeAsync(Request request) {
+        TokenBucket group = bucket(request);
+        long start = System.nanoTime();
+        long wait = reserve(group, request, start);
+        if (wait < 0) {
+            return CompletableFuture.failedFuture(timeout(request));
+        }
+        return executeAsync(request, group, start, wait, 1);
+    }
+
+    @Override
+    public void close() throws IOException {
+        delegate.close();
+    }
+
+    private CompletableFuture<Response> executeAsync(Request request, TokenBucket group, long start, long wait,
+            int attempt) {
+        CompletableFuture<Response> response = wait == 0
+                ? delegate.executeAsync(withRemainingTimeout(request, start))
+                : CompletableFuture.runAsync(() -> { }, CompletableFuture.delayedExecutor(wait, TimeUnit.NANOSECONDS))
+                        .thenCompose(ignored -> delegate.executeAsync(withRemainingTimeout(request, start)));
+        return response.thenCompose(result -> {
+            if (!adapt(group, result.getStatusCode(), result.getHeader("Retry-After"), attempt)) {
+                return CompletableFuture.completedFuture(result);
+            }
+            long next = reserve(group, request, start);
+            return next < 0 ? CompletableFuture.completedFuture(result)
+                    : executeAsync(request, group, start, next, attempt + 1);
+        });
+    }
+
+    private TokenBucket bucket(Request request) {
+        return groupBuckets.get(EndpointGroup.of(request.getEndpoint()));
+    }
+
+    /**
+     * Reserves a slot for a request that started waiting at {@code start}. No slot is taken from either bucket if
+     * the wait would exceed the request's timeout, so a request that gives up does not hold back the ones after it.
+     *
+     * @return How long to wait before sending, in nanoseconds, or -1 if that would exceed the request's timeout.
+     */
+    private long reserve(TokenBucket group, Request request, long start) {
+        long now = System.nanoTime();
+        long maxWait = request.getTimeout() == null ? Long.MAX_VALUE
+                : start + request.getTimeout().toNanos() - now - 1;
+        long clientWait = clientBucket.tryReserve(now, maxWait);
+        if (clientWait < 0) {
+            return -1;
+        }
+        long groupWait = group.tryReserve(now, maxWait);
+        if (groupWait < 0) {
+            clientBucket.release(now);
+            return -1;
+        }
+        long wait = Math.max(clientWait, groupWait);
+        if (wait > 0) {
+            delayed.increment();
+            delayNanos.add(wait);
+        }
+        return wait;
+    }
+
+    /**
+     * Leaves the delegate whatever the wait for a slot did not use of the request's timeout.
+     */
+    private static Request withRemainingTimeout(Request request, long start) {
+        if (request.getTimeout() == null) {
+            return request;
+        }
+        long remaining = start + request.getTimeout().toNanos() - System.nanoTime();
+        return request.withTimeout(Duration.ofNanos(Math.max(MIN_TIMEOUT_NANOS, remaining)));
+    }
+
+    private static HttpTimeoutException timeout(Request request) {
+        return new HttpTimeoutException("Waiting for a rate limit slot would exceed the timeout of "
+                + request.getTimeout() + " for " + request.getUrl());
+    }
+
+    private static void sleep(long wait) throws InterruptedIOException {
+        if (wait > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(wait);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for a rate limit slot");
+            }
+        }
+    }
+
+    /**
+     * Feeds a response status back into the buckets.
+     *
+     * @return {@code true} if the request was throttled and should be sent again.
+     */
+    private boolean adapt(TokenBucket group, int statusCode, String retryAfter, int attempt) {
+        if (statusCode != TOO_MANY_REQUESTS && statusCode != SERVICE_UNAVAILABLE) {
+            if (MempoolApiException.isSuccess(statusCode)) {
+                group.succeeded();
+            }
+            return false;
+        }
+        throttled.increment();
+        long now = System.nanoTime();
+        group.throttled();
+        Duration delay = MempoolApiException.parseRetryAfter(retryAfter);
+        if (delay != null) {
+            // a server's rate limit usually covers the whole client, not just one group
+            clientBucket.pause(now, delay.toNanos());
+        } else if (statusCode == TOO_MANY_REQUESTS) {
+            group.pause(now, DEFAULT_PAUSE_NANOS);
+        }
+        return statusCode == TOO_MANY_REQUESTS && attempt < MAX_THROTTLED_ATTEMPTS;
+    }
+
+    @Override
+    public String toString() {
+        return "RateLimitingTransport{" +
+                "clientLimit=" + clientBucket.getLimit() +
+                ", throttled=" + throttled +
+                ", delayed=" + delayed +
+                '}';
+    }
+}
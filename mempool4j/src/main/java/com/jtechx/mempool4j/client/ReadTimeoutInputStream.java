@@ -0,0 +1,131 @@
+package com.jtechx.mempool4j.client;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A response body whose reads each have to return within a timeout.
+ * <p>
+ * A read that takes longer is ended by closing the underlying stream from a timer, which also aborts the exchange, and
+ * fails with {@link HttpTimeoutException}. Time the caller spends between reads does not count, so a body may be
+ * consumed as slowly as the caller likes, as long as the server keeps up. The timer only runs while a read is.
+ */
+final class ReadTimeoutInputStream extends FilterInputStream {
+    private final long timeoutNanos;
+    private final String url;
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private volatile long readDeadline;
+    private volatile boolean reading;
+    private volatile boolean timedOut;
+    private volatile boolean closed;
+
+    ReadTimeoutInputStream(InputStream in, Duration timeout, String url) {
+        super(in);
+        this.timeoutNanos = timeout.toNanos();
+        this.url = url;
+    }
+
+    @Override
+    public int read() throws IOException {
+        begin();
+        try {
+            return end(in.read());
+        } catch (IOException e) {
+            throw failed(e);
+        }
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        begin();
+        try {
+            return end(in.read(b, off, len));
+        } catch (IOException e) {
+            throw failed(e);
+        }
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        begin();
+        try {
+            long skipped = in.skip(n);
+            end(0);
+            return skipped;
+        } catch (IOException e) {
+            throw failed(e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        super.close();
+    }
+
+    private void begin() {
+        readDeadline = System.nanoTime() + timeoutNanos;
+        reading = true;
+        if (scheduled.compareAndSet(false, true)) {
+            schedule(timeoutNanos);
+        }
+    }
+
+    private int end(int result) throws HttpTimeoutException {
+        reading = false;
+        if (timedOut) {
+            // the stream was closed under the read, which may have ended it early rather than failed it
+            throw timeout(null);
+        }
+        return result;
+    }
+
+    private IOException failed(IOException e) {
+        reading = false;
+        return timedOut ? timeout(e) : e;
+    }
+
+    private void schedule(long delay) {
+        CompletableFuture.delayedExecutor(delay, TimeUnit.NANOSECONDS).execute(this::check);
+    }
+
+    private void check() {
+        if (closed) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (reading && now - readDeadline >= 0) {
+            timedOut = true;
+            try {
+                in.close();
+            } catch (IOException e) {
+                // the read in progress fails either way
+            }
+            return;
+        }
+        if (reading) {
+            schedule(readDeadline - now);
+            return;
+        }
+        scheduled.set(false);
+        // a read may have begun after the check above and seen the timer still scheduled
+        if (reading && scheduled.compareAndSet(false, true)) {
+            schedule(Math.max(0, readDeadline - System.nanoTime()));
+        }
+    }
+
+    private HttpTimeoutException timeout(IOException cause) {
+        HttpTimeoutException e = new HttpTimeoutException("Reading the response of " + url + " took longer than "
+                + Duration.ofNanos(timeoutNanos));
+        if (cause != null) {
+            e.initCause(cause);
+        }
+        return e;
+    }
+}
@@ -0,0 +1,166 @@
+package com.jtechx.mempool4j.client;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class Request {
+    /**
+     * Fully expanded request URL.
+     */
+    private final String url;
+
+    /**
+     * HTTP method.
+     */
+    private final HttpMethod method;
+
+    /**
+     * The {@link Endpoints} pattern the URL was expanded from, if any.
+     */
+    private final String endpoint;
+
+    /**
+     * Additional request headers.
+     */
+    private final Map<String, String> headers;
+
+    /**
+     * How long to wait for the response headers, or null to wait as long as the transport does.
+     */
+    private final Duration timeout;
+
+    private Request(String url, HttpMethod method, String endpoint, Map<String, String> headers, Duration timeout) {
+        this.url = url;
+        this.method = method;
+        this.endpoint = endpoint;
+        this.headers = headers;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Creates a GET request without additional headers.
+     *
+     * @param url
+     *          The fully expanded request URL.
+     * @return The request.
+     */
+    public static Request get(String url) {
+        return new Request(url, HttpMethod.GET, null, Collections.emptyMap(), null);
+    }
+
+    /**
+     * Creates a GET request for an expanded {@link Endpoints} pattern, without additional headers.
+     *
+     * @param url
+     *          The fully expanded request URL.
+     * @param endpoint
+     *          The {@link Endpoints} pattern the URL was expanded from.
+     * @return The request.
+     */
+    public static Request get(String url, String endpoint) {
+        return new Request(url, HttpMethod.GET, endpoint, Collections.emptyMap(), null);
+    }
+
+    /**
+     * Creates a request without additional headers.
+     *
+     * @param url
+     *          The fully expanded request URL.
+     * @param method
+     *          The HTTP method.
+     * @return The request.
+     */
+    public static Request of(String url, HttpMethod method) {
+        return new Request(url, method, null, Collections.emptyMap(), null);
+    }
+
+    /**
+     * Returns a copy of this request with an additional header.
+     *
+     * @param name
+     *          The header name.
+     * @param value
+     *          The header value.
+     * @return The new request.
+     */
+    public Request withHeader(String name, String value) {
+        Map<String, String> copy = new LinkedHashMap<>(headers);
+        copy.put(name, value);
+        return new Request(url, method, endpoint, Collections.unmodifiableMap(copy), timeout);
+    }
+
+    /**
+     * Returns a copy of this request sent to another URL, e.g. the same path on another server.
+     *
+     * @param url
+     *          The fully expanded request URL.
+     * @return The new request.
+     */
+    public Request withUrl(String url) {
+        return new Request(url, method, endpoint, headers, timeout);
+    }
+
+    /**
+     * Returns a copy of this request with a timeout.
+     *
+     * @param timeout
+     *          How long to wait for the response: for the whole of it, or for a streamed response, for its headers
+     *          and then for each read of its body.
+     * @return The new request.
+     */
+    public Request withTimeout(Duration timeout) {
+        return new Request(url, method, endpoint, headers, timeout);
+    }
+
+    /**
+     * Gets the fully expanded request URL.
+     *
+     * @return The request URL.
+     */
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * Gets the HTTP method.
+     *
+     * @return The HTTP method.
+     */
+    public HttpMethod getMethod() {
+        return method;
+    }
+
+    /**
+     * Gets the {@link Endpoints} pattern the URL was expanded from, e.g. for per-endpoint statistics.
+     *
+     * @return The endpoint pattern, or null if the request was not built from one.
+     */
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * Gets the additional request headers.
+     *
+     * @return The request headers.
+     */
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+
+    /**
+     * Gets how long to wait for the response, as described at {@link #withTimeout(Duration)}.
+     *
+     * @return The timeout, or null if the transport's own applies.
+     */
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    @Override
+    public String toString() {
+        return method + " " + url;
+    }
+}
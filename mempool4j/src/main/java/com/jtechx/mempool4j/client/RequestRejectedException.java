@@ -0,0 +1,36 @@
+package com.jtechx.mempool4j.client;
+
+import java.io.IOException;
+
+/**
+ * Thrown by {@link IsolatingTransport} for a request it did not send, because its endpoint group's circuit breaker
+ * is open or none of the group's concurrent requests finished within the request's timeout.
+ */
+public class RequestRejectedException extends IOException {
+    private final EndpointGroup group;
+    private final CircuitState circuitState;
+
+    public RequestRejectedException(String message, EndpointGroup group, CircuitState circuitState) {
+        super(message);
+        this.group = group;
+        this.circuitState = circuitState;
+    }
+
+    /**
+     * Gets the endpoint group of the rejected request.
+     *
+     * @return The endpoint group.
+     */
+    public EndpointGroup getGroup() {
+        return group;
+    }
+
+    /**
+     * Gets the state of the group's circuit breaker at the time of the rejection.
+     *
+     * @return {@link CircuitState#OPEN} or {@link CircuitState#HALF_OPEN} if the breaker rejected the request.
+     */
+    public CircuitState getCircuitState() {
+        return circuitState;
+    }
+}
@@ -0,0 +1,149 @@
+package com.jtechx.mempool4j.client;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * How {@link RetryingTransport} retries and hedges a call: the number of attempts, how long each attempt and the
+ * whole call may take, the backoff between attempts and the {@link Endpoints} patterns to hedge.
+ */
+public final class RetryPolicy {
+    private static final Duration DEFAULT_INITIAL_BACKOFF = Duration.ofMillis(100);
+    private static final Duration DEFAULT_MAX_BACKOFF = Duration.ofSeconds(2);
+
+    private final int maxAttempts;
+    private final Duration attemptTimeout;
+    private final Duration deadline;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Set<String> hedgedEndpoints;
+
+    private RetryPolicy(int maxAttempts, Duration attemptTimeout, Duration deadline, Duration initialBackoff,
+            Duration maxBackoff, Set<String> hedgedEndpoints) {
+        this.maxAttempts = maxAttempts;
+        this.attemptTimeout = attemptTimeout;
+        this.deadline = deadline;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.hedgedEndpoints = hedgedEndpoints;
+    }
+
+    /**
+     * Creates a policy backing off from 100ms up to 2s between attempts, without hedging.
+     *
+     * @param maxAttempts The number of attempts, including the first.
+     * @param attemptTimeout How long one attempt may wait for the response headers.
+     * @param deadline How long the whole call may take, including backoff.
+     * @return The policy.
+     */
+    public static RetryPolicy of(int maxAttempts, Duration attemptTimeout, Duration deadline) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts must be positive: " + maxAttempts);
+        }
+        requirePositive("attemptTimeout", attemptTimeout);
+        requirePositive("deadline", deadline);
+        return new RetryPolicy(maxAttempts, attemptTimeout, deadline, DEFAULT_INITIAL_BACKOFF, DEFAULT_MAX_BACKOFF,
+                Collections.emptySet());
+    }
+
+    /**
+     * Returns a copy of this policy with another backoff. The delay before attempt {@code n + 1} is drawn at random
+     * between zero and {@code initialBackoff * 2^(n - 1)}, capped at {@code maxBackoff}.
+     *
+     * @param initialBackoff The upper bound of the first delay.
+     * @param maxBackoff The upper bound of any delay.
+     * @return The new policy.
+     */
+    public RetryPolicy withBackoff(Duration initialBackoff, Duration maxBackoff) {
+        requirePositive("initialBackoff", initialBackoff);
+        if (maxBackoff.compareTo(initialBackoff) < 0) {
+            throw new IllegalArgumentException("maxBackoff must not be below initialBackoff: " + maxBackoff);
+        }
+        return new RetryPolicy(maxAttempts, attemptTimeout, deadline, initialBackoff, maxBackoff, hedgedEndpoints);
+    }
+
+    /**
+     * Returns a copy of this policy that hedges the given endpoints: when an attempt has not answered within the
+     * endpoint's recent 95th percentile latency, a second one is sent and whichever succeeds first is used.
+     *
+     * @param endpoints The endpoints, e.g. {@link Endpoints#TRANSACTION}.
+     * @return The new policy.
+     */
+    public RetryPolicy withHedging(UrlTemplate... endpoints) {
+        Set<String> hedged = new LinkedHashSet<>(hedgedEndpoints);
+        for (UrlTemplate endpoint : endpoints) {
+            hedged.add(endpoint.getPattern());
+        }
+        return new RetryPolicy(maxAttempts, attemptTimeout, deadline, initialBackoff, maxBackoff,
+                Collections.unmodifiableSet(hedged));
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public Duration getAttemptTimeout() {
+        return attemptTimeout;
+    }
+
+    public Duration getDeadline() {
+        return deadline;
+    }
+
+    public Duration getInitialBackoff() {
+        return initialBackoff;
+    }
+
+    public Duration getMaxBackoff() {
+        return maxBackoff;
+    }
+
+    /**
+     * Gets the patterns of the hedged endpoints.
+     *
+     * @return The {@link Endpoints} patterns.
+     */
+    public Set<String> getHedgedEndpoints() {
+        return hedgedEndpoints;
+    }
+
+    private static void requirePositive(String name, Duration duration) {
+        if (duration.isNegative() || duration.isZero()) {
+            throw new IllegalArgumentException(name + " must be positive: " + duration);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "RetryPolicy{" +
+                "maxAttempts=" + maxAttempts +
+                ", attemptTimeout=" + attemptTimeout +
+                ", deadline=" + deadline +
+                ", initialBackoff=" + initialBackoff +
+                ", maxBackoff=" + maxBackoff +
+                ", hedgedEndpoints=" + hedgedEndpoints +
+                '}';
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        RetryPolicy that = (RetryPolicy) o;
+        return maxAttempts == that.maxAttempts && attemptTimeout.equals(that.attemptTimeout)
+                && deadline.equals(that.deadline) && initialBackoff.equals(that.initialBackoff)
+                && maxBackoff.equals(that.maxBackoff) && hedgedEndpoints.equals(that.hedgedEndpoints);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(maxAttempts, attemptTimeout, deadline, initialBackoff, maxBackoff, hedgedEndpoints);
+    }
+}
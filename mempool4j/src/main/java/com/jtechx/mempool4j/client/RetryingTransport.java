@@ -0,0 +1,383 @@
+package com.jtechx.mempool4j.client;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.net.UnknownHostException;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import javax.net.ssl.SSLHandshakeException;
+
+/**
+ * A {@link Transport} decorator that bounds how long a call may take and retries the attempts that failed in a way
+ * another attempt may not.
+ * <p>
+ * Each call gets the {@link RetryPolicy}'s deadline, and each attempt a timeout of its own that never reaches past
+ * it, so a stalled connection costs one attempt rather than the caller's thread. Attempts are retried after a
+ * jittered exponential backoff when they time out, when the connection fails or is reset, and on {@code 408},
+ * {@code 500}, {@code 502}, {@code 503} and {@code 504}, waiting at least as long as a {@code Retry-After} header
+ * asks. A {@code 429} is left to {@link RateLimitingTransport}, which sends it again within the attempt's timeout
+ * and slows down the whole client, so that it is not sent again by two layers. Other statuses, unknown hosts,
+ * failed TLS handshakes, interrupts and {@link RequestRejectedException}s are returned or thrown at once. When the
+ * attempts or the deadline run out, the last response or exception is passed on.
+ * <p>
+ * For the endpoints the policy hedges, an attempt that has not answered within the endpoint's recent 95th percentile
+ * latency is sent a second time and the first success wins, which trims the tail at the cost of about 5% more
+ * requests. Streamed requests to hedged endpoints are buffered and go the same way, so the typed calls of
+ * {@link DefaultMempoolClient} are hedged too; a losing response is then just an array to drop rather than a body
+ * holding a connection. Other streamed requests are retried but not hedged.
+ * <p>
+ * Only {@code GET} and {@code DELETE} requests are retried or hedged; everything else is passed through once.
+ */
+public class RetryingTransport implements Transport {
+    private static final RetryPolicy DEFAULT_POLICY =
+            RetryPolicy.of(3, Duration.ofSeconds(10), Duration.ofSeconds(30));
+    private static final long MIN_ATTEMPT_TIMEOUT_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final Transport delegate;
+    private final RetryPolicy policy;
+    private final ConcurrentHashMap<String, LatencyWindow> latencies = new ConcurrentHashMap<>();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder hedges = new LongAdder();
+
+    private RetryingTransport(Transport delegate, RetryPolicy policy) {
+        this.delegate = delegate;
+        this.policy = policy;
+    }
+
+    /**
+     * Creates a retrying transport making up to 3 attempts of at most 10 seconds each, within 30 seconds per call,
+     * without hedging.
+     *
+     * @param delegate The transport to decorate.
+     * @return The retrying transport.
+     */
+    public static RetryingTransport create(Transport delegate) {
+        return create(delegate, DEFAULT_POLICY);
+    }
+
+    /**
+     * Creates a retrying transport.
+     *
+     * @param delegate The transport to decorate.
+     * @param policy The retry policy.
+     * @return The retrying transport.
+     */
+    public static RetryingTransport create(Transport delegate, RetryPolicy policy) {
+        return new RetryingTransport(delegate, policy);
+    }
+
+    /**
+     * Gets the retry policy.
+     *
+     * @return The policy.
+     */
+    public RetryPolicy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * Gets the number of attempts sent again after a failure.
+     *
+     * @return The retry count.
+     */
+    public long getRetryCount() {
+        return retries.sum();
+    }
+
+    /**
+     * Gets the number of hedging attempts sent.
+     *
+     * @return The hedge count.
+     */
+    public long getHedgeCount() {
+        return hedges.sum();
+    }
+
+    /**
+     * Gets how long an attempt at a hedged endpoint currently waits before it is hedged.
+     *
+     * @param endpoint The endpoint.
+     * @return The delay, or empty if the endpoint is not hedged or has not seen enough responses yet.
+     */
+    public Optional<Duration> getHedgeDelay(UrlTemplate endpoint) {
+        LatencyWindow window = latencies.get(endpoint.getPattern());
+        long p95 = window == null ? -1 : window.getP95();
+        return p95 < 0 ? Optional.empty() : Optional.of(Duration.ofNanos(p95));
+    }
+
+    @Override
+    public Response execute(Request request) throws IOException {
+        if (!isIdempotent(request)) {
+            return delegate.execute(request);
+        }
+        LatencyWindow window = window(request);
+        long deadline = System.nanoTime() + policy.getDeadline().toNanos();
+        for (int attempt = 1; ; attempt++) {
+            Request timed = withAttemptTimeout(request, deadline);
+            Response response;
+            try {
+                long hedgeDelay = window == null ? -1 : window.getP95();
+                response = hedgeDelay < 0 ? record(window, timed) : await(hedge(timed, window, hedgeDelay), deadline);
+            } catch (IOException e) {
+                long delay = retryDelay(e, attempt, deadline);
+                if (delay < 0) {
+                    throw e;
+                }
+                sleep(delay);
+                continue;
+            }
+            long delay = retryDelay(response, attempt, deadline);
+            if (delay < 0) {
+                return response;
+            }
+            sleep(delay);
+        }
+    }
+
+    @Override
+    public StreamingResponse stream(Request request) throws IOException {
+        if (!isIdempotent(request)) {
+            return delegate.stream(request);
+        }
+        if (window(request) != null) {
+            Response response = execute(request);
+            return new StreamingResponse(response.getStatusCode(), new ByteArrayInputStream(response.getBody()),
+                    response.getHeaders());
+        }
+        long deadline = System.nanoTime() + policy.getDeadline().toNanos();
+        for (int attempt = 1; ; attempt++) {
+            StreamingResponse response;
+            try {
+                response = delegate.stream(withAttemptTimeout(request, deadline));
+            } catch (IOException e) {
+                long delay = retryDelay(e, attempt, deadline);
+                if (delay < 0) {
+                    throw e;
+                }
+                sleep(delay);
+                continue;
+            }
+            long delay = retryDelay(response.getStatusCode(), response.getHeader("Retry-After"), attempt, deadline);
+            if (delay < 0) {
+                return response;
+            }
+            response.close();
+            sleep(delay);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Response> executeAsync(Request request) {
+        if (!isIdempotent(request)) {
+            return delegate.executeAsync(request);
+        }
+        return executeAsync(request, window(request), System.nanoTime() + policy.getDeadline().toNanos(), 1);
+    }
+
+    @Override
+    public void close() throws IOException {
+        delegate.close();
+    }
+
+    private CompletableFuture<Response> executeAsync(Request request, LatencyWindow window, long deadline,
+            int attempt) {
+        Request timed = withAttemptTimeout(request, deadline);
+        long hedgeDelay = window == null ? -1 : window.getP95();
+        CompletableFuture<Response> response = hedgeDelay < 0 ? recordAsync(window, timed)
+                : hedge(timed, window, hedgeDelay);
+        return response.handle((result, error) -> {
+            Throwable cause = error instanceof CompletionException && error.getCause() != null
+                    ? error.getCause() : error;
+            long delay = cause == null ? retryDelay(result, attempt, deadline)
+                    : cause instanceof IOException ? retryDelay((IOException) cause, attempt, deadline) : -1;
+            if (delay < 0) {
+                return cause == null ? CompletableFuture.completedFuture(result)
+                        : CompletableFuture.<Response>failedFuture(cause);
+            }
+            return CompletableFuture.supplyAsync(() -> null,
+                    CompletableFuture.delayedExecutor(delay, TimeUnit.NANOSECONDS))
+                    .thenCompose(ignored -> executeAsync(request, window, deadline, attempt + 1));
+        }).thenCompose(next -> next);
+    }
+
+    /**
+     * Sends a request and, unless it has answered after {@code delay} nanoseconds, sends it again. The result is
+     * the first response with a status not worth retrying, or else whichever attempt finished last.
+     */
+    private CompletableFuture<Response> hedge(Request request, LatencyWindow window, long delay) {
+        CompletableFuture<Response> result = new CompletableFuture<>();
+        AtomicInteger running = new AtomicInteger(1);
+        BiConsumer<Response, Throwable> settle = (response, error) -> {
+            // a failure only counts once no other attempt can still succeed
+            if (error == null && !isRetryable(response.getStatusCode()) || running.decrementAndGet() == 0) {
+                if (error == null) {
+                    result.complete(response);
+                } else {
+                    result.completeExceptionally(error);
+                }
+            }
+        };
+        recordAsync(window, request).whenComplete(settle);
+        CompletableFuture.delayedExecutor(delay, TimeUnit.NANOSECONDS).execute(() -> {
+            if (!result.isDone() && running.getAndIncrement() > 0) {
+                hedges.increment();
+                recordAsync(window, request).whenComplete(settle);
+            }
+        });
+        return result;
+    }
+
+    private Response await(CompletableFuture<Response> response, long deadline) throws IOException {
+        try {
+            return response.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a hedged request");
+        } catch (TimeoutException e) {
+            throw new HttpTimeoutException("Deadline of " + policy.getDeadline() + " exceeded");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() instanceof CompletionException && e.getCause().getCause() != null
+                    ? e.getCause().getCause() : e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    private Response record(LatencyWindow window, Request request) throws IOException {
+        long start = System.nanoTime();
+        Response response = delegate.execute(request);
+        if (window != null) {
+            window.record(System.nanoTime() - start);
+        }
+        return response;
+    }
+
+    private CompletableFuture<Response> recordAsync(LatencyWindow window, Request request) {
+        long start = System.nanoTime();
+        CompletableFuture<Response> response = delegate.executeAsync(request);
+        return window == null ? response : response.whenComplete((result, error) -> {
+            if (error == null) {
+                window.record(System.nanoTime() - start);
+            }
+        });
+    }
+
+    private LatencyWindow window(Request request) {
+        String endpoint = request.getEndpoint();
+        return endpoint == null || !policy.getHedgedEndpoints().contains(endpoint) ? null
+                : latencies.computeIfAbsent(endpoint, ignored -> new LatencyWindow());
+    }
+
+    private Request withAttemptTimeout(Request request, long deadline) {
+        long remaining = Math.max(MIN_ATTEMPT_TIMEOUT_NANOS, deadline - System.nanoTime());
+        return request.withTimeout(Duration.ofNanos(Math.min(policy.getAttemptTimeout().toNanos(), remaining)));
+    }
+
+    private long retryDelay(Response response, int attempt, long deadline) {
+        return retryDelay(response.getStatusCode(), response.getHeader("Retry-After"), attempt, deadline);
+    }
+
+    /**
+     * Decides whether to retry after a response.
+     *
+     * @return The delay before the next attempt in nanoseconds, or -1 to pass the response on.
+     */
+    private long retryDelay(int statusCode, String retryAfter, int attempt, long deadline) {
+        if (!isRetryable(statusCode)) {
+            return -1;
+        }
+        Duration serverDelay = MempoolApiException.parseRetryAfter(retryAfter);
+        return retryDelay(attempt, deadline, serverDelay == null ? 0 : serverDelay.toNanos());
+    }
+
+    /**
+     * Decides whether to retry after an exception.
+     *
+     * @return The delay before the next attempt in nanoseconds, or -1 to throw the exception.
+     */
+    private long retryDelay(IOException e, int attempt, long deadline) {
+        return isRetryable(e) ? retryDelay(attempt, deadline, 0) : -1;
+    }
+
+    private long retryDelay(int attempt, long deadline, long minDelay) {
+        if (attempt >= policy.getMaxAttempts()) {
+            return -1;
+        }
+        // full jitter: spreading retries over the whole window keeps callers that failed together from retrying
+        // together
+        double cap = Math.min(policy.getMaxBackoff().toNanos(),
+                policy.getInitialBackoff().toNanos() * Math.pow(2, attempt - 1));
+        long delay = Math.max(minDelay, (long) (ThreadLocalRandom.current().nextDouble() * cap));
+        if (System.nanoTime() + delay - deadline >= 0) {
+            return -1;
+        }
+        retries.increment();
+        return delay;
+    }
+
+    private static void sleep(long nanos) throws InterruptedIOException {
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting to retry");
+        }
+    }
+
+    private static boolean isIdempotent(Request request) {
+        return request.getMethod() == HttpMethod.GET || request.getMethod() == HttpMethod.DELETE;
+    }
+
+    private static boolean isRetryable(int statusCode) {
+        switch (statusCode) {
+            case 408:
+            case 500:
+            case 502:
+            case 503:
+            case 504:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static boolean isRetryable(IOException e) {
+        if (e instanceof HttpTimeoutException || e instanceof SocketTimeoutException) {
+            return true;
+        }
+        // an interrupt asks the caller to stop; a missing host or a rejected certificate will not change; a rejection
+        // is meant to fail fast
+        return !(e instanceof InterruptedIOException || e instanceof UnknownHostException
+                || e instanceof SSLHandshakeException || e instanceof RequestRejectedException);
+    }
+
+    @Override
+    public String toString() {
+        return "RetryingTransport{" +
+                "policy=" + policy +
+                ", retries=" + retries +
+                ", hedges=" + hedges +
+                '}';
+    }
+}
@@ -0,0 +1,93 @@
+package com.jtechx.mempool4j.client;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent identical calls: while a call for a key is in flight, every other caller asking for the same
+ * key waits for it and receives the same result (or the same failure) instead of issuing its own request.
+ * <p>
+ * Results are only shared between calls that overlap in time; nothing is cached once the call completes.
+ */
+final class SingleFlight {
+    private final ConcurrentHashMap<String, CompletableFuture<Object>> calls = new ConcurrentHashMap<>();
+
+    @SuppressWarnings("unchecked")
+    <T> T execute(String key, Call<T> call) throws IOException {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletableFuture<Object> inFlight = calls.putIfAbsent(key, future);
+        if (inFlight != null) {
+            return (T) await(key, inFlight);
+        }
+
+        try {
+            T result = call.call();
+            future.complete(result);
+            return result;
+        } catch (IOException | RuntimeException | Error e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            calls.remove(key, future);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> CompletableFuture<T> executeAsync(String key, Supplier<CompletableFuture<T>> call) {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletableFuture<Object> inFlight = calls.putIfAbsent(key, future);
+        if (inFlight != null) {
+            return (CompletableFuture<T>) inFlight.thenApply(Function.identity());
+        }
+
+        CompletableFuture<T> result;
+        try {
+            result = call.get();
+        } catch (RuntimeException | Error e) {
+            calls.remove(key, future);
+            future.completeExceptionally(e);
+            return (CompletableFuture<T>) future.thenApply(Function.identity());
+        }
+        result.whenComplete((value, failure) -> {
+            calls.remove(key, future);
+            if (failure != null) {
+                future.completeExceptionally(failure);
+            } else {
+                future.complete(value);
+            }
+        });
+        // every caller gets its own dependent future, so one caller cancelling cannot fail the others
+        return (CompletableFuture<T>) future.thenApply(Function.identity());
+    }
+
+    private static Object await(String key, CompletableFuture<Object> inFlight) throws IOException {
+        try {
+            return inFlight.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for " + key);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    @FunctionalInterface
+    interface Call<T> {
+        T call() throws IOException;
+    }
+}
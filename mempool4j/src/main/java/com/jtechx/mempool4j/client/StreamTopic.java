@@ -0,0 +1,29 @@
+package com.jtechx.mempool4j.client;
+
+/**
+ * The push channels a {@link MempoolStreamClient} can subscribe to with the WebSocket {@code want} action.
+ */
+public enum StreamTopic {
+    /**
+     * New blocks, delivered through {@link MempoolStreamListener#onBlock}.
+     */
+    BLOCKS("blocks"),
+    /**
+     * Projected mempool blocks, delivered through {@link MempoolStreamListener#onMempoolBlocks}.
+     */
+    MEMPOOL_BLOCKS("mempool-blocks"),
+    /**
+     * Mempool statistics, of which the recommended fees are delivered through {@link MempoolStreamListener#onFees}.
+     */
+    STATS("stats");
+
+    private final String topic;
+
+    StreamTopic(String topic) {
+        this.topic = topic;
+    }
+
+    public String getTopic() {
+        return topic;
+    }
+}
@@ -0,0 +1,98 @@
+package com.jtechx.mempool4j.client;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+public class StreamingResponse implements Closeable {
+    /**
+     * HTTP response status code (e.g. 200).
+     */
+    private final Integer statusCode;
+
+    /**
+     * HTTP response body as an unread stream.
+     */
+    private final InputStream body;
+
+    /**
+     * HTTP response headers, keyed case-insensitively.
+     */
+    private final Map<String, List<String>> headers;
+
+    /**
+     * Creates a response with the given HTTP status code and response body, without headers.
+     *
+     * @param statusCode
+     *          The HTTP status code of the response.
+     * @param body
+     *          The response body.
+     */
+    public StreamingResponse(Integer statusCode, InputStream body) {
+        this(statusCode, body, Collections.emptyMap());
+    }
+
+    /**
+     * Creates a response with the given HTTP status code, response body and headers.
+     *
+     * @param statusCode
+     *          The HTTP status code of the response.
+     * @param body
+     *          The response body.
+     * @param headers
+     *          The response headers, keyed case-insensitively.
+     */
+    public StreamingResponse(Integer statusCode, InputStream body, Map<String, List<String>> headers) {
+        this.statusCode = statusCode;
+        this.body = body;
+        this.headers = headers;
+    }
+
+    /**
+     * Gets the HTTP status code.
+     *
+     * @return The HTTP status code.
+     */
+    public Integer getStatusCode() {
+        return statusCode;
+    }
+
+    /**
+     * Gets the HTTP response headers.
+     *
+     * @return The HTTP response headers, keyed case-insensitively.
+     */
+    public Map<String, List<String>> getHeaders() {
+        return headers;
+    }
+
+    /**
+     * Gets the first value of an HTTP response header.
+     *
+     * @param name
+     *          The header name, case-insensitive.
+     * @return The header value, or null if absent.
+     */
+    public String getHeader(String name) {
+        List<String> values = headers.get(name);
+        return values == null || values.isEmpty() ? null : values.get(0);
+    }
+
+    /**
+     * Gets the HTTP response body stream. The caller is responsible for closing this response once the body has
+     * been consumed so the underlying connection can be reused.
+     *
+     * @return The HTTP response body stream.
+     */
+    public InputStream getBody() {
+        return body;
+    }
+
+    @Override
+    public void close() throws IOException {
+        body.close();
+    }
+}
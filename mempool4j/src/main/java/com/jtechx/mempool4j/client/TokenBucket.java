@@ -0,0 +1,90 @@
+package com.jtechx.mempool4j.client;
+
+/**
+ * An adaptive token bucket in its virtual-scheduling form: instead of counting tokens, it tracks the time the next
+ * request is due and hands out those times in order. Callers therefore wait first come, first served, and a waiting
+ * caller holds no lock.
+ * <p>
+ * The rate halves, down to 1/64 of the configured rate, each time the server signals overload, and climbs back by
+ * 1/20 of the configured rate with each successful response.
+ */
+final class TokenBucket {
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final double MIN_RATE_FRACTION = 1.0 / 64;
+    private static final double RECOVERY_FRACTION = 1.0 / 20;
+
+    private final RateLimit limit;
+    private double rate;
+    private long interval;
+    // the time the next request is due, in System.nanoTime() terms
+    private long due;
+
+    TokenBucket(RateLimit limit, long now) {
+        this.limit = limit;
+        this.due = now;
+        setRate(limit.getRequestsPerSecond());
+    }
+
+    /**
+     * Reserves the next slot, unless it comes too late.
+     *
+     * @param maxWait The longest the caller is willing to wait, in nanoseconds.
+     * @return How long the caller must wait before sending, in nanoseconds, or -1 if that is longer than
+     *         {@code maxWait}, in which case no slot is taken.
+     */
+    synchronized long tryReserve(long now, long maxWait) {
+        long tolerance = interval * (limit.getBurst() - 1);
+        long start = due - now > 0 ? due : now;
+        long wait = Math.max(0, start - tolerance - now);
+        if (wait > maxWait) {
+            return -1;
+        }
+        due = start + interval;
+        return wait;
+    }
+
+    /**
+     * Gives back a slot reserved but not used, so that the next caller gets it instead.
+     */
+    synchronized void release(long now) {
+        due = due - interval - now > 0 ? due - interval : now;
+    }
+
+    /**
+     * Slows down after a {@code 429} or {@code 503}.
+     */
+    synchronized void throttled() {
+        setRate(Math.max(limit.getRequestsPerSecond() * MIN_RATE_FRACTION, rate / 2));
+    }
+
+    /**
+     * Holds every later reservation until {@code pause} nanoseconds from {@code now} have passed.
+     */
+    synchronized void pause(long now, long pause) {
+        // the first request after the pause is due exactly when it ends, with no burst on top
+        long resume = now + pause + interval * (limit.getBurst() - 1);
+        if (resume - due > 0) {
+            due = resume;
+        }
+    }
+
+    synchronized void succeeded() {
+        if (rate < limit.getRequestsPerSecond()) {
+            setRate(Math.min(limit.getRequestsPerSecond(),
+                    rate + limit.getRequestsPerSecond() * RECOVERY_FRACTION));
+        }
+    }
+
+    synchronized double getRate() {
+        return rate;
+    }
+
+    RateLimit getLimit() {
+        return limit;
+    }
+
+    private void setRate(double rate) {
+        this.rate = rate;
+        this.interval = Math.max(1, (long) (NANOS_PER_SECOND / rate));
+    }
+}
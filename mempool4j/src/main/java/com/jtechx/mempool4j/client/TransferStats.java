@@ -0,0 +1,70 @@
+package com.jtechx.mempool4j.client;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts responses and body bytes for one endpoint, before (as received on the wire) and after decompression.
+ */
+public class TransferStats {
+    private final LongAdder responses = new LongAdder();
+    private final LongAdder compressedBytes = new LongAdder();
+    private final LongAdder decompressedBytes = new LongAdder();
+
+    void recordResponse() {
+        responses.increment();
+    }
+
+    void recordCompressed(long bytes) {
+        compressedBytes.add(bytes);
+    }
+
+    void recordDecompressed(long bytes) {
+        decompressedBytes.add(bytes);
+    }
+
+    /**
+     * Retrieves the number of responses received.
+     *
+     * @return The number of responses.
+     */
+    public long getResponses() {
+        return responses.sum();
+    }
+
+    /**
+     * Retrieves the number of body bytes received on the wire.
+     *
+     * @return The number of compressed bytes.
+     */
+    public long getCompressedBytes() {
+        return compressedBytes.sum();
+    }
+
+    /**
+     * Retrieves the number of body bytes after decompression.
+     *
+     * @return The number of decompressed bytes.
+     */
+    public long getDecompressedBytes() {
+        return decompressedBytes.sum();
+    }
+
+    /**
+     * Retrieves the ratio of decompressed to compressed bytes.
+     *
+     * @return The compression ratio, or 1 if nothing has been received.
+     */
+    public double getCompressionRatio() {
+        long compressed = getCompressedBytes();
+        return compressed == 0 ? 1 : (double) getDecompressedBytes() / compressed;
+    }
+
+    @Override
+    public String toString() {
+        return "TransferStats{" +
+                "responses=" + getResponses() +
+                ", compressedBytes=" + getCompressedBytes() +
+                ", decompressedBytes=" + getDecompressedBytes() +
+                '}';
+    }
+}
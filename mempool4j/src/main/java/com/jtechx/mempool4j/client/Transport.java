@@ -0,0 +1,61 @@
+package com.jtechx.mempool4j.client;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Transport is the pluggable HTTP layer used by {@link DefaultMempoolClient} to talk to a mempool instance.
+ * Implementations are expected to be thread-safe and to reuse connections across calls.
+ */
+public interface Transport extends Closeable {
+
+    /**
+     * Executes a request and returns the fully read response.
+     *
+     * @param request The request.
+     * @return The response status code, headers and body.
+     * @throws IOException If the request could not be executed.
+     */
+    Response execute(Request request) throws IOException;
+
+    /**
+     * Executes a request and returns the response with its body still unread, so it can be parsed directly off
+     * the connection. The default implementation buffers the body through {@link #execute}.
+     *
+     * @param request The request.
+     * @return The response status code, headers and body stream.
+     * @throws IOException If the request could not be executed.
+     */
+    default StreamingResponse stream(Request request) throws IOException {
+        Response response = execute(request);
+        return new StreamingResponse(response.getStatusCode(), new ByteArrayInputStream(response.getBody()),
+                response.getHeaders());
+    }
+
+    /**
+     * Executes a request without blocking the caller. The default implementation runs {@link #execute} on the
+     * common pool; transports with native non-blocking I/O should override it.
+     *
+     * @param request The request.
+     * @return A future completed with the response, or exceptionally with the {@link IOException}.
+     */
+    default CompletableFuture<Response> executeAsync(Request request) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return execute(request);
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        });
+    }
+
+    /**
+     * Releases any pooled connections held by this transport.
+     */
+    @Override
+    default void close() throws IOException {
+    }
+}
@@ -0,0 +1,86 @@
+package com.jtechx.mempool4j.client;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+
+/**
+ * {@link Transport} built on {@link HttpURLConnection}.
+ * <p>
+ * The connection is never explicitly disconnected; the body is read to the end and the stream closed so the
+ * underlying socket is returned to the JDK keep-alive cache and reused by the next call to the same host.
+ */
+public class UrlConnectionTransport implements Transport {
+
+    @Override
+    public Response execute(Request request) throws IOException {
+        return fetchResponse(connect(request));
+    }
+
+    @Override
+    public StreamingResponse stream(Request request) throws IOException {
+        HttpURLConnection httpUrlConnection = connect(request);
+
+        return new StreamingResponse(httpUrlConnection.getResponseCode(), getBodyStream(httpUrlConnection),
+                Headers.of(httpUrlConnection.getHeaderFields()));
+    }
+
+    private HttpURLConnection connect(Request request) throws IOException {
+        HttpURLConnection httpUrlConnection = (HttpURLConnection) new URL(request.getUrl()).openConnection();
+        httpUrlConnection.setUseCaches(false);
+        httpUrlConnection.setRequestMethod(request.getMethod().name());
+        request.getHeaders().forEach(httpUrlConnection::setRequestProperty);
+        if (request.getTimeout() != null) {
+            // a zero timeout would mean none at all
+            int timeout = (int) Math.max(1, Math.min(Integer.MAX_VALUE, request.getTimeout().toMillis()));
+            httpUrlConnection.setConnectTimeout(timeout);
+            httpUrlConnection.setReadTimeout(timeout);
+        }
+
+        // Allow subclasses to customize the connection if they'd like to - set
+        // their own headers, timeouts, etc.
+        customizeConnection(httpUrlConnection);
+
+        httpUrlConnection.connect();
+
+        return httpUrlConnection;
+    }
+
+    protected void customizeConnection(HttpURLConnection httpUrlConnection) {
+    }
+
+    private Response fetchResponse(HttpURLConnection httpUrlConnection) throws IOException {
+        try (InputStream inputStream = getBodyStream(httpUrlConnection)) {
+
+            return new Response(httpUrlConnection.getResponseCode(), toByteArray(inputStream),
+                    Headers.of(httpUrlConnection.getHeaderFields()));
+        }
+    }
+
+    private InputStream getBodyStream(HttpURLConnection httpUrlConnection) throws IOException {
+        InputStream inputStream = httpUrlConnection.getResponseCode() != HttpURLConnection.HTTP_OK
+                ? httpUrlConnection.getErrorStream()
+                : httpUrlConnection.getInputStream();
+
+        // bodiless responses such as 304 Not Modified have no stream at all
+        return inputStream != null ? inputStream : new ByteArrayInputStream(new byte[0]);
+    }
+
+    private byte[] toByteArray(InputStream inputStream) throws IOException {
+        try (ByteArrayOutputStream buffer = new ByteArrayOutputStream()) {
+            int bytesRead;
+            byte[] data = new byte[1024];
+
+            while ((bytesRead = inputStream.read(data, 0, data.length)) != -1) {
+                buffer.write(data, 0, bytesRead);
+            }
+
+            buffer.flush();
+
+            return buffer.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.jtechx.mempool4j.client;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * A URL pattern from {@link Endpoints}, split once into literal parts and {@code %s} parameter slots.
+ * <p>
+ * A parameter in the path stands for exactly one segment: it is percent-encoded, so an argument containing
+ * {@code /} or {@code ?} cannot address a different resource, and {@code .} and {@code ..} are rejected. A
+ * parameter in the query is written as {@code name=%s}; its value is percent-encoded, a {@code null} value omits
+ * the pair and a {@link Collection} repeats it once per element. Expansion appends into a per-thread builder, so
+ * the only allocation is the resulting string.
+ */
+public final class UrlTemplate {
+    private static final int MAX_RETAINED_CAPACITY = 4096;
+    private static final ThreadLocal<StringBuilder> BUILDER = ThreadLocal.withInitial(() -> new StringBuilder(256));
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+    private final String pattern;
+    private final String[] pathLiterals;
+    private final String[] queryNames;
+    private final String[] queryValues;
+    private final int parameterCount;
+
+    private UrlTemplate(String pattern, String[] pathLiterals, String[] queryNames, String[] queryValues) {
+        this.pattern = pattern;
+        this.pathLiterals = pathLiterals;
+        this.queryNames = queryNames;
+        this.queryValues = queryValues;
+        int queryParameters = 0;
+        for (String value : queryValues) {
+            if (value == null) {
+                queryParameters++;
+            }
+        }
+        this.parameterCount = pathLiterals.length - 1 + queryParameters;
+    }
+
+    /**
+     * Compiles a pattern such as {@code /api/block/%s/txs/%s} or {@code /api/v1/lightning/search?searchText=%s}.
+     *
+     * @param pattern The pattern, with {@code %s} for each parameter.
+     * @return The compiled template.
+     * @throws IllegalArgumentException If a parameter shares a path segment or query value with other text.
+     */
+    public static UrlTemplate compile(String pattern) {
+        int queryStart = pattern.indexOf('?');
+        String path = queryStart < 0 ? pattern : pattern.substring(0, queryStart);
+        String[] pathLiterals = path.split("%s", -1);
+        for (int i = 1; i < pathLiterals.length; i++) {
+            if (!pathLiterals[i - 1].endsWith("/") || !(pathLiterals[i].isEmpty() || pathLiterals[i].startsWith("/"))) {
+                throw new IllegalArgumentException("Path parameters must be whole segments: " + pattern);
+            }
+        }
+
+        List<String> queryNames = new ArrayList<>();
+        List<String> queryValues = new ArrayList<>();
+        if (queryStart >= 0) {
+            for (String pair : pattern.substring(queryStart + 1).split("&")) {
+                int equals = pair.indexOf('=');
+                if (equals <= 0) {
+                    throw new IllegalArgumentException("Query parameters must be name=value pairs: " + pattern);
+                }
+                String value = pair.substring(equals + 1);
+                if (value.contains("%s") && !value.equals("%s")) {
+                    throw new IllegalArgumentException("Query parameters must be whole values: " + pattern);
+                }
+                queryNames.add(encode(pair.substring(0, equals)));
+                queryValues.add(value.equals("%s") ? null : encode(value));
+            }
+        }
+        return new UrlTemplate(pattern, pathLiterals,
+                queryNames.toArray(new String[0]), queryValues.toArray(new String[0]));
+    }
+
+    /**
+     * Gets the pattern this template was compiled from.
+     *
+     * @return The pattern.
+     */
+    public String getPattern() {
+        return pattern;
+    }
+
+    /**
+     * Gets the number of arguments {@link #expand(String, Object...)} expects.
+     *
+     * @return The parameter count.
+     */
+    public int getParameterCount() {
+        return parameterCount;
+    }
+
+    /**
+     * Expands the template into a path and query.
+     *
+     * @param args One argument per parameter, path parameters first.
+     * @return The expanded path and query.
+     */
+    public String expand(Object... args) {
+        return expand("", args);
+    }
+
+    /**
+     * Expands the template and prepends a base URL.
+     *
+     * @param baseUrl The base URL, e.g. {@code https://mempool.space}, without a trailing slash.
+     * @param args One argument per parameter, path parameters first.
+     * @return The expanded URL.
+     * @throws IllegalArgumentException If the number of arguments does not match or a path argument is
+     *                                  {@code null}, {@code .} or {@code ..}.
+     */
+    public String expand(String baseUrl, Object... args) {
+        if (args.length != parameterCount) {
+            throw new IllegalArgumentException("Expected " + parameterCount + " arguments for " + pattern
+                    + ", got " + args.length);
+        }
+        StringBuilder builder = BUILDER.get();
+        builder.setLength(0);
+        builder.append(baseUrl).append(pathLiterals[0]);
+        int arg = 0;
+        for (int i = 1; i < pathLiterals.length; i++) {
+            appendSegment(builder, args[arg++]);
+            builder.append(pathLiterals[i]);
+        }
+        char separator = '?';
+        for (int i = 0; i < queryNames.length; i++) {
+            if (queryValues[i] != null) {
+                builder.append(separator).append(queryNames[i]).append('=').append(queryValues[i]);
+                separator = '&';
+                continue;
+            }
+            Object value = args[arg++];
+            if (value instanceof Collection) {
+                for (Object element : (Collection<?>) value) {
+                    builder.append(separator).append(queryNames[i]).append('=');
+                    appendEncoded(builder, String.valueOf(element));
+                    separator = '&';
+                }
+            } else if (value != null) {
+                builder.append(separator).append(queryNames[i]).append('=');
+                appendEncoded(builder, String.valueOf(value));
+                separator = '&';
+            }
+        }
+        String url = builder.toString();
+        if (builder.capacity() > MAX_RETAINED_CAPACITY) {
+            BUILDER.remove();
+        }
+        return url;
+    }
+
+    @Override
+    public String toString() {
+        return pattern;
+    }
+
+    private void appendSegment(StringBuilder builder, Object arg) {
+        if (arg == null) {
+            throw new IllegalArgumentException("Missing path parameter for " + pattern);
+        }
+        String segment = arg.toString();
+        if (segment.equals(".") || segment.equals("..")) {
+            throw new IllegalArgumentException("Invalid path segment '" + segment + "' for " + pattern);
+        }
+        appendEncoded(builder, segment);
+    }
+
+    private static String encode(String value) {
+        StringBuilder builder = new StringBuilder(value.length());
+        appendEncoded(builder, value);
+        return builder.toString();
+    }
+
+    private static void appendEncoded(StringBuilder builder, String value) {
+        int length = value.length();
+        int i = 0;
+        while (i < length && isUnreserved(value.charAt(i))) {
+            i++;
+        }
+        builder.append(value, 0, i);
+        if (i == length) {
+            return;
+        }
+        for (byte b : value.substring(i).getBytes(StandardCharsets.UTF_8)) {
+            char c = (char) (b & 0xFF);
+            if (isUnreserved(c)) {
+                builder.append(c);
+            } else {
+                builder.append('%').append(HEX[c >> 4]).append(HEX[c & 0xF]);
+            }
+        }
+    }
+
+    private static boolean isUnreserved(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                || c == '-' || c == '.' || c == '_' || c == '~';
+    }
+}
@@ -0,0 +1,234 @@
+package com.jtechx.mempool4j.mirror;
+
+import com.jtechx.mempool4j.model.Hash256;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+
+/**
+ * An open-addressing set of {@link Hash256} values, stored as four longs per slot in one flat array, so a mempool's
+ * worth of txids costs about 64 bytes each instead of the ~200 of a {@code HashSet<String>}, and lookups compare
+ * words instead of strings.
+ * <p>
+ * Slots are probed linearly from an index derived from the last word, mixed with a per-set seed so that txids
+ * ground to collide cannot degrade every mirror the same way. An all-zero slot is empty, so {@link Hash256#ZERO}
+ * cannot be stored. Removal shifts later entries back instead of leaving tombstones.
+ * <p>
+ * Not thread-safe. Lookups racing with a modification may return a wrong answer but always terminate, which lets
+ * {@link MempoolMirror} validate them optimistically.
+ */
+public final class Hash256Set {
+    private static final int MIN_CAPACITY = 16;
+
+    private final long seed = ThreadLocalRandom.current().nextLong();
+    private long[] words;
+    private int size;
+
+    private Hash256Set(int capacity) {
+        this.words = new long[capacity * 4];
+    }
+
+    /**
+     * Creates an empty set.
+     *
+     * @return The set.
+     */
+    public static Hash256Set create() {
+        return new Hash256Set(MIN_CAPACITY);
+    }
+
+    /**
+     * Creates an empty set that holds {@code expectedSize} values without resizing.
+     *
+     * @param expectedSize The expected number of values.
+     * @return The set.
+     */
+    public static Hash256Set create(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("expectedSize must not be negative: " + expectedSize);
+        }
+        return new Hash256Set(capacityFor(expectedSize));
+    }
+
+    /**
+     * Adds a value.
+     *
+     * @param hash The value.
+     * @return {@code true} if the set did not already contain it.
+     * @throws IllegalArgumentException If the value is {@link Hash256#ZERO}.
+     */
+    public boolean add(Hash256 hash) {
+        long w0 = hash.getWord(0);
+        long w1 = hash.getWord(1);
+        long w2 = hash.getWord(2);
+        long w3 = hash.getWord(3);
+        if ((w0 | w1 | w2 | w3) == 0) {
+            throw new IllegalArgumentException("The zero hash cannot be stored");
+        }
+        if ((size + 1) * 4L > words.length / 4 * 3L) {
+            resize(words.length / 4);
+        }
+        int mask = words.length / 4 - 1;
+        for (int slot = home(w3, mask); ; slot = (slot + 1) & mask) {
+            int i = slot * 4;
+            if (isEmpty(words, i)) {
+                words[i] = w0;
+                words[i + 1] = w1;
+                words[i + 2] = w2;
+                words[i + 3] = w3;
+                size++;
+                return true;
+            }
+            if (words[i + 3] == w3 && words[i] == w0 && words[i + 1] == w1 && words[i + 2] == w2) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Checks whether the set contains a value.
+     *
+     * @param hash The value.
+     * @return {@code true} if the set contains it.
+     */
+    public boolean contains(Hash256 hash) {
+        return find(words, hash) >= 0;
+    }
+
+    /**
+     * Removes a value.
+     *
+     * @param hash The value.
+     * @return {@code true} if the set contained it.
+     */
+    public boolean remove(Hash256 hash) {
+        long[] table = words;
+        int slot = find(table, hash);
+        if (slot < 0) {
+            return false;
+        }
+        int mask = table.length / 4 - 1;
+        int hole = slot;
+        for (int next = (hole + 1) & mask; !isEmpty(table, next * 4); next = (next + 1) & mask) {
+            int home = home(table[next * 4 + 3], mask);
+            // an entry may fill the hole only if the hole lies between its home slot and where it sits now
+            boolean between = hole <= next ? home <= hole || home > next : home <= hole && home > next;
+            if (between) {
+                System.arraycopy(table, next * 4, table, hole * 4, 4);
+                hole = next;
+            }
+        }
+        table[hole * 4] = 0;
+        table[hole * 4 + 1] = 0;
+        table[hole * 4 + 2] = 0;
+        table[hole * 4 + 3] = 0;
+        size--;
+        return true;
+    }
+
+    /**
+     * Gets the number of values.
+     *
+     * @return The size.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks whether the set is empty.
+     *
+     * @return {@code true} if the set has no values.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all values, keeping the capacity.
+     */
+    public void clear() {
+        Arrays.fill(words, 0);
+        size = 0;
+    }
+
+    /**
+     * Passes every value to an action, in no particular order. The set must not be modified meanwhile.
+     *
+     * @param action The action.
+     */
+    public void forEach(Consumer<? super Hash256> action) {
+        long[] table = words;
+        for (int i = 0; i < table.length; i += 4) {
+            if (!isEmpty(table, i)) {
+                action.accept(Hash256.of(table[i], table[i + 1], table[i + 2], table[i + 3]));
+            }
+        }
+    }
+
+    /**
+     * Returns the slot holding a value, or -1. Probing stops after one pass over the table so that a lookup racing
+     * with a modification still terminates.
+     */
+    private int find(long[] table, Hash256 hash) {
+        long w0 = hash.getWord(0);
+        long w1 = hash.getWord(1);
+        long w2 = hash.getWord(2);
+        long w3 = hash.getWord(3);
+        int capacity = table.length / 4;
+        int mask = capacity - 1;
+        int slot = home(w3, mask);
+        for (int probes = 0; probes < capacity; probes++, slot = (slot + 1) & mask) {
+            int i = slot * 4;
+            if (table[i + 3] == w3 && table[i] == w0 && table[i + 1] == w1 && table[i + 2] == w2) {
+                return (w0 | w1 | w2 | w3) == 0 ? -1 : slot;
+            }
+            if (isEmpty(table, i)) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    private void resize(int oldCapacity) {
+        long[] old = words;
+        words = new long[oldCapacity * 2 * 4];
+        int mask = oldCapacity * 2 - 1;
+        for (int i = 0; i < old.length; i += 4) {
+            if (!isEmpty(old, i)) {
+                int slot = home(old[i + 3], mask);
+                while (!isEmpty(words, slot * 4)) {
+                    slot = (slot + 1) & mask;
+                }
+                System.arraycopy(old, i, words, slot * 4, 4);
+            }
+        }
+    }
+
+    private int home(long word, int mask) {
+        long h = (word ^ seed) * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    private static boolean isEmpty(long[] table, int i) {
+        return (table[i] | table[i + 1] | table[i + 2] | table[i + 3]) == 0;
+    }
+
+    private static int capacityFor(int expectedSize) {
+        // keep the load factor at or below 3/4
+        long needed = Math.max(MIN_CAPACITY, expectedSize * 4L / 3 + 1);
+        long capacity = Long.highestOneBit(needed - 1) << 1;
+        if (capacity > 1 << 28) {
+            throw new IllegalArgumentException("Too many values: " + expectedSize);
+        }
+        return (int) capacity;
+    }
+
+    @Override
+    public String toString() {
+        return "Hash256Set{" +
+                "size=" + size +
+                ", capacity=" + words.length / 4 +
+                '}';
+    }
+}
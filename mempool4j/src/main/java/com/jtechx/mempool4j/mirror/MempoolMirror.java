@@ -0,0 +1,262 @@
+package com.jtechx.mempool4j.mirror;
+
+import com.jtechx.mempool4j.client.MempoolClient;
+import com.jtechx.mempool4j.model.Hash256;
+import com.jtechx.mempool4j.model.mempool.MempoolRecent;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.StampedLock;
+import java.util.stream.Stream;
+
+/**
+ * A local copy of the server's mempool txid set, kept current by calling {@link #poll()} on a schedule of the
+ * caller's choosing, e.g. every few seconds.
+ * <p>
+ * Most polls cost two small requests: the tip height and {@code getMempoolRecent}, whose newest transactions are
+ * added to the mirror. The full txid list is only streamed again when deltas cannot be trusted:
+ * <ul>
+ *     <li>on the first poll;</li>
+ *     <li>when the tip height changes, since a block removes many transactions at once;</li>
+ *     <li>when none of the recent transactions were already known, since more may have arrived than the endpoint
+ *     returns;</li>
+ *     <li>when the resync interval elapses, to catch replacements and evictions. The interval doubles, up to a
+ *     maximum, after each scheduled resync that found nothing the deltas missed, and halves, down to a minimum,
+ *     after one that did.</li>
+ * </ul>
+ * Each resync is diffed against the mirror, so listeners see only the transactions that actually entered or left.
+ * <p>
+ * Lookups never block: they read optimistically and retry only if a poll modified the mirror at the same time.
+ */
+public final class MempoolMirror {
+    private static final Duration DEFAULT_MIN_RESYNC_INTERVAL = Duration.ofSeconds(30);
+    private static final Duration DEFAULT_MAX_RESYNC_INTERVAL = Duration.ofMinutes(10);
+    private static final int INITIAL_SIZE = 1024;
+
+    private final MempoolClient client;
+    private final long minResyncNanos;
+    private final long maxResyncNanos;
+    private final StampedLock stampedLock = new StampedLock();
+    private final List<MempoolMirrorListener> listeners = new CopyOnWriteArrayList<>();
+
+    // replaced on resync, modified in place by deltas; guarded by stampedLock for writes
+    private Hash256Set txIds = Hash256Set.create();
+    private boolean synced;
+    private int tipHeight = -1;
+    private long lastResync;
+    private volatile long resyncNanos;
+    private volatile long polls;
+    private volatile long fullResyncs;
+
+    private MempoolMirror(MempoolClient client, long minResyncNanos, long maxResyncNanos) {
+        this.client = client;
+        this.minResyncNanos = minResyncNanos;
+        this.maxResyncNanos = maxResyncNanos;
+        this.resyncNanos = minResyncNanos;
+    }
+
+    /**
+     * Creates an empty mirror that resyncs at least every 10 minutes and at most every 30 seconds when nothing else
+     * forces it.
+     *
+     * @param client The client to poll.
+     * @return The mirror.
+     */
+    public static MempoolMirror create(MempoolClient client) {
+        return create(client, DEFAULT_MIN_RESYNC_INTERVAL, DEFAULT_MAX_RESYNC_INTERVAL);
+    }
+
+    /**
+     * Creates an empty mirror.
+     *
+     * @param client The client to poll.
+     * @param minResyncInterval The shortest interval between scheduled resyncs.
+     * @param maxResyncInterval The longest interval between scheduled resyncs.
+     * @return The mirror.
+     */
+    public static MempoolMirror create(MempoolClient client, Duration minResyncInterval, Duration maxResyncInterval) {
+        if (minResyncInterval.isNegative() || minResyncInterval.isZero()
+                || minResyncInterval.compareTo(maxResyncInterval) > 0) {
+            throw new IllegalArgumentException("Invalid resync interval range: " + minResyncInterval + " to "
+                    + maxResyncInterval);
+        }
+        return new MempoolMirror(client, minResyncInterval.toNanos(), maxResyncInterval.toNanos());
+    }
+
+    /**
+     * Brings the mirror up to date with the server, publishing every change to the listeners.
+     *
+     * @return The number of transactions added or removed.
+     * @throws IOException If a request fails, in which case the mirror is unchanged by the failed step.
+     */
+    public synchronized int poll() throws IOException {
+        polls++;
+        long now = System.nanoTime();
+        int tip = client.getBlockTipHeight();
+        if (!synced || tip != tipHeight) {
+            int changes = resync(now, false);
+            tipHeight = tip;
+            return changes;
+        }
+        if (now - lastResync >= resyncNanos) {
+            return resync(now, true);
+        }
+
+        List<MempoolRecent> recent = client.getMempoolRecent();
+        List<Hash256> added = new ArrayList<>(recent.size());
+        boolean overlap = false;
+        long stamp = stampedLock.writeLock();
+        try {
+            // the endpoint lists the newest first
+            for (int i = recent.size() - 1; i >= 0; i--) {
+                Hash256 txId = recent.get(i).getTxid();
+                if (txIds.add(txId)) {
+                    added.add(txId);
+                } else {
+                    overlap = true;
+                }
+            }
+        } finally {
+            stampedLock.unlockWrite(stamp);
+        }
+        publish(added, List.of());
+        if (!overlap && !recent.isEmpty()) {
+            return added.size() + resync(now, false);
+        }
+        return added.size();
+    }
+
+    /**
+     * Checks whether the mirror holds a transaction.
+     *
+     * @param txId The transaction.
+     * @return {@code true} if the transaction was in the server's mempool as of the last poll.
+     */
+    public boolean contains(Hash256 txId) {
+        long stamp = stampedLock.tryOptimisticRead();
+        boolean contains = txIds.contains(txId);
+        if (!stampedLock.validate(stamp)) {
+            stamp = stampedLock.readLock();
+            try {
+                contains = txIds.contains(txId);
+            } finally {
+                stampedLock.unlockRead(stamp);
+            }
+        }
+        return contains;
+    }
+
+    /**
+     * Gets the number of transactions in the mirror.
+     *
+     * @return The size.
+     */
+    public int size() {
+        long stamp = stampedLock.tryOptimisticRead();
+        int size = txIds.size();
+        if (!stampedLock.validate(stamp)) {
+            stamp = stampedLock.readLock();
+            try {
+                size = txIds.size();
+            } finally {
+                stampedLock.unlockRead(stamp);
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Gets the current interval between scheduled resyncs.
+     *
+     * @return The interval.
+     */
+    public Duration getResyncInterval() {
+        return Duration.ofNanos(resyncNanos);
+    }
+
+    /**
+     * Gets the number of calls to {@link #poll()}, including failed ones.
+     *
+     * @return The poll count.
+     */
+    public long getPollCount() {
+        return polls;
+    }
+
+    /**
+     * Gets the number of times the full txid list was downloaded.
+     *
+     * @return The resync count.
+     */
+    public long getFullResyncCount() {
+        return fullResyncs;
+    }
+
+    public void addListener(MempoolMirrorListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(MempoolMirrorListener listener) {
+        listeners.remove(listener);
+    }
+
+    private int resync(long now, boolean scheduled) throws IOException {
+        Hash256Set fresh = Hash256Set.create(Math.max(INITIAL_SIZE, txIds.size()));
+        try (Stream<Hash256> stream = client.streamMempoolTransactionIds()) {
+            stream.forEach(fresh::add);
+        }
+        Hash256Set old = txIds;
+        List<Hash256> removed = new ArrayList<>();
+        old.forEach(txId -> {
+            if (!fresh.contains(txId)) {
+                removed.add(txId);
+            }
+        });
+        List<Hash256> added = new ArrayList<>();
+        fresh.forEach(txId -> {
+            if (!old.contains(txId)) {
+                added.add(txId);
+            }
+        });
+        long stamp = stampedLock.writeLock();
+        try {
+            txIds = fresh;
+        } finally {
+            stampedLock.unlockWrite(stamp);
+        }
+
+        if (scheduled) {
+            // anything found now was missed by the deltas, so check sooner; otherwise back off
+            resyncNanos = removed.isEmpty() && added.isEmpty()
+                    ? Math.min(maxResyncNanos, resyncNanos * 2) : Math.max(minResyncNanos, resyncNanos / 2);
+        }
+        synced = true;
+        lastResync = now;
+        fullResyncs++;
+        publish(added, removed);
+        return added.size() + removed.size();
+    }
+
+    private void publish(List<Hash256> added, List<Hash256> removed) {
+        for (MempoolMirrorListener listener : listeners) {
+            for (Hash256 txId : removed) {
+                listener.onRemoved(txId);
+            }
+            for (Hash256 txId : added) {
+                listener.onAdded(txId);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "MempoolMirror{" +
+                "size=" + size() +
+                ", polls=" + polls +
+                ", fullResyncs=" + fullResyncs +
+                ", resyncInterval=" + getResyncInterval() +
+                '}';
+    }
+}
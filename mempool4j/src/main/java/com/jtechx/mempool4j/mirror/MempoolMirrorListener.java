@@ -0,0 +1,27 @@
+package com.jtechx.mempool4j.mirror;
+
+import com.jtechx.mempool4j.model.Hash256;
+
+/**
+ * Receives changes to a {@link MempoolMirror}. Callbacks run on the thread that polls the mirror, after the change
+ * is visible to {@link MempoolMirror#contains(Hash256)}, and must not block.
+ */
+public interface MempoolMirrorListener {
+
+    /**
+     * Called after a transaction enters the mirror, including once per transaction on the first poll.
+     *
+     * @param txId The transaction.
+     */
+    default void onAdded(Hash256 txId) {
+    }
+
+    /**
+     * Called after a transaction leaves the mirror because the server's mempool no longer holds it, whether it was
+     * mined, replaced or evicted.
+     *
+     * @param txId The transaction.
+     */
+    default void onRemoved(Hash256 txId) {
+    }
+}
@@ -0,0 +1,322 @@
+package com.jtechx.mempool4j.model;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdScalarSerializer;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * A 256-bit hash such as a txid or block hash, held as four {@code long}s instead of a 64-character hex string.
+ * <p>
+ * The value is kept in display order, the order mempool.space and block explorers print it in, so {@link #toString()}
+ * round-trips with {@link #fromHex(CharSequence)}. Bitcoin serializes these hashes byte-reversed on the wire; use
+ * {@link #fromWireBytes(byte[], int)} and {@link #toWireBytes()} for that order. Instances are immutable, compare
+ * by value, and bind to and from JSON strings without an intermediate {@link String}.
+ */
+@JsonSerialize(using = Hash256.Serializer.class)
+@JsonDeserialize(using = Hash256.Deserializer.class)
+public final class Hash256 implements Comparable<Hash256> {
+    public static final int BYTES = 32;
+    public static final int HEX_LENGTH = 64;
+    public static final Hash256 ZERO = new Hash256(0, 0, 0, 0);
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final byte[] NIBBLES = new byte[128];
+
+    static {
+        Arrays.fill(NIBBLES, (byte) -1);
+        for (int i = 0; i < 10; i++) {
+            NIBBLES['0' + i] = (byte) i;
+        }
+        for (int i = 0; i < 6; i++) {
+            NIBBLES['a' + i] = (byte) (10 + i);
+            NIBBLES['A' + i] = (byte) (10 + i);
+        }
+    }
+
+    private final long l0;
+    private final long l1;
+    private final long l2;
+    private final long l3;
+
+    private Hash256(long l0, long l1, long l2, long l3) {
+        this.l0 = l0;
+        this.l1 = l1;
+        this.l2 = l2;
+        this.l3 = l3;
+    }
+
+    /**
+     * Creates a hash from its four 64-bit words, most significant (first printed) first.
+     *
+     * @param l0 Bytes 0 to 7 in display order.
+     * @param l1 Bytes 8 to 15 in display order.
+     * @param l2 Bytes 16 to 23 in display order.
+     * @param l3 Bytes 24 to 31 in display order.
+     * @return The hash.
+     */
+    public static Hash256 of(long l0, long l1, long l2, long l3) {
+        return new Hash256(l0, l1, l2, l3);
+    }
+
+    /**
+     * Parses a 64-character hex string, in either case.
+     *
+     * @param hex The hex string.
+     * @return The hash.
+     * @throws IllegalArgumentException If the input is not 64 hex characters.
+     */
+    public static Hash256 fromHex(CharSequence hex) {
+        if (hex.length() != HEX_LENGTH) {
+            throw new IllegalArgumentException("Expected " + HEX_LENGTH + " hex characters but got " + hex.length());
+        }
+        return new Hash256(parseLong(hex, 0), parseLong(hex, 16), parseLong(hex, 32), parseLong(hex, 48));
+    }
+
+    /**
+     * Parses 64 hex characters from a character array, e.g. a JSON parser's text buffer.
+     *
+     * @param hex The characters.
+     * @param offset The index of the first hex character.
+     * @param length The number of characters, which must be 64.
+     * @return The hash.
+     * @throws IllegalArgumentException If the input is not 64 hex characters.
+     */
+    public static Hash256 fromHex(char[] hex, int offset, int length) {
+        if (length != HEX_LENGTH) {
+            throw new IllegalArgumentException("Expected " + HEX_LENGTH + " hex characters but got " + length);
+        }
+        return new Hash256(parseLong(hex, offset), parseLong(hex, offset + 16), parseLong(hex, offset + 32),
+                parseLong(hex, offset + 48));
+    }
+
+    /**
+     * Reads 32 bytes in display order.
+     *
+     * @param bytes The source.
+     * @param offset The index of the first byte.
+     * @return The hash.
+     */
+    public static Hash256 fromBytes(byte[] bytes, int offset) {
+        return new Hash256(readLong(bytes, offset), readLong(bytes, offset + 8), readLong(bytes, offset + 16),
+                readLong(bytes, offset + 24));
+    }
+
+    /**
+     * Reads 32 bytes in wire order, i.e. as the output of SHA-256d without reversal.
+     *
+     * @param bytes The source.
+     * @param offset The index of the first byte.
+     * @return The hash.
+     */
+    public static Hash256 fromWireBytes(byte[] bytes, int offset) {
+        return new Hash256(Long.reverseBytes(readLong(bytes, offset + 24)),
+                Long.reverseBytes(readLong(bytes, offset + 16)), Long.reverseBytes(readLong(bytes, offset + 8)),
+                Long.reverseBytes(readLong(bytes, offset)));
+    }
+
+    /**
+     * Returns the 32 bytes in display order.
+     *
+     * @return A new array.
+     */
+    public byte[] toBytes() {
+        byte[] bytes = new byte[BYTES];
+        writeLong(bytes, 0, l0);
+        writeLong(bytes, 8, l1);
+        writeLong(bytes, 16, l2);
+        writeLong(bytes, 24, l3);
+        return bytes;
+    }
+
+    /**
+     * Returns the 32 bytes in wire order.
+     *
+     * @return A new array.
+     */
+    public byte[] toWireBytes() {
+        byte[] bytes = new byte[BYTES];
+        writeLong(bytes, 0, Long.reverseBytes(l3));
+        writeLong(bytes, 8, Long.reverseBytes(l2));
+        writeLong(bytes, 16, Long.reverseBytes(l1));
+        writeLong(bytes, 24, Long.reverseBytes(l0));
+        return bytes;
+    }
+
+    /**
+     * Returns one of the four 64-bit words, most significant first.
+     *
+     * @param index The word index, 0 to 3.
+     * @return The word.
+     */
+    public long getWord(int index) {
+        switch (index) {
+            case 0:
+                return l0;
+            case 1:
+                return l1;
+            case 2:
+                return l2;
+            case 3:
+                return l3;
+            default:
+                throw new IndexOutOfBoundsException("Word index out of range: " + index);
+        }
+    }
+
+    /**
+     * Writes the 64 lowercase hex characters into a buffer.
+     *
+     * @param buffer The destination, with at least 64 characters available from {@code offset}.
+     * @param offset The index of the first character.
+     */
+    public void toHex(char[] buffer, int offset) {
+        writeHex(buffer, offset, l0);
+        writeHex(buffer, offset + 16, l1);
+        writeHex(buffer, offset + 32, l2);
+        writeHex(buffer, offset + 48, l3);
+    }
+
+    /**
+     * Compares hashes as unsigned 256-bit numbers in display order, so a lower block hash sorts first.
+     */
+    @Override
+    public int compareTo(Hash256 other) {
+        int result = Long.compareUnsigned(l0, other.l0);
+        if (result == 0) {
+            result = Long.compareUnsigned(l1, other.l1);
+        }
+        if (result == 0) {
+            result = Long.compareUnsigned(l2, other.l2);
+        }
+        if (result == 0) {
+            result = Long.compareUnsigned(l3, other.l3);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Hash256)) {
+            return false;
+        }
+        Hash256 that = (Hash256) o;
+        return l3 == that.l3 && l2 == that.l2 && l1 == that.l1 && l0 == that.l0;
+    }
+
+    /**
+     * Returns bits from the low words, which are uniformly distributed even for block hashes whose leading words
+     * are zero.
+     */
+    @Override
+    public int hashCode() {
+        return Long.hashCode(l3 ^ Long.rotateLeft(l2, 32) ^ l1);
+    }
+
+    /**
+     * Returns the 64 lowercase hex characters in display order.
+     */
+    @Override
+    public String toString() {
+        char[] buffer = new char[HEX_LENGTH];
+        toHex(buffer, 0);
+        return new String(buffer);
+    }
+
+    private static long parseLong(CharSequence hex, int offset) {
+        long value = 0;
+        for (int i = offset; i < offset + 16; i++) {
+            value = value << 4 | nibble(hex.charAt(i));
+        }
+        return value;
+    }
+
+    private static long parseLong(char[] hex, int offset) {
+        long value = 0;
+        for (int i = offset; i < offset + 16; i++) {
+            value = value << 4 | nibble(hex[i]);
+        }
+        return value;
+    }
+
+    private static int nibble(char c) {
+        int nibble = c < 128 ? NIBBLES[c] : -1;
+        if (nibble < 0) {
+            throw new IllegalArgumentException("Invalid hex character: '" + c + "'");
+        }
+        return nibble;
+    }
+
+    private static void writeHex(char[] buffer, int offset, long value) {
+        for (int i = 15; i >= 0; i--) {
+            buffer[offset + i] = HEX[(int) value & 0xF];
+            value >>>= 4;
+        }
+    }
+
+    private static long readLong(byte[] bytes, int offset) {
+        long value = 0;
+        for (int i = offset; i < offset + 8; i++) {
+            value = value << 8 | (bytes[i] & 0xFF);
+        }
+        return value;
+    }
+
+    private static void writeLong(byte[] bytes, int offset, long value) {
+        for (int i = offset + 7; i >= offset; i--) {
+            bytes[i] = (byte) value;
+            value >>>= 8;
+        }
+    }
+
+    /**
+     * Writes a hash as a JSON string of lowercase hex, without building an intermediate {@link String}.
+     */
+    public static final class Serializer extends StdScalarSerializer<Hash256> {
+        public Serializer() {
+            super(Hash256.class);
+        }
+
+        @Override
+        public void serialize(Hash256 value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            char[] buffer = new char[HEX_LENGTH];
+            value.toHex(buffer, 0);
+            generator.writeString(buffer, 0, HEX_LENGTH);
+        }
+    }
+
+    /**
+     * Reads a hash straight from the parser's text buffer, without materializing the hex {@link String}. An empty
+     * string reads as {@code null}.
+     */
+    public static final class Deserializer extends StdScalarDeserializer<Hash256> {
+        public Deserializer() {
+            super(Hash256.class);
+        }
+
+        @Override
+        public Hash256 deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            if (parser.currentToken() != JsonToken.VALUE_STRING) {
+                return (Hash256) context.handleUnexpectedToken(Hash256.class, parser);
+            }
+            if (parser.getTextLength() == 0) {
+                return null;
+            }
+            try {
+                return fromHex(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+            } catch (IllegalArgumentException e) {
+                return (Hash256) context.handleWeirdStringValue(Hash256.class, parser.getText(), e.getMessage());
+            }
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.jtechx.mempool4j.model.address;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.jtechx.mempool4j.model.Hash256;
 import com.jtechx.mempool4j.model.transaction.TransactionStatus;
 
 import java.util.Objects;
@@ -12,7 +13,7 @@ import java.util.Objects;
 @JsonIgnoreProperties(ignoreUnknown = true)
 public class UTXO {
 
-    private final String txId;
+    private final Hash256 txId;
     private final int vout;
     private final TransactionStatus transactionStatus;
     private final long value;
@@ -25,7 +26,7 @@ public class UTXO {
      * @param transactionStatus The status of the funding transaction.
      * @param value  The value of the UTXO.
      */
-    public UTXO(@JsonProperty("txid") String txId,
+    public UTXO(@JsonProperty("txid") Hash256 txId,
             @JsonProperty("vout") int vout,
             @JsonProperty("status") TransactionStatus transactionStatus,
             @JsonProperty("value") long value) {
@@ -40,7 +41,7 @@ public class UTXO {
      *
      * @return The transaction ID.
      */
-    public String getTxId() {
+    public Hash256 getTxId() {
         return txId;
     }
 
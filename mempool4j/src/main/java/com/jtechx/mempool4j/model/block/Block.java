@@ -3,6 +3,7 @@ package com.jtechx.mempool4j.model.block;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.jtechx.mempool4j.model.Hash256;
 
 import java.util.Objects;
 
@@ -12,7 +13,7 @@ import java.util.Objects;
 @JsonIgnoreProperties(ignoreUnknown = true)
 public class Block {
     private final Extras extras;
-    private final String id;
+    private final Hash256 id;
     private final int height;
     private final int version;
     private final long timestamp;
@@ -20,11 +21,11 @@ public class Block {
     private final long nonce;
     private final long difficulty;
     private final long medianTime;
-    private final String merkleRoot;
+    private final Hash256 merkleRoot;
     private final int txCount;
     private final int size;
     private final int weight;
-    private final String previousBlockHash;
+    private final Hash256 previousBlockHash;
 
     /**
      * Constructs a new Block object with the provided values.
@@ -46,7 +47,7 @@ public class Block {
      */
     @JsonCreator
     public Block(@JsonProperty("extras") Extras extras,
-            @JsonProperty("id") String id,
+            @JsonProperty("id") Hash256 id,
             @JsonProperty("height") int height,
             @JsonProperty("version") int version,
             @JsonProperty("timestamp") long timestamp,
@@ -54,11 +55,11 @@ public class Block {
             @JsonProperty("nonce") long nonce,
             @JsonProperty("difficulty") long difficulty,
             @JsonProperty("mediantime") long medianTime,
-            @JsonProperty("merkle_root") String merkleRoot,
+            @JsonProperty("merkle_root") Hash256 merkleRoot,
             @JsonProperty("tx_count") int txCount,
             @JsonProperty("size") int size,
             @JsonProperty("weight") int weight,
-            @JsonProperty("previousblockhash") String previousBlockHash) {
+            @JsonProperty("previousblockhash") Hash256 previousBlockHash) {
         this.extras = extras;
         this.id = id;
         this.height = height;
@@ -89,7 +90,7 @@ public class Block {
      *
      * @return The block ID.
      */
-    public String getId() {
+    public Hash256 getId() {
         return id;
     }
 
@@ -161,7 +162,7 @@ public class Block {
      *
      * @return The block merkle root.
      */
-    public String getMerkleRoot() {
+    public Hash256 getMerkleRoot() {
         return merkleRoot;
     }
 
@@ -197,7 +198,7 @@ public class Block {
      *
      * @return The hash of the previous block.
      */
-    public String getPreviousBlockHash() {
+    public Hash256 getPreviousBlockHash() {
         return previousBlockHash;
     }
 
@@ -3,6 +3,7 @@ package com.jtechx.mempool4j.model.block;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.jtechx.mempool4j.model.Hash256;
 
 import java.util.Objects;
 
@@ -13,7 +14,7 @@ import java.util.Objects;
 public class BlockStatus {
     private final boolean inBestChain;
     private final long height;
-    private final String nextBest;
+    private final Hash256 nextBest;
 
     /**
      * Constructs a BlockStatus object.
@@ -26,7 +27,7 @@ public class BlockStatus {
     public BlockStatus(
             @JsonProperty("in_best_chain") boolean inBestChain,
             @JsonProperty("height") long height,
-            @JsonProperty("next_best") String nextBest) {
+            @JsonProperty("next_best") Hash256 nextBest) {
         this.inBestChain = inBestChain;
         this.height = height;
         this.nextBest = nextBest;
@@ -55,7 +56,7 @@ public class BlockStatus {
      *
      * @return The hash of the next block.
      */
-    public String getNextBest() {
+    public Hash256 getNextBest() {
         return nextBest;
     }
 
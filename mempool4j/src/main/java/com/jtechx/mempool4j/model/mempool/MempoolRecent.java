@@ -3,6 +3,7 @@ package com.jtechx.mempool4j.model.mempool;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.jtechx.mempool4j.model.Hash256;
 import java.util.Objects;
 
 /**
@@ -10,7 +11,7 @@ import java.util.Objects;
  */
 @JsonIgnoreProperties(ignoreUnknown = true)
 public class MempoolRecent {
-    private final String txid;
+    private final Hash256 txid;
     private final int fee;
     private final int vsize;
     private final int value;
@@ -24,7 +25,7 @@ public class MempoolRecent {
      * @param value The transaction value in satoshis.
      */
     @JsonCreator
-    public MempoolRecent(@JsonProperty("txid") String txid,
+    public MempoolRecent(@JsonProperty("txid") Hash256 txid,
             @JsonProperty("fee") int fee,
             @JsonProperty("vsize") int vsize,
             @JsonProperty("value") int value) {
@@ -39,7 +40,7 @@ public class MempoolRecent {
      *
      * @return The transaction ID.
      */
-    public String getTxid() {
+    public Hash256 getTxid() {
         return txid;
     }
 
@@ -2,10 +2,11 @@ package com.jtechx.mempool4j.model.transaction;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.jtechx.mempool4j.model.Hash256;
 import java.util.Objects;
 
 public class CPFPTransaction {
-    private final String txId;
+    private final Hash256 txId;
     private final int weight;
     private final int fee;
 
@@ -17,7 +18,7 @@ public class CPFPTransaction {
      * @param fee    The transaction fee in satoshis.
      */
     @JsonCreator
-    public CPFPTransaction(@JsonProperty("txid") String txId,
+    public CPFPTransaction(@JsonProperty("txid") Hash256 txId,
             @JsonProperty("weight") int weight,
             @JsonProperty("fee") int fee) {
         this.txId = txId;
@@ -30,7 +31,7 @@ public class CPFPTransaction {
      *
      * @return The transaction ID.
      */
-    public String getTxId() {
+    public Hash256 getTxId() {
         return txId;
     }
 
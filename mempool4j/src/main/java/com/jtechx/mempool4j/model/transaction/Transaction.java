@@ -2,6 +2,7 @@ package com.jtechx.mempool4j.model.transaction;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.jtechx.mempool4j.model.Hash256;
 
 import java.util.List;
 import java.util.Objects;
@@ -10,7 +11,7 @@ import java.util.Objects;
  * TransactionResponse represents a response containing details about a transaction.
  */
 public class Transaction {
-    private final String txId;
+    private final Hash256 txId;
     private final int version;
     private final int lockTime;
     private final List<Vin> vin;
@@ -34,7 +35,7 @@ public class Transaction {
      * @param transactionStatus  The transaction status.
      */
     @JsonCreator
-    public Transaction(@JsonProperty("txid") String txId,
+    public Transaction(@JsonProperty("txid") Hash256 txId,
             @JsonProperty("version") int version,
             @JsonProperty("locktime") int lockTime,
             @JsonProperty("vin") List<Vin> vin,
@@ -59,7 +60,7 @@ public class Transaction {
      *
      * @return The transaction ID.
      */
-    public String getTxId() {
+    public Hash256 getTxId() {
         return txId;
     }
 
@@ -2,6 +2,7 @@ package com.jtechx.mempool4j.model.transaction;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.jtechx.mempool4j.model.Hash256;
 
 import java.util.Objects;
 
@@ -10,7 +11,7 @@ import java.util.Objects;
  */
 public class TransactionOutspend {
     private final boolean spent;
-    private final String txid;
+    private final Hash256 txid;
     private final int vin;
     private final TransactionStatus status;
 
@@ -24,7 +25,7 @@ public class TransactionOutspend {
      */
     @JsonCreator
     public TransactionOutspend(@JsonProperty("spent") boolean spent,
-            @JsonProperty("txid") String txid,
+            @JsonProperty("txid") Hash256 txid,
             @JsonProperty("vin") int vin,
             @JsonProperty("status") TransactionStatus status) {
         this.spent = spent;
@@ -47,7 +48,7 @@ public class TransactionOutspend {
      *
      * @return The transaction ID.
      */
-    public String getTxid() {
+    public Hash256 getTxid() {
         return txid;
     }
 
@@ -1,6 +1,7 @@
 package com.jtechx.mempool4j.model.transaction;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.jtechx.mempool4j.model.Hash256;
 
 import java.util.Objects;
 
@@ -10,7 +11,7 @@ import java.util.Objects;
 public class TransactionStatus {
     private final boolean confirmed;
     private final int blockHeight;
-    private final String blockHash;
+    private final Hash256 blockHash;
     private final long blockTime;
 
     /**
@@ -23,7 +24,7 @@ public class TransactionStatus {
      */
     public TransactionStatus(@JsonProperty("confirmed") boolean confirmed,
             @JsonProperty("block_height") int blockHeight,
-            @JsonProperty("block_hash") String blockHash,
+            @JsonProperty("block_hash") Hash256 blockHash,
             @JsonProperty("block_time") long blockTime) {
         this.confirmed = confirmed;
         this.blockHeight = blockHeight;
@@ -54,7 +55,7 @@ public class TransactionStatus {
      *
      * @return The block hash.
      */
-    public String getBlockHash() {
+    public Hash256 getBlockHash() {
         return blockHash;
     }
 
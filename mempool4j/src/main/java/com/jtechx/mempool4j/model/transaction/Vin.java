@@ -2,6 +2,7 @@ package com.jtechx.mempool4j.model.transaction;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.jtechx.mempool4j.model.Hash256;
 
 import java.util.List;
 import java.util.Objects;
@@ -10,7 +11,7 @@ import java.util.Objects;
  * Represents the input of a transaction (Vin).
  */
 public class Vin {
-    private final String txId;
+    private final Hash256 txId;
     private final long vout;
     private final Vout prevout;
     private final String scriptSig;
@@ -22,7 +23,7 @@ public class Vin {
     private final String innerWitnessScriptAsm;
 
     @JsonCreator
-    public Vin(@JsonProperty("txid") String txId,
+    public Vin(@JsonProperty("txid") Hash256 txId,
             @JsonProperty("vout") long vout,
             @JsonProperty("prevout") Vout prevout,
             @JsonProperty("scriptsig") String scriptSig,
@@ -49,7 +50,7 @@ public class Vin {
      *
      * @return The transaction ID.
      */
-    public String getTxId() {
+    public Hash256 getTxId() {
         return txId;
     }
 
@@ -0,0 +1,316 @@
+package com.jtechx.mempool4j.wire;
+
+import com.jtechx.mempool4j.model.Hash256;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+/**
+ * An 80-byte block header, e.g. as returned hex-encoded by {@code getBlockHeader}. The block hash is computed on
+ * first use and cached.
+ */
+public final class BlockHeader {
+    public static final int SIZE = WireDecoder.HEADER_SIZE;
+
+    private final int version;
+    private final Hash256 previousBlockHash;
+    private final Hash256 merkleRoot;
+    private final long timestamp;
+    private final long bits;
+    private final long nonce;
+    // racy single-check caching, as in String.hashCode: Hash256 is immutable, so a stale null only costs a rehash
+    private Hash256 hash;
+
+    private BlockHeader(int version, Hash256 previousBlockHash, Hash256 merkleRoot, long timestamp, long bits,
+            long nonce) {
+        this.version = version;
+        this.previousBlockHash = previousBlockHash;
+        this.merkleRoot = merkleRoot;
+        this.timestamp = timestamp;
+        this.bits = bits;
+        this.nonce = nonce;
+    }
+
+    /**
+     * Creates a header from its fields, e.g. those of a {@code Block} returned by {@code getBlocks}.
+     *
+     * @param version The block version.
+     * @param previousBlockHash The hash of the previous block.
+     * @param merkleRoot The merkle root.
+     * @param timestamp The timestamp in seconds since the epoch.
+     * @param bits The compact target.
+     * @param nonce The nonce.
+     * @return The header.
+     */
+    public static BlockHeader of(int version, Hash256 previousBlockHash, Hash256 merkleRoot, long timestamp,
+            long bits, long nonce) {
+        return new BlockHeader(version, previousBlockHash, merkleRoot, timestamp, bits, nonce);
+    }
+
+    /**
+     * Parses a hex-encoded header.
+     *
+     * @param hex The 160 hex characters of the header.
+     * @return The header.
+     * @throws WireFormatException If the input is not 80 hex-encoded bytes.
+     */
+    public static BlockHeader fromHex(CharSequence hex) throws WireFormatException {
+        if (hex.length() != SIZE * 2) {
+            throw new WireFormatException("Expected " + SIZE * 2 + " hex characters but got " + hex.length());
+        }
+        byte[] bytes = new byte[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            int high = Character.digit(hex.charAt(2 * i), 16);
+            int low = Character.digit(hex.charAt(2 * i + 1), 16);
+            if (high < 0 || low < 0) {
+                throw new WireFormatException("Invalid hex at offset " + 2 * i);
+            }
+            bytes[i] = (byte) (high << 4 | low);
+        }
+        return read(ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     * Parses a header from an array.
+     *
+     * @param bytes The source.
+     * @param offset The index of the header's first byte.
+     * @return The header.
+     * @throws WireFormatException If fewer than 80 bytes are available.
+     */
+    public static BlockHeader fromBytes(byte[] bytes, int offset) throws WireFormatException {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        if (offset < 0 || offset > bytes.length) {
+            throw new WireFormatException("Offset " + offset + " is outside the " + bytes.length + " byte array");
+        }
+        buffer.position(offset);
+        return read(buffer);
+    }
+
+    /**
+     * Reads a header at the buffer's position and advances the position past it.
+     *
+     * @param buffer The buffer.
+     * @return The header.
+     * @throws WireFormatException If fewer than 80 bytes remain, in which case the position is unchanged.
+     */
+    public static BlockHeader read(ByteBuffer buffer) throws WireFormatException {
+        WireReader reader = new WireReader(buffer);
+        reader.require(SIZE);
+        BlockHeader header = readAt(reader.buffer(), reader.position());
+        buffer.position(reader.position() + SIZE);
+        return header;
+    }
+
+    /**
+     * Reads a header at an absolute offset without moving the buffer's position, e.g. from a memory-mapped file.
+     *
+     * @param buffer The buffer, with at least 80 bytes from {@code offset}.
+     * @param offset The absolute index of the header's first byte.
+     * @return The header.
+     */
+    public static BlockHeader readAt(ByteBuffer buffer, int offset) {
+        ByteBuffer littleEndian = buffer.order() == ByteOrder.LITTLE_ENDIAN
+                ? buffer : buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        return new BlockHeader(littleEndian.getInt(offset), WireReader.hashAt(littleEndian, offset + 4),
+                WireReader.hashAt(littleEndian, offset + 36), littleEndian.getInt(offset + 68) & 0xFFFFFFFFL,
+                littleEndian.getInt(offset + 72) & 0xFFFFFFFFL, littleEndian.getInt(offset + 76) & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Expands a compact target into the 256-bit number a block hash must not exceed.
+     *
+     * @param bits The compact target.
+     * @return The target, or {@link Hash256#ZERO} if the encoding is negative, zero or overflows.
+     */
+    public static Hash256 target(long bits) {
+        int exponent = (int) (bits >>> 24) & 0xFF;
+        long mantissa = bits & 0x7FFFFF;
+        if ((bits & 0x800000) != 0 || mantissa == 0) {
+            return Hash256.ZERO;
+        }
+        byte[] bytes = new byte[Hash256.BYTES];
+        for (int i = 0; i < 3; i++) {
+            int index = Hash256.BYTES - exponent + i;
+            byte b = (byte) (mantissa >>> (16 - 8 * i));
+            if (index < 0) {
+                if (b != 0) {
+                    return Hash256.ZERO;
+                }
+            } else if (index < Hash256.BYTES) {
+                bytes[index] = b;
+            }
+        }
+        return Hash256.fromBytes(bytes, 0);
+    }
+
+    /**
+     * Writes the header at an absolute offset without moving the buffer's position.
+     *
+     * @param buffer The buffer, with at least 80 bytes from {@code offset}.
+     * @param offset The absolute index to write the first byte at.
+     */
+    public void writeAt(ByteBuffer buffer, int offset) {
+        ByteBuffer littleEndian = buffer.order() == ByteOrder.LITTLE_ENDIAN
+                ? buffer : buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        littleEndian.putInt(offset, version);
+        writeHash(littleEndian, offset + 4, previousBlockHash);
+        writeHash(littleEndian, offset + 36, merkleRoot);
+        littleEndian.putInt(offset + 68, (int) timestamp);
+        littleEndian.putInt(offset + 72, (int) bits);
+        littleEndian.putInt(offset + 76, (int) nonce);
+    }
+
+    /**
+     * Serializes the header.
+     *
+     * @return A new 80-byte array.
+     */
+    public byte[] toBytes() {
+        ByteBuffer buffer = ByteBuffer.allocate(SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        writeAt(buffer, 0);
+        return buffer.array();
+    }
+
+    /**
+     * Gets the block hash.
+     *
+     * @return The block hash.
+     */
+    public Hash256 getHash() {
+        Hash256 result = hash;
+        if (result == null) {
+            byte[] bytes = toBytes();
+            DoubleSha256 sha = DoubleSha256.get();
+            sha.update(bytes, 0, SIZE);
+            result = sha.finish();
+            hash = result;
+        }
+        return result;
+    }
+
+    /**
+     * Gets the block version.
+     *
+     * @return The version.
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Gets the hash of the previous block.
+     *
+     * @return The previous block hash.
+     */
+    public Hash256 getPreviousBlockHash() {
+        return previousBlockHash;
+    }
+
+    /**
+     * Gets the merkle root of the block's transactions.
+     *
+     * @return The merkle root.
+     */
+    public Hash256 getMerkleRoot() {
+        return merkleRoot;
+    }
+
+    /**
+     * Gets the block timestamp.
+     *
+     * @return The timestamp in seconds since the epoch.
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * Gets the compact target.
+     *
+     * @return The bits.
+     */
+    public long getBits() {
+        return bits;
+    }
+
+    /**
+     * Gets the nonce.
+     *
+     * @return The nonce.
+     */
+    public long getNonce() {
+        return nonce;
+    }
+
+    /**
+     * Gets the difficulty the compact target encodes.
+     *
+     * @return The difficulty.
+     */
+    public double getDifficulty() {
+        return WireDecoder.difficulty(bits);
+    }
+
+    /**
+     * Gets the target the block hash must not exceed.
+     *
+     * @return The target.
+     */
+    public Hash256 getTarget() {
+        return target(bits);
+    }
+
+    /**
+     * Checks that the block hash, read as a 256-bit number, does not exceed the header's own target. This says
+     * nothing about whether the target itself is the one the chain requires at this height.
+     *
+     * @return {@code true} if the proof of work is sufficient for the header's bits.
+     */
+    public boolean hasValidProofOfWork() {
+        Hash256 target = getTarget();
+        return !target.equals(Hash256.ZERO) && getHash().compareTo(target) <= 0;
+    }
+
+    @Override
+    public String toString() {
+        return "BlockHeader{" +
+                "hash=" + getHash() +
+                ", version=" + version +
+                ", previousBlockHash=" + previousBlockHash +
+                ", merkleRoot=" + merkleRoot +
+                ", timestamp=" + timestamp +
+                ", bits=" + bits +
+                ", nonce=" + nonce +
+                '}';
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        BlockHeader that = (BlockHeader) o;
+        return version == that.version &&
+                timestamp == that.timestamp &&
+                bits == that.bits &&
+                nonce == that.nonce &&
+                Objects.equals(previousBlockHash, that.previousBlockHash) &&
+                Objects.equals(merkleRoot, that.merkleRoot);
+    }
+
+    @Override
+    public int hashCode() {
+        return getHash().hashCode();
+    }
+
+    private static void writeHash(ByteBuffer littleEndian, int offset, Hash256 hash) {
+        littleEndian.putLong(offset, hash.getWord(3));
+        littleEndian.putLong(offset + 8, hash.getWord(2));
+        littleEndian.putLong(offset + 16, hash.getWord(1));
+        littleEndian.putLong(offset + 24, hash.getWord(0));
+    }
+}
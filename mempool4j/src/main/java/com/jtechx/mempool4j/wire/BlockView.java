@@ -0,0 +1,143 @@
+package com.jtechx.mempool4j.wire;
+
+import com.jtechx.mempool4j.model.Hash256;
+import java.nio.ByteBuffer;
+
+/**
+ * A read-only view over a raw block, e.g. from {@code getBlockRaw}, that reads header fields from the bytes on
+ * demand and walks the transactions with a reused {@link TxView} cursor:
+ * <pre>
+ * TxView tx = BlockView.wrap(raw).transactions();
+ * while (tx.next()) {
+ *     OutputView output = tx.outputs();
+ *     while (output.next()) {
+ *         if (output.scriptEquals(watched)) { ... }
+ *     }
+ * }
+ * </pre>
+ * Unlike {@link WireDecoder}, nothing is materialized, so scanning a block allocates only the view and its cursors.
+ */
+public final class BlockView {
+    private final WireReader reader;
+    private final ByteBuffer buffer;
+    private final int start;
+    private final int transactionCount;
+    private final int transactionsOffset;
+    private final TxView transactions;
+
+    private BlockView(WireReader reader) throws WireFormatException {
+        this.reader = reader;
+        this.buffer = reader.buffer();
+        this.start = reader.position();
+        reader.skip(WireDecoder.HEADER_SIZE);
+        this.transactionCount = reader.readCount(10);
+        this.transactionsOffset = reader.position();
+        this.transactions = new TxView(reader, transactionsOffset, transactionCount);
+    }
+
+    /**
+     * Creates a view over a block.
+     *
+     * @param raw The serialized block.
+     * @return The view.
+     * @throws WireFormatException If the header or transaction count is truncated.
+     */
+    public static BlockView wrap(byte[] raw) throws WireFormatException {
+        return wrap(ByteBuffer.wrap(raw));
+    }
+
+    /**
+     * Creates a view over a block starting at the buffer's position. The buffer's position is not changed.
+     *
+     * @param buffer The buffer.
+     * @return The view.
+     * @throws WireFormatException If the header or transaction count is truncated.
+     */
+    public static BlockView wrap(ByteBuffer buffer) throws WireFormatException {
+        return new BlockView(new WireReader(buffer));
+    }
+
+    /**
+     * Gets the block version.
+     *
+     * @return The version.
+     */
+    public int getVersion() {
+        return buffer.getInt(start);
+    }
+
+    /**
+     * Gets the hash of the previous block. This allocates the result.
+     *
+     * @return The previous block hash.
+     */
+    public Hash256 getPreviousBlockHash() {
+        return WireReader.hashAt(buffer, start + 4);
+    }
+
+    /**
+     * Gets the merkle root of the transactions. This allocates the result.
+     *
+     * @return The merkle root.
+     */
+    public Hash256 getMerkleRoot() {
+        return WireReader.hashAt(buffer, start + 36);
+    }
+
+    /**
+     * Gets the block timestamp.
+     *
+     * @return The timestamp in seconds since the epoch.
+     */
+    public long getTimestamp() {
+        return buffer.getInt(start + 68) & 0xFFFFFFFFL;
+    }
+
+    /**
+     * Gets the compact target.
+     *
+     * @return The bits.
+     */
+    public long getBits() {
+        return buffer.getInt(start + 72) & 0xFFFFFFFFL;
+    }
+
+    /**
+     * Gets the nonce.
+     *
+     * @return The nonce.
+     */
+    public long getNonce() {
+        return buffer.getInt(start + 76) & 0xFFFFFFFFL;
+    }
+
+    /**
+     * Gets the number of transactions.
+     *
+     * @return The transaction count.
+     */
+    public int getTransactionCount() {
+        return transactionCount;
+    }
+
+    /**
+     * Computes the block hash from the header. This hashes the header and allocates the result.
+     *
+     * @return The block hash.
+     */
+    public Hash256 computeHash() {
+        DoubleSha256 sha = DoubleSha256.get();
+        reader.hash(sha, start, start + WireDecoder.HEADER_SIZE);
+        return sha.finish();
+    }
+
+    /**
+     * Gets the transaction cursor, positioned before the coinbase. Each call rewinds the same cursor.
+     *
+     * @return The reused transaction cursor.
+     */
+    public TxView transactions() {
+        transactions.rewind(transactionsOffset);
+        return transactions;
+    }
+}
@@ -0,0 +1,72 @@
+package com.jtechx.mempool4j.wire;
+
+import com.jtechx.mempool4j.model.Hash256;
+import java.nio.ByteBuffer;
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * SHA-256d, the double SHA-256 Bitcoin uses for txids, block hashes and merkle nodes. Each thread reuses one
+ * {@link MessageDigest} and one output buffer, so hashing allocates only the resulting {@link Hash256}.
+ */
+final class DoubleSha256 {
+    private static final ThreadLocal<DoubleSha256> LOCAL = ThreadLocal.withInitial(DoubleSha256::new);
+
+    private final MessageDigest digest;
+    private final byte[] output = new byte[Hash256.BYTES];
+
+    private DoubleSha256() {
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Gets the calling thread's instance, reset and ready for input.
+     *
+     * @return The instance.
+     */
+    static DoubleSha256 get() {
+        DoubleSha256 sha = LOCAL.get();
+        sha.digest.reset();
+        return sha;
+    }
+
+    void update(byte[] bytes, int offset, int length) {
+        digest.update(bytes, offset, length);
+    }
+
+    /**
+     * Hashes {@code buffer} from its position to its limit, leaving the position at the limit.
+     */
+    void update(ByteBuffer buffer) {
+        digest.update(buffer);
+    }
+
+    /**
+     * Completes the hash and interprets it in wire order, as Bitcoin does.
+     *
+     * @return The hash.
+     */
+    Hash256 finish() {
+        finish(output, 0);
+        return Hash256.fromWireBytes(output, 0);
+    }
+
+    /**
+     * Completes the hash into an array in wire order, for callers that chain hashes without allocating, such as a
+     * merkle branch walk.
+     */
+    void finish(byte[] destination, int offset) {
+        try {
+            digest.digest(destination, offset, Hash256.BYTES);
+            digest.update(destination, offset, Hash256.BYTES);
+            digest.digest(destination, offset, Hash256.BYTES);
+        } catch (DigestException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
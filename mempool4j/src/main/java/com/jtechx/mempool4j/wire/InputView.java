@@ -0,0 +1,148 @@
+package com.jtechx.mempool4j.wire;
+
+import com.jtechx.mempool4j.model.Hash256;
+import java.nio.ByteBuffer;
+
+/**
+ * A reusable cursor over the inputs of the transaction a {@link TxView} is on. Obtain it with
+ * {@link TxView#inputs()} and advance it with {@link #next()}.
+ */
+public final class InputView {
+    private static final int OUTPOINT_SIZE = Hash256.BYTES + 4;
+
+    private final TxView transaction;
+    private int index;
+    private int offset;
+    private int scriptOffset;
+    private int scriptLength;
+    private int witnessOffset;
+
+    InputView(TxView transaction) {
+        this.transaction = transaction;
+    }
+
+    void reset() {
+        index = -1;
+        offset = -1;
+        witnessOffset = -1;
+    }
+
+    /**
+     * Moves to the next input.
+     *
+     * @return {@code true} if there is one.
+     */
+    public boolean next() {
+        if (index + 1 >= transaction.getInputCount()) {
+            return false;
+        }
+        ByteBuffer buffer = transaction.buffer();
+        if (index < 0) {
+            offset = transaction.inputsOffset();
+            witnessOffset = transaction.witnessOffset();
+        } else {
+            offset = scriptOffset + scriptLength + 4;
+            if (witnessOffset >= 0) {
+                witnessOffset = skipWitness(buffer, witnessOffset);
+            }
+        }
+        int lengthOffset = offset + OUTPOINT_SIZE;
+        scriptLength = (int) WireReader.varIntAt(buffer, lengthOffset);
+        scriptOffset = lengthOffset + WireReader.varIntSize(buffer, lengthOffset);
+        index++;
+        return true;
+    }
+
+    /**
+     * Gets the position of the current input in its transaction.
+     *
+     * @return The index.
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Gets the txid of the output being spent. This allocates; use {@link #previousTxIdEquals(Hash256)} to match
+     * against known txids without allocating.
+     *
+     * @return The previous txid.
+     */
+    public Hash256 getPreviousTxId() {
+        return WireReader.hashAt(transaction.buffer(), offset);
+    }
+
+    /**
+     * Checks the txid of the output being spent without allocating.
+     *
+     * @param txId The txid to compare with.
+     * @return {@code true} if the input spends an output of {@code txId}.
+     */
+    public boolean previousTxIdEquals(Hash256 txId) {
+        return WireReader.hashEquals(transaction.buffer(), offset, txId);
+    }
+
+    /**
+     * Gets the index of the output being spent within its transaction.
+     *
+     * @return The previous output index.
+     */
+    public long getPreviousIndex() {
+        return transaction.buffer().getInt(offset + Hash256.BYTES) & 0xFFFFFFFFL;
+    }
+
+    /**
+     * Checks if the input spends the null outpoint, as a coinbase input does.
+     *
+     * @return {@code true} for a coinbase input.
+     */
+    public boolean isCoinbase() {
+        return getPreviousIndex() == 0xFFFFFFFFL && previousTxIdEquals(Hash256.ZERO);
+    }
+
+    /**
+     * Gets the sequence number.
+     *
+     * @return The sequence number.
+     */
+    public long getSequence() {
+        return transaction.buffer().getInt(scriptOffset + scriptLength) & 0xFFFFFFFFL;
+    }
+
+    /**
+     * Gets the absolute offset of the scriptSig in {@link TxView#getBuffer()}.
+     *
+     * @return The offset.
+     */
+    public int getScriptSigOffset() {
+        return scriptOffset;
+    }
+
+    /**
+     * Gets the length of the scriptSig.
+     *
+     * @return The length in bytes.
+     */
+    public int getScriptSigLength() {
+        return scriptLength;
+    }
+
+    /**
+     * Gets the number of witness stack items.
+     *
+     * @return The item count, {@code 0} for transactions without witness data.
+     */
+    public int getWitnessItemCount() {
+        return witnessOffset < 0 ? 0 : (int) WireReader.varIntAt(transaction.buffer(), witnessOffset);
+    }
+
+    private static int skipWitness(ByteBuffer buffer, int offset) {
+        long items = WireReader.varIntAt(buffer, offset);
+        offset += WireReader.varIntSize(buffer, offset);
+        for (long i = 0; i < items; i++) {
+            long length = WireReader.varIntAt(buffer, offset);
+            offset += WireReader.varIntSize(buffer, offset) + (int) length;
+        }
+        return offset;
+    }
+}
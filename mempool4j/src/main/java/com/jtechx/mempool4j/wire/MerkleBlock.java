@@ -0,0 +1,251 @@
+package com.jtechx.mempool4j.wire;
+
+import com.jtechx.mempool4j.model.Hash256;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A BIP37 {@code merkleblock}, as returned hex-encoded by {@code getTransactionMerkleblockProof}: a block header and
+ * a partial merkle tree proving which transactions the block contains.
+ * <p>
+ * Parsing walks the partial tree once, recomputing the root and collecting the matched txids; {@link #isValid()}
+ * then compares that root with the header. Trees that would let two different transaction sets share a root, by
+ * duplicating a right-hand node, are rejected as malformed.
+ */
+public final class MerkleBlock {
+    private static final int MAX_TRANSACTIONS = 4_000_000 / 60;
+
+    private final BlockHeader header;
+    private final int transactionCount;
+    private final List<Hash256> matchedTxIds;
+    private final int[] matchedPositions;
+    private final Hash256 computedRoot;
+
+    private MerkleBlock(BlockHeader header, int transactionCount, List<Hash256> matchedTxIds,
+            int[] matchedPositions, Hash256 computedRoot) {
+        this.header = header;
+        this.transactionCount = transactionCount;
+        this.matchedTxIds = matchedTxIds;
+        this.matchedPositions = matchedPositions;
+        this.computedRoot = computedRoot;
+    }
+
+    /**
+     * Parses a hex-encoded merkleblock.
+     *
+     * @param hex The hex string.
+     * @return The merkleblock.
+     * @throws WireFormatException If the input is not a well-formed merkleblock.
+     */
+    public static MerkleBlock fromHex(CharSequence hex) throws WireFormatException {
+        if (hex.length() % 2 != 0) {
+            throw new WireFormatException("Odd number of hex characters: " + hex.length());
+        }
+        byte[] bytes = new byte[hex.length() / 2];
+        for (int i = 0; i < bytes.length; i++) {
+            int high = Character.digit(hex.charAt(2 * i), 16);
+            int low = Character.digit(hex.charAt(2 * i + 1), 16);
+            if (high < 0 || low < 0) {
+                throw new WireFormatException("Invalid hex at offset " + 2 * i);
+            }
+            bytes[i] = (byte) (high << 4 | low);
+        }
+        return fromBytes(bytes);
+    }
+
+    /**
+     * Parses a serialized merkleblock.
+     *
+     * @param bytes The serialized merkleblock.
+     * @return The merkleblock.
+     * @throws WireFormatException If the input is not exactly one well-formed merkleblock.
+     */
+    public static MerkleBlock fromBytes(byte[] bytes) throws WireFormatException {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        BlockHeader header = BlockHeader.read(buffer);
+        WireReader reader = new WireReader(buffer);
+        long transactionCount = reader.readUInt32();
+        if (transactionCount == 0 || transactionCount > MAX_TRANSACTIONS) {
+            throw new WireFormatException("Implausible transaction count " + transactionCount);
+        }
+        int hashCount = reader.readCount(Hash256.BYTES);
+        if (hashCount > transactionCount) {
+            throw new WireFormatException(hashCount + " hashes for " + transactionCount + " transactions");
+        }
+        int hashesOffset = reader.position();
+        reader.skip(hashCount * Hash256.BYTES);
+        int flagLength = reader.readLength();
+        int flagsOffset = reader.position();
+        reader.skip(flagLength);
+        if (reader.remaining() != 0) {
+            throw new WireFormatException(reader.remaining() + " unexpected trailing bytes");
+        }
+
+        PartialTree tree = new PartialTree(reader.buffer(), (int) transactionCount, hashesOffset, hashCount,
+                flagsOffset, flagLength);
+        int height = 0;
+        while (tree.width(height) > 1) {
+            height++;
+        }
+        byte[] root = new byte[Hash256.BYTES];
+        tree.traverse(height, 0, root, 0);
+        if (tree.hashesUsed != hashCount) {
+            throw new WireFormatException("Only " + tree.hashesUsed + " of " + hashCount + " hashes were used");
+        }
+        if ((tree.bitsUsed + 7) / 8 != flagLength) {
+            throw new WireFormatException("Only " + tree.bitsUsed + " of " + flagLength * 8
+                    + " flag bits were used");
+        }
+        int[] positions = new int[tree.positions.size()];
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = tree.positions.get(i);
+        }
+        return new MerkleBlock(header, (int) transactionCount, Collections.unmodifiableList(tree.matches),
+                positions, Hash256.fromWireBytes(root, 0));
+    }
+
+    /**
+     * Checks that the partial merkle tree hashes up to the merkle root in the header.
+     *
+     * @return {@code true} if the proof is valid for the header.
+     */
+    public boolean isValid() {
+        return computedRoot.equals(header.getMerkleRoot());
+    }
+
+    /**
+     * Checks that the proof is valid and includes a transaction.
+     *
+     * @param txId The transaction.
+     * @return {@code true} if the header's block provably contains the transaction.
+     */
+    public boolean proves(Hash256 txId) {
+        return isValid() && matchedTxIds.contains(txId);
+    }
+
+    /**
+     * Gets the block header.
+     *
+     * @return The header.
+     */
+    public BlockHeader getHeader() {
+        return header;
+    }
+
+    /**
+     * Gets the number of transactions in the block.
+     *
+     * @return The transaction count.
+     */
+    public int getTransactionCount() {
+        return transactionCount;
+    }
+
+    /**
+     * Gets the txids the tree marks as matched, in block order.
+     *
+     * @return An unmodifiable list of txids.
+     */
+    public List<Hash256> getMatchedTxIds() {
+        return matchedTxIds;
+    }
+
+    /**
+     * Gets the positions in the block of the matched txids.
+     *
+     * @return A copy of the positions, in the same order as {@link #getMatchedTxIds()}.
+     */
+    public int[] getMatchedPositions() {
+        return matchedPositions.clone();
+    }
+
+    /**
+     * Gets the root the partial merkle tree hashes up to.
+     *
+     * @return The computed merkle root.
+     */
+    public Hash256 getComputedRoot() {
+        return computedRoot;
+    }
+
+    @Override
+    public String toString() {
+        return "MerkleBlock{" +
+                "header=" + header +
+                ", transactionCount=" + transactionCount +
+                ", matchedTxIds=" + matchedTxIds +
+                ", valid=" + isValid() +
+                '}';
+    }
+
+    /**
+     * The depth-first traversal from BIP37, hashing nodes in wire order into caller-provided buffers.
+     */
+    private static final class PartialTree {
+        private final ByteBuffer buffer;
+        private final int transactionCount;
+        private final int hashesOffset;
+        private final int hashCount;
+        private final int flagsOffset;
+        private final int flagLength;
+        private final List<Hash256> matches = new ArrayList<>();
+        private final List<Integer> positions = new ArrayList<>();
+        private int hashesUsed;
+        private int bitsUsed;
+
+        PartialTree(ByteBuffer buffer, int transactionCount, int hashesOffset, int hashCount, int flagsOffset,
+                int flagLength) {
+            this.buffer = buffer;
+            this.transactionCount = transactionCount;
+            this.hashesOffset = hashesOffset;
+            this.hashCount = hashCount;
+            this.flagsOffset = flagsOffset;
+            this.flagLength = flagLength;
+        }
+
+        int width(int height) {
+            return (int) ((transactionCount + (1L << height) - 1) >>> height);
+        }
+
+        void traverse(int height, int position, byte[] out, int outOffset) throws WireFormatException {
+            if (bitsUsed >= flagLength * 8) {
+                throw new WireFormatException("Ran out of flag bits");
+            }
+            int bitIndex = bitsUsed++;
+            boolean parentOfMatch = (buffer.get(flagsOffset + bitIndex / 8) >> (bitIndex % 8) & 1) != 0;
+            if (height == 0 || !parentOfMatch) {
+                if (hashesUsed >= hashCount) {
+                    throw new WireFormatException("Ran out of hashes");
+                }
+                int offset = hashesOffset + Hash256.BYTES * hashesUsed++;
+                for (int i = 0; i < Hash256.BYTES; i++) {
+                    out[outOffset + i] = buffer.get(offset + i);
+                }
+                if (height == 0 && parentOfMatch) {
+                    matches.add(Hash256.fromWireBytes(out, outOffset));
+                    positions.add(position);
+                }
+                return;
+            }
+            byte[] children = new byte[2 * Hash256.BYTES];
+            traverse(height - 1, position * 2, children, 0);
+            if (position * 2 + 1 < width(height - 1)) {
+                traverse(height - 1, position * 2 + 1, children, Hash256.BYTES);
+                boolean duplicate = true;
+                for (int i = 0; i < Hash256.BYTES && duplicate; i++) {
+                    duplicate = children[i] == children[Hash256.BYTES + i];
+                }
+                if (duplicate) {
+                    throw new WireFormatException("Duplicate right-hand node at height " + (height - 1));
+                }
+            } else {
+                System.arraycopy(children, 0, children, Hash256.BYTES, Hash256.BYTES);
+            }
+            DoubleSha256 sha = DoubleSha256.get();
+            sha.update(children, 0, children.length);
+            sha.finish(out, outOffset);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.jtechx.mempool4j.wire;
+
+import com.jtechx.mempool4j.model.Hash256;
+import com.jtechx.mempool4j.model.transaction.TransactionMerkleProof;
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+/**
+ * Verifies the Electrum-style proofs from {@code getTransactionMerkleProof} locally, by recomputing the double
+ * SHA-256 path from the txid to the root and comparing it with the merkle root of the block header.
+ * <p>
+ * The path is hashed in a per-thread 64-byte buffer with a per-thread {@link java.security.MessageDigest}, and the
+ * branch hashes are decoded from hex straight into that buffer, so verifying a proof allocates nothing. Batches are
+ * split across the common fork-join pool, each worker reusing its own digest. All methods are thread-safe.
+ */
+public final class MerkleProofVerifier {
+    private static final int BATCH_CHUNK = 256;
+    private static final ThreadLocal<byte[]> NODES = ThreadLocal.withInitial(() -> new byte[2 * Hash256.BYTES]);
+
+    private MerkleProofVerifier() {
+    }
+
+    /**
+     * Verifies a proof against a block header, e.g. the one {@code getBlockHeader} returns for the proof's block.
+     *
+     * @param txId The transaction the proof is for.
+     * @param proof The proof.
+     * @param header The header of the block at {@code proof.getBlockHeight()}.
+     * @return {@code true} if the proof links the transaction to the header's merkle root.
+     */
+    public static boolean verify(Hash256 txId, TransactionMerkleProof proof, BlockHeader header) {
+        return verify(txId, proof, header.getMerkleRoot());
+    }
+
+    /**
+     * Verifies a proof against a merkle root.
+     *
+     * @param txId The transaction the proof is for.
+     * @param proof The proof.
+     * @param merkleRoot The merkle root of the block at {@code proof.getBlockHeight()}.
+     * @return {@code true} if the proof links the transaction to the merkle root, {@code false} if it does not or is
+     *         malformed.
+     */
+    public static boolean verify(Hash256 txId, TransactionMerkleProof proof, Hash256 merkleRoot) {
+        List<String> branch = proof.getMerkle();
+        int position = proof.getPosition();
+        if (branch == null || branch.size() > 31 || position < 0 || position >>> branch.size() != 0) {
+            return false;
+        }
+        byte[] nodes = NODES.get();
+        int current = (position & 1) == 0 ? 0 : Hash256.BYTES;
+        writeWire(txId, nodes, current);
+        DoubleSha256 sha = DoubleSha256.get();
+        for (String sibling : branch) {
+            if (sibling == null || !decodeWire(sibling, nodes, Hash256.BYTES - current)) {
+                return false;
+            }
+            sha.update(nodes, 0, nodes.length);
+            position >>>= 1;
+            current = (position & 1) == 0 ? 0 : Hash256.BYTES;
+            sha.finish(nodes, current);
+        }
+        return wireEquals(nodes, current, merkleRoot);
+    }
+
+    /**
+     * Verifies many proofs in parallel. Collect the merkle roots first, e.g. from a local header chain, so that
+     * {@code merkleRoots} does not block.
+     *
+     * @param txIds The transactions the proofs are for.
+     * @param proofs The proofs, in the same order.
+     * @param merkleRoots Maps a block height to the merkle root of the block at that height, or {@code null} if
+     *                    unknown, in which case the proofs at that height fail.
+     * @return For each proof, whether it verified.
+     * @throws IllegalArgumentException If the lists differ in size.
+     */
+    public static boolean[] verifyAll(List<Hash256> txIds, List<TransactionMerkleProof> proofs,
+            IntFunction<Hash256> merkleRoots) {
+        if (txIds.size() != proofs.size()) {
+            throw new IllegalArgumentException(txIds.size() + " txids but " + proofs.size() + " proofs");
+        }
+        boolean[] results = new boolean[proofs.size()];
+        int chunks = (results.length + BATCH_CHUNK - 1) / BATCH_CHUNK;
+        IntStream.range(0, chunks).parallel().forEach(chunk -> {
+            int end = Math.min(results.length, (chunk + 1) * BATCH_CHUNK);
+            for (int i = chunk * BATCH_CHUNK; i < end; i++) {
+                TransactionMerkleProof proof = proofs.get(i);
+                Hash256 root = merkleRoots.apply(proof.getBlockHeight());
+                results[i] = root != null && verify(txIds.get(i), proof, root);
+            }
+        });
+        return results;
+    }
+
+    /**
+     * Writes a hash into an array in wire order.
+     */
+    static void writeWire(Hash256 hash, byte[] destination, int offset) {
+        for (int word = 0; word < 4; word++) {
+            long value = hash.getWord(3 - word);
+            int base = offset + 8 * word;
+            for (int i = 0; i < 8; i++) {
+                destination[base + i] = (byte) value;
+                value >>>= 8;
+            }
+        }
+    }
+
+    /**
+     * Compares a wire-order hash in an array with a {@link Hash256}.
+     */
+    static boolean wireEquals(byte[] bytes, int offset, Hash256 hash) {
+        for (int word = 0; word < 4; word++) {
+            long value = hash.getWord(3 - word);
+            int base = offset + 8 * word;
+            for (int i = 0; i < 8; i++) {
+                if (bytes[base + i] != (byte) value) {
+                    return false;
+                }
+                value >>>= 8;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Decodes a display-order hex hash into an array in wire order, i.e. byte-reversed.
+     */
+    private static boolean decodeWire(String hex, byte[] destination, int offset) {
+        if (hex.length() != Hash256.HEX_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < Hash256.BYTES; i++) {
+            int high = Character.digit(hex.charAt(2 * i), 16);
+            int low = Character.digit(hex.charAt(2 * i + 1), 16);
+            if (high < 0 || low < 0) {
+                return false;
+            }
+            destination[offset + Hash256.BYTES - 1 - i] = (byte) (high << 4 | low);
+        }
+        return true;
+    }
+}
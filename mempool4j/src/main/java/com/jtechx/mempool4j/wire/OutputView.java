@@ -0,0 +1,153 @@
+package com.jtechx.mempool4j.wire;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A reusable cursor over the outputs of the transaction a {@link TxView} is on. Obtain it with
+ * {@link TxView#outputs()} and advance it with {@link #next()}. The outpoint of the current output is the
+ * transaction's {@link TxView#computeTxId() txid} and {@link #getIndex()}.
+ */
+public final class OutputView {
+    private static final long FNV_OFFSET_BASIS = 0xCBF29CE484222325L;
+    private static final long FNV_PRIME = 0x100000001B3L;
+
+    private final TxView transaction;
+    private int index;
+    private int offset;
+    private int scriptOffset;
+    private int scriptLength;
+
+    OutputView(TxView transaction) {
+        this.transaction = transaction;
+    }
+
+    void reset() {
+        index = -1;
+        offset = -1;
+    }
+
+    /**
+     * Moves to the next output.
+     *
+     * @return {@code true} if there is one.
+     */
+    public boolean next() {
+        if (index + 1 >= transaction.getOutputCount()) {
+            return false;
+        }
+        ByteBuffer buffer = transaction.buffer();
+        offset = index < 0 ? transaction.outputsOffset() : scriptOffset + scriptLength;
+        int lengthOffset = offset + 8;
+        scriptLength = (int) WireReader.varIntAt(buffer, lengthOffset);
+        scriptOffset = lengthOffset + WireReader.varIntSize(buffer, lengthOffset);
+        index++;
+        return true;
+    }
+
+    /**
+     * Gets the position of the current output in its transaction, i.e. the {@code vout} of its outpoint.
+     *
+     * @return The index.
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Gets the output value.
+     *
+     * @return The value in satoshis.
+     */
+    public long getValue() {
+        return transaction.buffer().getLong(offset);
+    }
+
+    /**
+     * Gets the absolute offset of the scriptPubKey in {@link TxView#getBuffer()}.
+     *
+     * @return The offset.
+     */
+    public int getScriptOffset() {
+        return scriptOffset;
+    }
+
+    /**
+     * Gets the length of the scriptPubKey.
+     *
+     * @return The length in bytes.
+     */
+    public int getScriptLength() {
+        return scriptLength;
+    }
+
+    /**
+     * Classifies the scriptPubKey without copying it.
+     *
+     * @return The script type.
+     */
+    public ScriptType getScriptType() {
+        return ScriptType.classify(transaction.buffer(), scriptOffset, scriptLength);
+    }
+
+    /**
+     * Compares the scriptPubKey with a script without copying it.
+     *
+     * @param script The script to compare with.
+     * @return {@code true} if they are equal.
+     */
+    public boolean scriptEquals(byte[] script) {
+        if (script.length != scriptLength) {
+            return false;
+        }
+        ByteBuffer buffer = transaction.buffer();
+        for (int i = 0; i < scriptLength; i++) {
+            if (buffer.get(scriptOffset + i) != script[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Computes a 64-bit FNV-1a hash of the scriptPubKey without copying it, for looking the script up in a set of
+     * watched scripts keyed the same way with {@link #hashScript(byte[])}.
+     *
+     * @return The hash.
+     */
+    public long scriptHash() {
+        ByteBuffer buffer = transaction.buffer();
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = scriptOffset; i < scriptOffset + scriptLength; i++) {
+            hash = (hash ^ (buffer.get(i) & 0xFF)) * FNV_PRIME;
+        }
+        return hash;
+    }
+
+    /**
+     * Computes the same hash as {@link #scriptHash()} for a script held in an array.
+     *
+     * @param script The script.
+     * @return The hash.
+     */
+    public static long hashScript(byte[] script) {
+        long hash = FNV_OFFSET_BASIS;
+        for (byte b : script) {
+            hash = (hash ^ (b & 0xFF)) * FNV_PRIME;
+        }
+        return hash;
+    }
+
+    /**
+     * Copies the scriptPubKey into a new array.
+     *
+     * @return The script.
+     */
+    public byte[] getScript() {
+        ByteBuffer buffer = transaction.buffer();
+        byte[] script = new byte[scriptLength];
+        for (int i = 0; i < scriptLength; i++) {
+            script[i] = buffer.get(scriptOffset + i);
+        }
+        return script;
+    }
+}
@@ -0,0 +1,55 @@
+package com.jtechx.mempool4j.wire;
+
+import com.jtechx.mempool4j.model.Hash256;
+import com.jtechx.mempool4j.model.block.Block;
+import java.util.List;
+
+/**
+ * A block decoded from its consensus serialization: the header fields as a {@link Block} and every transaction.
+ */
+public final class RawBlock {
+    private final Block block;
+    private final List<RawTransaction> transactions;
+
+    RawBlock(Block block, List<RawTransaction> transactions) {
+        this.block = block;
+        this.transactions = transactions;
+    }
+
+    /**
+     * Gets the block. The height is read from the BIP34 commitment in the coinbase, so it is only meaningful from
+     * height 227,931 on, and is {@code -1} if the coinbase has none. The median time and extras are not part of the
+     * raw block and are left unset.
+     *
+     * @return The block.
+     */
+    public Block getBlock() {
+        return block;
+    }
+
+    /**
+     * Gets the block hash.
+     *
+     * @return The block hash.
+     */
+    public Hash256 getHash() {
+        return block.getId();
+    }
+
+    /**
+     * Gets the transactions in block order, coinbase first.
+     *
+     * @return An unmodifiable list of transactions.
+     */
+    public List<RawTransaction> getTransactions() {
+        return transactions;
+    }
+
+    @Override
+    public String toString() {
+        return "RawBlock{" +
+                "block=" + block +
+                ", transactions=" + transactions.size() +
+                '}';
+    }
+}
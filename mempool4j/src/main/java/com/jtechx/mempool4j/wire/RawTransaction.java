@@ -0,0 +1,94 @@
+package com.jtechx.mempool4j.wire;
+
+import com.jtechx.mempool4j.model.Hash256;
+import com.jtechx.mempool4j.model.transaction.Transaction;
+
+/**
+ * A transaction decoded from its consensus serialization, with the values that only the raw bytes determine: the
+ * witness txid, and whether the transaction was serialized with witness data.
+ */
+public final class RawTransaction {
+    private final Transaction transaction;
+    private final Hash256 wtxId;
+    private final boolean witness;
+
+    RawTransaction(Transaction transaction, Hash256 wtxId, boolean witness) {
+        this.transaction = transaction;
+        this.wtxId = wtxId;
+        this.witness = witness;
+    }
+
+    /**
+     * Gets the decoded transaction. Fields that need the spent outputs or an address encoding are not in the raw
+     * bytes: the fee is {@code 0}, {@code prevout} is {@code null}, and the script ASM and address fields are
+     * {@code null}. The status is set only for transactions decoded from a block.
+     *
+     * @return The transaction.
+     */
+    public Transaction getTransaction() {
+        return transaction;
+    }
+
+    /**
+     * Gets the txid, the hash of the serialization without witness data.
+     *
+     * @return The txid.
+     */
+    public Hash256 getTxId() {
+        return transaction.getTxId();
+    }
+
+    /**
+     * Gets the wtxid, the hash of the full serialization. It equals the txid for transactions without witness data.
+     *
+     * @return The wtxid.
+     */
+    public Hash256 getWtxId() {
+        return wtxId;
+    }
+
+    /**
+     * Checks if the transaction was serialized with witness data.
+     *
+     * @return {@code true} for segwit transactions.
+     */
+    public boolean hasWitness() {
+        return witness;
+    }
+
+    /**
+     * Gets the serialized size including witness data.
+     *
+     * @return The size in bytes.
+     */
+    public int getSize() {
+        return transaction.getSize();
+    }
+
+    /**
+     * Gets the weight, three times the size without witness data plus the full size.
+     *
+     * @return The weight in weight units.
+     */
+    public int getWeight() {
+        return transaction.getWeight();
+    }
+
+    /**
+     * Gets the virtual size, the weight divided by four and rounded up.
+     *
+     * @return The virtual size in vbytes.
+     */
+    public int getVSize() {
+        return (transaction.getWeight() + 3) / 4;
+    }
+
+    @Override
+    public String toString() {
+        return "RawTransaction{" +
+                "transaction=" + transaction +
+                ", wtxId=" + wtxId +
+                ", witness=" + witness +
+                '}';
+    }
+}
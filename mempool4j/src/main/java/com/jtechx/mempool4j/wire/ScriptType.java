@@ -0,0 +1,95 @@
+package com.jtechx.mempool4j.wire;
+
+import java.nio.ByteBuffer;
+
+/**
+ * The standard scriptPubKey templates, named as mempool reports them in {@code scriptpubkey_type}.
+ */
+public enum ScriptType {
+    P2PK("p2pk"), P2PKH("p2pkh"), P2SH("p2sh"), V0_P2WPKH("v0_p2wpkh"), V0_P2WSH("v0_p2wsh"), V1_P2TR("v1_p2tr"),
+    OP_RETURN("op_return"), UNKNOWN("unknown");
+
+    private static final int OP_0 = 0x00;
+    private static final int OP_1 = 0x51;
+    private static final int OP_RETURN_CODE = 0x6A;
+    private static final int OP_DUP = 0x76;
+    private static final int OP_EQUAL = 0x87;
+    private static final int OP_EQUALVERIFY = 0x88;
+    private static final int OP_HASH160 = 0xA9;
+    private static final int OP_CHECKSIG = 0xAC;
+
+    private final String type;
+
+    ScriptType(String type) {
+        this.type = type;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    /**
+     * Classifies a script.
+     *
+     * @param script The scriptPubKey.
+     * @return The template it matches, or {@link #UNKNOWN}.
+     */
+    public static ScriptType classify(byte[] script) {
+        return classify(ByteBuffer.wrap(script), 0, script.length);
+    }
+
+    /**
+     * Classifies a script in place.
+     *
+     * @param buffer The buffer holding the script.
+     * @param offset The absolute index of the script's first byte.
+     * @param length The script length.
+     * @return The template it matches, or {@link #UNKNOWN}.
+     */
+    public static ScriptType classify(ByteBuffer buffer, int offset, int length) {
+        if (length == 0) {
+            return UNKNOWN;
+        }
+        int first = buffer.get(offset) & 0xFF;
+        int last = buffer.get(offset + length - 1) & 0xFF;
+        switch (length) {
+            case 22:
+                if (first == OP_0 && at(buffer, offset, 1) == 20) {
+                    return V0_P2WPKH;
+                }
+                break;
+            case 23:
+                if (first == OP_HASH160 && at(buffer, offset, 1) == 20 && last == OP_EQUAL) {
+                    return P2SH;
+                }
+                break;
+            case 25:
+                if (first == OP_DUP && at(buffer, offset, 1) == OP_HASH160 && at(buffer, offset, 2) == 20
+                        && at(buffer, offset, 23) == OP_EQUALVERIFY && last == OP_CHECKSIG) {
+                    return P2PKH;
+                }
+                break;
+            case 34:
+                if (first == OP_0 && at(buffer, offset, 1) == 32) {
+                    return V0_P2WSH;
+                }
+                if (first == OP_1 && at(buffer, offset, 1) == 32) {
+                    return V1_P2TR;
+                }
+                break;
+            case 35:
+            case 67:
+                if (first == length - 2 && last == OP_CHECKSIG) {
+                    return P2PK;
+                }
+                break;
+            default:
+                break;
+        }
+        return first == OP_RETURN_CODE ? OP_RETURN : UNKNOWN;
+    }
+
+    private static int at(ByteBuffer buffer, int offset, int index) {
+        return buffer.get(offset + index) & 0xFF;
+    }
+}
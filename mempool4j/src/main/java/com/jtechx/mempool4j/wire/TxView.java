@@ -0,0 +1,297 @@
+package com.jtechx.mempool4j.wire;
+
+import com.jtechx.mempool4j.model.Hash256;
+import java.nio.ByteBuffer;
+
+/**
+ * A cursor over the transactions of a raw block, or over a single raw transaction, that reads fields from the
+ * underlying bytes on demand.
+ * <p>
+ * The view is a flyweight: {@link #next()} moves the same instance to the following transaction, and
+ * {@link #inputs()} and {@link #outputs()} return cursors that are likewise reused, so walking every output of every
+ * transaction allocates nothing. {@link #next()} validates the transaction's structure, after which all accessors
+ * are plain reads. A view and its cursors are not thread-safe, and values read from them are only valid until the
+ * cursor moves.
+ */
+public final class TxView {
+    private final WireReader reader;
+    private final ByteBuffer buffer;
+    private final InputView inputs;
+    private final OutputView outputs;
+    private final int count;
+    private int nextOffset;
+    private int index = -1;
+
+    private int start;
+    private int end;
+    private int version;
+    private boolean witness;
+    private int bodyStart;
+    private int bodyEnd;
+    private int inputCount;
+    private int inputsOffset;
+    private int outputCount;
+    private int outputsOffset;
+
+    TxView(WireReader reader, int offset, int count) {
+        this.reader = reader;
+        this.buffer = reader.buffer();
+        this.inputs = new InputView(this);
+        this.outputs = new OutputView(this);
+        this.nextOffset = offset;
+        this.count = count;
+    }
+
+    /**
+     * Creates a view over a single transaction, e.g. from {@code getTransactionRaw}. Call {@link #next()} once to
+     * move onto it.
+     *
+     * @param raw The serialized transaction.
+     * @return The view.
+     */
+    public static TxView wrap(byte[] raw) {
+        return wrap(ByteBuffer.wrap(raw));
+    }
+
+    /**
+     * Creates a view over a single transaction starting at the buffer's position. The buffer's position is not
+     * changed. Call {@link #next()} once to move onto the transaction.
+     *
+     * @param buffer The buffer.
+     * @return The view.
+     */
+    public static TxView wrap(ByteBuffer buffer) {
+        WireReader reader = new WireReader(buffer);
+        return new TxView(reader, reader.position(), 1);
+    }
+
+    /**
+     * Moves to the next transaction.
+     *
+     * @return {@code true} if there is one, {@code false} once all transactions have been visited.
+     * @throws WireFormatException If the transaction is truncated or malformed.
+     */
+    public boolean next() throws WireFormatException {
+        if (index + 1 >= count) {
+            return false;
+        }
+        reader.position(nextOffset);
+        start = nextOffset;
+        version = reader.readInt32();
+        witness = reader.peekUInt8(0) == 0 && reader.peekUInt8(1) != 0;
+        if (witness) {
+            reader.skip(2);
+        }
+        bodyStart = reader.position();
+        inputCount = reader.readCount(41);
+        inputsOffset = reader.position();
+        for (int i = 0; i < inputCount; i++) {
+            reader.skip(Hash256.BYTES + 4);
+            reader.skip(reader.readLength());
+            reader.skip(4);
+        }
+        outputCount = reader.readCount(9);
+        outputsOffset = reader.position();
+        for (int i = 0; i < outputCount; i++) {
+            reader.skip(8);
+            reader.skip(reader.readLength());
+        }
+        bodyEnd = reader.position();
+        if (witness) {
+            for (int i = 0; i < inputCount; i++) {
+                int items = reader.readCount(1);
+                for (int j = 0; j < items; j++) {
+                    reader.skip(reader.readLength());
+                }
+            }
+        }
+        reader.skip(4);
+        end = reader.position();
+        nextOffset = end;
+        index++;
+        inputs.reset();
+        outputs.reset();
+        return true;
+    }
+
+    /**
+     * Gets the position of the current transaction in the block.
+     *
+     * @return The index, {@code 0} for the coinbase.
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Gets the absolute offset of the current transaction in the underlying buffer.
+     *
+     * @return The offset.
+     */
+    public int getOffset() {
+        return start;
+    }
+
+    /**
+     * Gets the serialized size including witness data.
+     *
+     * @return The size in bytes.
+     */
+    public int getSize() {
+        return end - start;
+    }
+
+    /**
+     * Gets the weight, three times the size without witness data plus the full size.
+     *
+     * @return The weight in weight units.
+     */
+    public int getWeight() {
+        int size = end - start;
+        int witnessSize = witness ? (bodyStart - start - 4) + (end - 4 - bodyEnd) : 0;
+        return (size - witnessSize) * 3 + size;
+    }
+
+    /**
+     * Gets the virtual size, the weight divided by four and rounded up.
+     *
+     * @return The virtual size in vbytes.
+     */
+    public int getVSize() {
+        return (getWeight() + 3) / 4;
+    }
+
+    /**
+     * Gets the transaction version.
+     *
+     * @return The version.
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Gets the lock time.
+     *
+     * @return The lock time.
+     */
+    public int getLockTime() {
+        return buffer.getInt(end - 4);
+    }
+
+    /**
+     * Checks if the current transaction was serialized with witness data.
+     *
+     * @return {@code true} for segwit transactions.
+     */
+    public boolean hasWitness() {
+        return witness;
+    }
+
+    /**
+     * Gets the number of inputs.
+     *
+     * @return The input count.
+     */
+    public int getInputCount() {
+        return inputCount;
+    }
+
+    /**
+     * Gets the number of outputs.
+     *
+     * @return The output count.
+     */
+    public int getOutputCount() {
+        return outputCount;
+    }
+
+    /**
+     * Checks if the current transaction is a coinbase, i.e. has a single input spending the null outpoint.
+     *
+     * @return {@code true} for a coinbase.
+     */
+    public boolean isCoinbase() {
+        return inputCount == 1 && buffer.getInt(inputsOffset + Hash256.BYTES) == -1
+                && WireReader.hashEquals(buffer, inputsOffset, Hash256.ZERO);
+    }
+
+    /**
+     * Computes the txid of the current transaction. This hashes the transaction and allocates the result, so cache
+     * it rather than calling this repeatedly.
+     *
+     * @return The txid.
+     */
+    public Hash256 computeTxId() {
+        DoubleSha256 sha = DoubleSha256.get();
+        if (witness) {
+            reader.hash(sha, start, start + 4);
+            reader.hash(sha, bodyStart, bodyEnd);
+            reader.hash(sha, end - 4, end);
+        } else {
+            reader.hash(sha, start, end);
+        }
+        return sha.finish();
+    }
+
+    /**
+     * Computes the wtxid of the current transaction, which equals the txid for transactions without witness data.
+     *
+     * @return The wtxid.
+     */
+    public Hash256 computeWtxId() {
+        DoubleSha256 sha = DoubleSha256.get();
+        reader.hash(sha, start, end);
+        return sha.finish();
+    }
+
+    /**
+     * Gets the input cursor of the current transaction, positioned before its first input.
+     *
+     * @return The reused input cursor.
+     */
+    public InputView inputs() {
+        inputs.reset();
+        return inputs;
+    }
+
+    /**
+     * Gets the output cursor of the current transaction, positioned before its first output.
+     *
+     * @return The reused output cursor.
+     */
+    public OutputView outputs() {
+        outputs.reset();
+        return outputs;
+    }
+
+    /**
+     * Gets the little-endian view of the underlying bytes that offsets returned by the cursors refer to.
+     *
+     * @return A read-only buffer.
+     */
+    public ByteBuffer getBuffer() {
+        return buffer.asReadOnlyBuffer().order(buffer.order());
+    }
+
+    void rewind(int offset) {
+        nextOffset = offset;
+        index = -1;
+    }
+
+    ByteBuffer buffer() {
+        return buffer;
+    }
+
+    int inputsOffset() {
+        return inputsOffset;
+    }
+
+    int outputsOffset() {
+        return outputsOffset;
+    }
+
+    int witnessOffset() {
+        return witness ? bodyEnd : -1;
+    }
+}
@@ -0,0 +1,258 @@
+package com.jtechx.mempool4j.wire;
+
+import com.jtechx.mempool4j.model.Hash256;
+import com.jtechx.mempool4j.model.block.Block;
+import com.jtechx.mempool4j.model.transaction.Transaction;
+import com.jtechx.mempool4j.model.transaction.TransactionStatus;
+import com.jtechx.mempool4j.model.transaction.Vin;
+import com.jtechx.mempool4j.model.transaction.Vout;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Decodes the consensus serialization returned by {@code getBlockRaw} and {@code getTransactionRaw} into the model
+ * classes, so a whole block can be ingested with one request instead of paging through
+ * {@code getBlockTransactions}.
+ * <p>
+ * Decoding reads the {@link ByteBuffer} in place: hashes are read straight into {@link Hash256}s and txids are
+ * computed by hashing slices of the input, so the only copies made are the hex strings the models hold. Segwit
+ * serializations are recognized by their marker and flag bytes. All methods are thread-safe.
+ */
+public final class WireDecoder {
+    static final int HEADER_SIZE = 80;
+
+    private static final int MIN_TRANSACTION_SIZE = 10;
+    private static final int MIN_INPUT_SIZE = 41;
+    private static final int MIN_OUTPUT_SIZE = 9;
+    private static final long COINBASE_INDEX = 0xFFFFFFFFL;
+
+    private WireDecoder() {
+    }
+
+    /**
+     * Decodes a transaction that fills the whole array.
+     *
+     * @param raw The serialized transaction, e.g. from {@code getTransactionRaw}.
+     * @return The transaction.
+     * @throws WireFormatException If the bytes are not exactly one well-formed transaction.
+     */
+    public static RawTransaction decodeTransaction(byte[] raw) throws WireFormatException {
+        ByteBuffer buffer = ByteBuffer.wrap(raw);
+        RawTransaction transaction = decodeTransaction(buffer);
+        requireFullyRead(buffer);
+        return transaction;
+    }
+
+    /**
+     * Decodes one transaction starting at the buffer's position and advances the position past it.
+     *
+     * @param buffer The buffer.
+     * @return The transaction.
+     * @throws WireFormatException If the bytes are not a well-formed transaction, in which case the position is
+     *                             unchanged.
+     */
+    public static RawTransaction decodeTransaction(ByteBuffer buffer) throws WireFormatException {
+        WireReader reader = new WireReader(buffer);
+        RawTransaction transaction = readTransaction(reader, null);
+        buffer.position(reader.position());
+        return transaction;
+    }
+
+    /**
+     * Decodes a block that fills the whole array.
+     *
+     * @param raw The serialized block, e.g. from {@code getBlockRaw}.
+     * @return The block.
+     * @throws WireFormatException If the bytes are not exactly one well-formed block.
+     */
+    public static RawBlock decodeBlock(byte[] raw) throws WireFormatException {
+        ByteBuffer buffer = ByteBuffer.wrap(raw);
+        RawBlock block = decodeBlock(buffer);
+        requireFullyRead(buffer);
+        return block;
+    }
+
+    /**
+     * Decodes one block starting at the buffer's position and advances the position past it.
+     *
+     * @param buffer The buffer.
+     * @return The block.
+     * @throws WireFormatException If the bytes are not a well-formed block, in which case the position is unchanged.
+     */
+    public static RawBlock decodeBlock(ByteBuffer buffer) throws WireFormatException {
+        WireReader reader = new WireReader(buffer);
+        int start = reader.position();
+        reader.require(HEADER_SIZE);
+        DoubleSha256 sha = DoubleSha256.get();
+        reader.hash(sha, start, start + HEADER_SIZE);
+        Hash256 hash = sha.finish();
+        int version = reader.readInt32();
+        Hash256 previousBlockHash = reader.readHash();
+        Hash256 merkleRoot = reader.readHash();
+        long timestamp = reader.readUInt32();
+        long bits = reader.readUInt32();
+        long nonce = reader.readUInt32();
+
+        int count = reader.readCount(MIN_TRANSACTION_SIZE);
+        int height = count > 0 ? coinbaseHeight(reader) : -1;
+        TransactionStatus status = new TransactionStatus(true, height, hash, timestamp);
+        List<RawTransaction> transactions = new ArrayList<>(count);
+        long weight = 0;
+        for (int i = 0; i < count; i++) {
+            RawTransaction transaction = readTransaction(reader, status);
+            weight += transaction.getWeight();
+            transactions.add(transaction);
+        }
+        int size = reader.position() - start;
+        int overhead = size - sumSizes(transactions);
+        weight += 4L * overhead;
+
+        Block block = new Block(null, hash, height, version, timestamp, bits, nonce, (long) difficulty(bits), 0,
+                merkleRoot, count, size, (int) weight, previousBlockHash);
+        buffer.position(reader.position());
+        return new RawBlock(block, Collections.unmodifiableList(transactions));
+    }
+
+    /**
+     * Computes the difficulty a compact target encodes, relative to the highest target 0x1d00ffff.
+     *
+     * @param bits The compact target from a block header.
+     * @return The difficulty.
+     */
+    public static double difficulty(long bits) {
+        int exponent = (int) (bits >>> 24) & 0xFF;
+        long mantissa = bits & 0x7FFFFF;
+        if (mantissa == 0) {
+            return 0;
+        }
+        return Math.scalb(0xFFFF / (double) mantissa, 8 * (0x1D - exponent));
+    }
+
+    private static RawTransaction readTransaction(WireReader reader, TransactionStatus status)
+            throws WireFormatException {
+        int start = reader.position();
+        int version = reader.readInt32();
+        boolean witness = reader.peekUInt8(0) == 0 && reader.peekUInt8(1) != 0;
+        if (witness) {
+            reader.skip(2);
+        }
+        int bodyStart = reader.position();
+
+        int inputCount = reader.readCount(MIN_INPUT_SIZE);
+        Hash256[] previousTxIds = new Hash256[inputCount];
+        long[] previousIndexes = new long[inputCount];
+        String[] scriptSigs = new String[inputCount];
+        long[] sequences = new long[inputCount];
+        for (int i = 0; i < inputCount; i++) {
+            previousTxIds[i] = reader.readHash();
+            previousIndexes[i] = reader.readUInt32();
+            scriptSigs[i] = reader.readHex(reader.readLength());
+            sequences[i] = reader.readUInt32();
+        }
+
+        int outputCount = reader.readCount(MIN_OUTPUT_SIZE);
+        List<Vout> vout = new ArrayList<>(outputCount);
+        for (int i = 0; i < outputCount; i++) {
+            long value = reader.readInt64();
+            int length = reader.readLength();
+            ScriptType type = ScriptType.classify(reader.buffer(), reader.position(), length);
+            vout.add(new Vout(reader.readHex(length), null, type.getType(), null, value));
+        }
+        int bodyEnd = reader.position();
+
+        List<Vin> vin = new ArrayList<>(inputCount);
+        for (int i = 0; i < inputCount; i++) {
+            List<String> stack = null;
+            if (witness) {
+                int items = reader.readCount(1);
+                if (items > 0) {
+                    stack = new ArrayList<>(items);
+                    for (int j = 0; j < items; j++) {
+                        stack.add(reader.readHex(reader.readLength()));
+                    }
+                }
+            }
+            boolean coinbase = previousIndexes[i] == COINBASE_INDEX && previousTxIds[i].equals(Hash256.ZERO);
+            vin.add(new Vin(previousTxIds[i], previousIndexes[i], null, scriptSigs[i], null, stack, coinbase,
+                    sequences[i], null, null));
+        }
+        int lockTime = reader.readInt32();
+        int end = reader.position();
+
+        DoubleSha256 sha = DoubleSha256.get();
+        Hash256 txId;
+        Hash256 wtxId;
+        int witnessSize;
+        if (witness) {
+            reader.hash(sha, start, start + 4);
+            reader.hash(sha, bodyStart, bodyEnd);
+            reader.hash(sha, end - 4, end);
+            txId = sha.finish();
+            sha = DoubleSha256.get();
+            reader.hash(sha, start, end);
+            wtxId = sha.finish();
+            witnessSize = (bodyStart - start - 4) + (end - 4 - bodyEnd);
+        } else {
+            reader.hash(sha, start, end);
+            txId = sha.finish();
+            wtxId = txId;
+            witnessSize = 0;
+        }
+        int size = end - start;
+        int weight = (size - witnessSize) * 3 + size;
+        Transaction transaction = new Transaction(txId, version, lockTime, vin, vout, size, weight, 0, status);
+        return new RawTransaction(transaction, wtxId, witness);
+    }
+
+    /**
+     * Reads the BIP34 height from the coinbase scriptSig without consuming anything.
+     */
+    private static int coinbaseHeight(WireReader reader) throws WireFormatException {
+        int start = reader.position();
+        try {
+            reader.skip(4);
+            if (reader.peekUInt8(0) == 0 && reader.peekUInt8(1) != 0) {
+                reader.skip(2);
+            }
+            if (reader.readVarInt() < 1) {
+                return -1;
+            }
+            reader.skip(Hash256.BYTES + 4);
+            int length = reader.readLength();
+            if (length == 0) {
+                return -1;
+            }
+            int opcode = reader.readUInt8();
+            if (opcode >= 0x51 && opcode <= 0x60) {
+                return opcode - 0x50;
+            }
+            if (opcode < 1 || opcode > 4 || opcode >= length) {
+                return -1;
+            }
+            int height = 0;
+            for (int i = 0; i < opcode; i++) {
+                height |= reader.readUInt8() << (8 * i);
+            }
+            return height;
+        } finally {
+            reader.position(start);
+        }
+    }
+
+    private static int sumSizes(List<RawTransaction> transactions) {
+        int size = 0;
+        for (RawTransaction transaction : transactions) {
+            size += transaction.getSize();
+        }
+        return size;
+    }
+
+    private static void requireFullyRead(ByteBuffer buffer) throws WireFormatException {
+        if (buffer.hasRemaining()) {
+            throw new WireFormatException(buffer.remaining() + " unexpected trailing bytes at offset "
+                    + buffer.position());
+        }
+    }
+}
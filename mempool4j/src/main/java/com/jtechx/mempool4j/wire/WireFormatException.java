@@ -0,0 +1,18 @@
+package com.jtechx.mempool4j.wire;
+
+import java.io.IOException;
+
+/**
+ * Thrown when bytes that should be a consensus-serialized block or transaction are truncated or malformed.
+ */
+public class WireFormatException extends IOException {
+
+    /**
+     * Creates an exception with the given detail message.
+     *
+     * @param message The detail message.
+     */
+    public WireFormatException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,209 @@
+package com.jtechx.mempool4j.wire;
+
+import com.jtechx.mempool4j.model.Hash256;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * A bounds-checked little-endian cursor over a {@link ByteBuffer}. It reads with absolute indexes from a private
+ * view, so the caller's buffer is never copied and its position only moves when the caller chooses to.
+ */
+final class WireReader {
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final ByteBuffer buffer;
+    private final ByteBuffer hashView;
+    private final int limit;
+    private int position;
+
+    WireReader(ByteBuffer source) {
+        this.buffer = source.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        this.hashView = source.duplicate();
+        this.limit = source.limit();
+        this.position = source.position();
+    }
+
+    int position() {
+        return position;
+    }
+
+    void position(int position) {
+        this.position = position;
+    }
+
+    int remaining() {
+        return limit - position;
+    }
+
+    void require(int length) throws WireFormatException {
+        if (length < 0 || limit - position < length) {
+            throw new WireFormatException("Unexpected end of data at offset " + position + ": needed " + length
+                    + " bytes but " + (limit - position) + " remain");
+        }
+    }
+
+    int peekUInt8(int ahead) throws WireFormatException {
+        if (limit - position <= ahead) {
+            throw new WireFormatException("Unexpected end of data at offset " + (position + ahead));
+        }
+        return buffer.get(position + ahead) & 0xFF;
+    }
+
+    int readUInt8() throws WireFormatException {
+        require(1);
+        return buffer.get(position++) & 0xFF;
+    }
+
+    int readInt32() throws WireFormatException {
+        require(4);
+        int value = buffer.getInt(position);
+        position += 4;
+        return value;
+    }
+
+    long readUInt32() throws WireFormatException {
+        return readInt32() & 0xFFFFFFFFL;
+    }
+
+    long readInt64() throws WireFormatException {
+        require(8);
+        long value = buffer.getLong(position);
+        position += 8;
+        return value;
+    }
+
+    /**
+     * Reads a CompactSize unsigned integer.
+     */
+    long readVarInt() throws WireFormatException {
+        int first = readUInt8();
+        if (first < 0xFD) {
+            return first;
+        }
+        if (first == 0xFD) {
+            require(2);
+            int value = buffer.getShort(position) & 0xFFFF;
+            position += 2;
+            return value;
+        }
+        if (first == 0xFE) {
+            return readUInt32();
+        }
+        return readInt64();
+    }
+
+    /**
+     * Reads an element count, rejecting counts that could not fit in the remaining bytes so a corrupt length cannot
+     * trigger a huge allocation.
+     *
+     * @param minElementSize The smallest possible encoding of one element.
+     */
+    int readCount(int minElementSize) throws WireFormatException {
+        int offset = position;
+        long count = readVarInt();
+        if (count < 0 || count > remaining() / minElementSize) {
+            throw new WireFormatException("Implausible count " + Long.toUnsignedString(count) + " at offset "
+                    + offset);
+        }
+        return (int) count;
+    }
+
+    /**
+     * Reads a length prefix and checks that that many bytes follow.
+     */
+    int readLength() throws WireFormatException {
+        int offset = position;
+        long length = readVarInt();
+        if (length < 0 || length > remaining()) {
+            throw new WireFormatException("Length " + Long.toUnsignedString(length) + " at offset " + offset
+                    + " exceeds the remaining " + remaining() + " bytes");
+        }
+        return (int) length;
+    }
+
+    /**
+     * Reads a 32-byte hash stored in wire order.
+     */
+    Hash256 readHash() throws WireFormatException {
+        require(Hash256.BYTES);
+        Hash256 hash = hashAt(buffer, position);
+        position += Hash256.BYTES;
+        return hash;
+    }
+
+    void skip(int length) throws WireFormatException {
+        require(length);
+        position += length;
+    }
+
+    String readHex(int length) throws WireFormatException {
+        require(length);
+        char[] chars = new char[length * 2];
+        for (int i = 0; i < length; i++) {
+            int b = buffer.get(position + i);
+            chars[2 * i] = HEX[(b >> 4) & 0xF];
+            chars[2 * i + 1] = HEX[b & 0xF];
+        }
+        position += length;
+        return new String(chars);
+    }
+
+    /**
+     * Feeds the bytes between two absolute offsets to a digest.
+     */
+    void hash(DoubleSha256 sha, int from, int to) {
+        hashView.limit(to).position(from);
+        sha.update(hashView);
+    }
+
+    /**
+     * Gets the little-endian view this reader reads from.
+     */
+    ByteBuffer buffer() {
+        return buffer;
+    }
+
+    /**
+     * Reads a wire-order hash at an absolute offset of a little-endian buffer. Wire order is display order reversed,
+     * so each little-endian word, taken from the end, is the next display-order word.
+     */
+    static Hash256 hashAt(ByteBuffer littleEndian, int offset) {
+        return Hash256.of(littleEndian.getLong(offset + 24), littleEndian.getLong(offset + 16),
+                littleEndian.getLong(offset + 8), littleEndian.getLong(offset));
+    }
+
+    /**
+     * Compares a wire-order hash at an absolute offset of a little-endian buffer with a {@link Hash256}, without
+     * allocating.
+     */
+    static boolean hashEquals(ByteBuffer littleEndian, int offset, Hash256 hash) {
+        return littleEndian.getLong(offset) == hash.getWord(3) && littleEndian.getLong(offset + 8) == hash.getWord(2)
+                && littleEndian.getLong(offset + 16) == hash.getWord(1)
+                && littleEndian.getLong(offset + 24) == hash.getWord(0);
+    }
+
+    /**
+     * Reads a CompactSize at an absolute offset that an earlier bounds-checked pass has already validated.
+     */
+    static long varIntAt(ByteBuffer littleEndian, int offset) {
+        int first = littleEndian.get(offset) & 0xFF;
+        if (first < 0xFD) {
+            return first;
+        }
+        if (first == 0xFD) {
+            return littleEndian.getShort(offset + 1) & 0xFFFF;
+        }
+        if (first == 0xFE) {
+            return littleEndian.getInt(offset + 1) & 0xFFFFFFFFL;
+        }
+        return littleEndian.getLong(offset + 1);
+    }
+
+    /**
+     * Gets the encoded size of the CompactSize at an absolute offset.
+     */
+    static int varIntSize(ByteBuffer littleEndian, int offset) {
+        int first = littleEndian.get(offset) & 0xFF;
+        return first < 0xFD ? 1 : first == 0xFD ? 3 : first == 0xFE ? 5 : 9;
+    }
+}